@@ -0,0 +1,70 @@
+package com.example.usedItem.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.usedItem.domain.Keyword;
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.KeywordResponseDto;
+import com.example.usedItem.dto.ScrapedItemResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용 (목록 API 한 페이지 분량 기준)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({ "1", "20", "100" })
+    private int rows;
+
+    private List<Keyword> keywords;
+    private List<ScrapedItem> items;
+
+    @Setup
+    public void setUp() {
+        keywords = new ArrayList<>(rows);
+        items = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            keywords.add(Keyword.builder()
+                    .keywordText("맥북 프로 " + i)
+                    .targetSiteCode("BUNJANG")
+                    .active(true)
+                    .minPrice(500_000)
+                    .maxPrice(1_500_000)
+                    .build());
+            items.add(ScrapedItem.builder()
+                    .sourceSiteCode("BUNJANG")
+                    .itemSourceId(Integer.toString(100_000 + i))
+                    .title("[급처] 맥북 프로 14 M3 " + i + " 풀박스 팝니다")
+                    .price(1_200_000 + i)
+                    .itemUrl("https://example.com/products/" + (100_000 + i))
+                    .imageUrl("https://img.example.com/products/" + (100_000 + i) + ".jpg")
+                    .location("서울특별시 강남구")
+                    .postedAtSource(LocalDateTime.of(2025, 1, 1, 10, 0).plusMinutes(i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<KeywordResponseDto> keywordFromEntity() {
+        return keywords.stream().map(KeywordResponseDto::fromEntity).toList();
+    }
+
+    @Benchmark
+    public List<ScrapedItemResponseDto> scrapedItemFromEntity() {
+        return items.stream().map(ScrapedItemResponseDto::fromEntity).toList();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.usedItem.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.usedItem.domain.Keyword;
+import com.example.usedItem.dto.CursorPageResponseDto;
+import com.example.usedItem.dto.KeysetCursor;
+import com.example.usedItem.dto.KeywordResponseDto;
+import com.example.usedItem.dto.ScrapedItemResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 API 응답 본문 JSON 직렬화 비용 (Spring MVC 와 같은 Jackson2ObjectMapperBuilder 기본 설정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private CursorPageResponseDto<ScrapedItemResponseDto> itemPage;
+    private List<KeywordResponseDto> keywords;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<ScrapedItemResponseDto> rows = new ArrayList<>(pageSize + 1);
+        for (int i = 0; i <= pageSize; i++) {
+            rows.add(new ScrapedItemResponseDto((long) (1_000_000 - i), "BUNJANG", Integer.toString(200_000 + i),
+                    "아이폰 15 프로 256GB 자급제 " + i + " 상태 좋아요", 1_050_000 + i * 1000,
+                    "https://example.com/products/" + (200_000 + i),
+                    "https://img.example.com/products/" + (200_000 + i) + ".jpg", "경기도 성남시 분당구",
+                    now.minusMinutes(i + 5L), now.minusMinutes(i), i % 3 == 0));
+        }
+        itemPage = CursorPageResponseDto.of(rows, pageSize,
+                item -> new KeysetCursor(item.getScrapedAt(), item.getItemId()));
+
+        keywords = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            keywords.add(KeywordResponseDto.fromEntity(Keyword.builder()
+                    .keywordText("갤럭시 S24 " + i)
+                    .targetSiteCode("JOONGGO")
+                    .active(i % 4 != 0)
+                    .maxPrice(900_000)
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    public byte[] scrapedItemPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(itemPage);
+    }
+
+    @Benchmark
+    public byte[] keywordList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(keywords);
+    }
+}
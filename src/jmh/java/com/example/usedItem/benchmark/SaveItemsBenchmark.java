@@ -0,0 +1,111 @@
+package com.example.usedItem.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.usedItem.UsedItemApplication;
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.service.ScrapedItemService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScrapedItemService.saveItemsIfNotExists 한 번(스크랩 한 페이지 저장)의 비용을 실제 PostgreSQL 에 대해 측정합니다.
+ * 중복 확인/INSERT 가 PostgreSQL 전용 SQL 이라 임베디드 DB 대신 환경 변수로 지정한 로컬 DB 를 사용합니다.
+ *
+ * BENCHMARK_DB_URL (기본 jdbc:postgresql://localhost:5432/used_item_bench), BENCHMARK_DB_USERNAME,
+ * BENCHMARK_DB_PASSWORD. 스키마는 ddl-auto=update 로 만들고, 실행마다 다른 itemSourceId 를 사용합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SaveItemsBenchmark {
+
+    private static final String SITE_CODE = "BENCH";
+
+    @Param({ "100", "1000" })
+    private int batchSize;
+
+    // 이미 저장된 상품이 다시 스크랩되는 비율 (같은 페이지를 여러 번 긁는 상황)
+    @Param({ "0.0", "0.5" })
+    private double duplicateRatio;
+
+    private ConfigurableApplicationContext context;
+    private ScrapedItemService scrapedItemService;
+    private String runId;
+    private long sequence;
+    private List<ScrapedItem> previousBatch = List.of();
+    private List<ScrapedItem> batch;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(UsedItemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + env("BENCHMARK_DB_URL",
+                                "jdbc:postgresql://localhost:5432/used_item_bench"),
+                        "spring.datasource.username=" + env("BENCHMARK_DB_USERNAME", "postgres"),
+                        "spring.datasource.password=" + env("BENCHMARK_DB_PASSWORD", "postgres"),
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "used-item.crawl.enabled=false")
+                .run();
+        scrapedItemService = context.getBean(ScrapedItemService.class);
+        runId = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        int duplicates = Math.min(previousBatch.size(), (int) (batchSize * duplicateRatio));
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < duplicates; i++) {
+            ScrapedItem seen = previousBatch.get(i);
+            batch.add(item(seen.getItemSourceId()));
+        }
+        while (batch.size() < batchSize) {
+            batch.add(item(runId + "-" + sequence++));
+        }
+        previousBatch = batch;
+    }
+
+    @Benchmark
+    public List<ScrapedItem> saveItemsIfNotExists() {
+        return scrapedItemService.saveItemsIfNotExists(batch);
+    }
+
+    private static ScrapedItem item(String sourceId) {
+        return ScrapedItem.builder()
+                .sourceSiteCode(SITE_CODE)
+                .itemSourceId(sourceId)
+                .title("벤치마크 상품 " + sourceId)
+                .price(10_000)
+                .itemUrl("https://bench.example.com/items/" + sourceId)
+                .location("서울")
+                .build();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
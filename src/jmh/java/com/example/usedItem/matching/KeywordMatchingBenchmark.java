@@ -0,0 +1,76 @@
+package com.example.usedItem.matching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 제목 하나를 한 사이트의 활성 키워드 전체와 매칭하는 비용.
+ * 키워드 수가 늘어도 제목 길이에만 비례하는지 확인하기 위해 키워드 수를 바꿔 가며 측정합니다.
+ * (CompiledSiteRules 가 패키지 전용이라 같은 패키지에 둠)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class KeywordMatchingBenchmark {
+
+    private static final String[] PRODUCTS = { "맥북", "아이폰", "갤럭시", "아이패드", "에어팟", "닌텐도 스위치", "플스5",
+            "다이슨", "캠핑 의자", "로드 자전거", "레고", "macbook", "iphone", "galaxy", "ipad", "airpods" };
+    private static final String[] MODIFIERS = { "프로", "에어", "미니", "울트라", "pro", "max", "14", "15", "16",
+            "m1", "m2", "m3", "s23", "s24", "256gb", "512gb", "미개봉", "풀박스", "정품", "새상품" };
+    private static final String[] NOISE = { "[급처]", "팝니다", "택포", "직거래", "상태 좋아요", "네고 가능", "서울",
+            "경기", "반값", "구성품 전부", "케이스 포함", "사용감 있음" };
+    private static final int TITLE_COUNT = 1024;
+
+    @Param({ "1000", "10000", "100000" })
+    private int keywordCount;
+
+    private CompiledSiteRules compiled;
+    private String[] titles;
+    private int[] prices;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<KeywordMatchRule> rules = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            // 인기 문구는 여러 사용자가 같이 등록하고, 나머지는 고유한 긴 꼬리 문구
+            String text = i % 3 == 0
+                    ? pick(random, PRODUCTS) + " " + pick(random, MODIFIERS)
+                    : pick(random, PRODUCTS) + " " + pick(random, MODIFIERS) + " " + Integer.toString(i, 36);
+            Integer maxPrice = random.nextInt(4) == 0 ? null : 100_000 + random.nextInt(2_000_000);
+            rules.add(new KeywordMatchRule((long) i, (long) random.nextInt(keywordCount / 2 + 1), "BUNJANG", text,
+                    null, maxPrice));
+        }
+        compiled = CompiledSiteRules.compile(rules);
+
+        titles = new String[TITLE_COUNT];
+        prices = new int[TITLE_COUNT];
+        for (int i = 0; i < TITLE_COUNT; i++) {
+            titles[i] = pick(random, NOISE) + " " + pick(random, PRODUCTS) + " " + pick(random, MODIFIERS) + " "
+                    + pick(random, MODIFIERS) + " " + pick(random, NOISE) + " " + pick(random, NOISE);
+            prices[i] = 50_000 + random.nextInt(2_000_000);
+        }
+    }
+
+    @Benchmark
+    public List<KeywordMatchRule> matchTitle() {
+        int index = next++ & (TITLE_COUNT - 1);
+        return compiled.match(titles[index], prices[index]);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.usedItem.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 요청 수 제한 판단 비용 (경로 매칭 + IP/사용자 버킷 CAS).
+ * 여러 스레드가 서로 다른 키와 같은 키를 섞어 쓰는 상황에서 clientCount 별 평균 시간을 잽니다.
+ * (RateLimitRules 가 패키지 전용이라 같은 패키지에 둠)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class RateLimitBenchmark {
+
+    private static final int PATH_COUNT = 4096;
+
+    // 서로 다른 클라이언트 수 (maxKeys 보다 크면 제거가 계속 일어남)
+    @Param({ "100", "100000" })
+    private int clientCount;
+
+    private RateLimitRules rules;
+    private String[] paths;
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Route keywords = new RateLimitProperties.Route();
+        keywords.setPattern("/api/users/{userId}/keywords/**");
+        keywords.setPerUser(limit());
+        keywords.setPerIp(limit());
+        RateLimitProperties.Route items = new RateLimitProperties.Route();
+        items.setPattern("/api/scraped-items/**");
+        items.setPerIp(limit());
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxKeys(10_000);
+        properties.setRoutes(List.of(keywords, items));
+        rules = new RateLimitRules(properties);
+
+        SplittableRandom random = new SplittableRandom(42);
+        paths = new String[PATH_COUNT];
+        clientIps = new String[PATH_COUNT];
+        for (int i = 0; i < PATH_COUNT; i++) {
+            int client = random.nextInt(clientCount);
+            paths[i] = i % 2 == 0 ? "/api/users/" + client + "/keywords" : "/api/scraped-items";
+            clientIps[i] = "10." + (client >> 16 & 0xff) + "." + (client >> 8 & 0xff) + "." + (client & 0xff);
+        }
+    }
+
+    @Benchmark
+    public long check(ThreadCursor cursor) {
+        int i = cursor.next++ & (PATH_COUNT - 1);
+        return rules.check(paths[i], clientIps[i], System.nanoTime());
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        int next;
+    }
+
+    // 판단 비용만 재도록 거절되지 않을 만큼 큰 한도
+    private static RateLimitProperties.Limit limit() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setRequestsPerSecond(1_000_000);
+        limit.setBurst(1_000_000_000);
+        return limit;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.usedItem.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.service.ScrapedItemService;
+import com.example.usedItem.text.TextNormalizer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 사용자/키워드/상품을 만듭니다. 실행마다 runId 를 붙여 이전 실행 데이터와 겹치지 않게 하고,
+ * 만든 사용자 ID 만 요청 대상으로 돌려줍니다.
+ *
+ * 사용자/키워드는 BCrypt 해싱과 키워드별 캐시 무효화를 피하려고 JDBC 배치로 바로 넣고,
+ * 상품은 정규화 제목/fingerprint/검색 색인이 실제와 같도록 ScrapedItemService 로 저장합니다.
+ */
+final class DataSeeder {
+
+    static final String[] SITE_CODES = { "BUNJANG", "JOONGGO", "DAANGN" };
+
+    private static final String[] BRANDS = { "아이폰", "갤럭시", "맥북", "아이패드", "에어팟", "닌텐도 스위치",
+            "플레이스테이션", "다이슨", "소니", "캐논" };
+    private static final String[] MODELS = { "15 프로", "S24", "에어 M2", "미니 6", "프로 2세대", "OLED", "5 디지털",
+            "V15", "WH-1000XM5", "EOS R6" };
+    private static final String[] DETAILS = { "풀박스", "미개봉", "S급", "256GB", "블랙", "화이트", "정품", "급처" };
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (email, password, nickname, user_role, status, created_at, updated_at)
+            VALUES (?, ?, ?, 'ROLE_USER', 'ACTIVE', ?, ?)
+            """;
+    private static final String INSERT_KEYWORD_SQL = """
+            INSERT INTO keywords (user_id, keyword_text, keyword_text_normalized, target_site_code, is_active,
+                                  min_price, max_price, created_at, updated_at)
+            VALUES (?, ?, ?, ?, true, NULL, ?, ?, ?)
+            """;
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScrapedItemService scrapedItemService;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    DataSeeder(JdbcTemplate jdbcTemplate, ScrapedItemService scrapedItemService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scrapedItemService = scrapedItemService;
+    }
+
+    /**
+     * @return 만든 사용자 ID 목록
+     */
+    List<Long> seed(String runId, LoadTestConfig config) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            String name = "lt-" + runId + "-" + i;
+            // 로그인하지 않으므로 해시가 아닌 고정 값
+            users.add(new Object[] { name + "@loadtest.example.com", "{noop}loadtest", name, now, now });
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, BATCH_SIZE, (ps, row) -> {
+            for (int p = 0; p < row.length; p++) {
+                ps.setObject(p + 1, row[p]);
+            }
+        });
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT user_id FROM users WHERE email LIKE ? ORDER BY user_id", Long.class,
+                "lt-" + runId + "-%");
+
+        List<Object[]> keywords = new ArrayList<>(userIds.size() * config.keywordsPerUser());
+        for (Long userId : userIds) {
+            for (int k = 0; k < config.keywordsPerUser(); k++) {
+                String text = BRANDS[random.nextInt(BRANDS.length)] + " " + MODELS[random.nextInt(MODELS.length)];
+                Integer maxPrice = random.nextBoolean() ? 100_000 * (1 + random.nextInt(20)) : null;
+                keywords.add(new Object[] { userId, text, TextNormalizer.normalize(text),
+                        SITE_CODES[k % SITE_CODES.length], maxPrice, now, now });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_KEYWORD_SQL, keywords, BATCH_SIZE, (ps, row) -> {
+            for (int p = 0; p < row.length; p++) {
+                ps.setObject(p + 1, row[p]);
+            }
+        });
+
+        List<ScrapedItem> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < config.items(); i++) {
+            batch.add(item(runId + "-" + i));
+            if (batch.size() == BATCH_SIZE) {
+                scrapedItemService.saveItemsIfNotExists(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            scrapedItemService.saveItemsIfNotExists(batch);
+        }
+        return userIds;
+    }
+
+    private ScrapedItem item(String sourceId) {
+        String title = BRANDS[random.nextInt(BRANDS.length)] + " " + MODELS[random.nextInt(MODELS.length)] + " "
+                + DETAILS[random.nextInt(DETAILS.length)];
+        return ScrapedItem.builder()
+                .sourceSiteCode(SITE_CODES[random.nextInt(SITE_CODES.length)])
+                .itemSourceId(sourceId)
+                .title(title)
+                .price(10_000 * (1 + random.nextInt(200)))
+                .itemUrl("https://loadtest.example.com/items/" + sourceId)
+                .imageUrl("https://img.loadtest.example.com/" + sourceId + ".jpg")
+                .location("서울")
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.usedItem.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. ./gradlew loadTest -Ploadtest.rate=500 처럼 loadtest.* 프로퍼티로 바꿀 수 있습니다.
+ * DB 접속 정보는 LOADTEST_DB_URL / LOADTEST_DB_USERNAME / LOADTEST_DB_PASSWORD 환경 변수로 지정합니다.
+ *
+ * @param users           시드 사용자 수
+ * @param keywordsPerUser 사용자당 시드 키워드 수
+ * @param items           시드 상품 수
+ * @param rate            초당 요청 수 (응답 속도와 무관하게 이 간격으로 요청을 보내는 open model)
+ * @param poisson         true 면 요청 간격을 지수 분포로, false 면 일정 간격으로
+ * @param warmup          측정에서 제외하는 초기 구간
+ * @param duration        측정 구간
+ * @param maxInFlight     동시에 응답을 기다리는 최대 요청 수 (넘으면 대기열에서 기다렸다 보내고 기다린 시간도 지연에 포함)
+ * @param mix             엔드포인트 이름별 요청 비율
+ * @param reportDir       결과 파일 디렉터리
+ */
+record LoadTestConfig(
+        String dbUrl,
+        String dbUsername,
+        String dbPassword,
+        int users,
+        int keywordsPerUser,
+        int items,
+        double rate,
+        boolean poisson,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        Map<String, Integer> mix,
+        Path reportDir) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                env("LOADTEST_DB_URL", "jdbc:postgresql://localhost:5432/used_item_loadtest"),
+                env("LOADTEST_DB_USERNAME", "postgres"),
+                env("LOADTEST_DB_PASSWORD", "postgres"),
+                Integer.parseInt(property("users", "1000")),
+                Integer.parseInt(property("keywords-per-user", "5")),
+                Integer.parseInt(property("items", "50000")),
+                Double.parseDouble(property("rate", "200")),
+                "poisson".equalsIgnoreCase(property("arrival", "poisson")),
+                Duration.parse(property("warmup", "PT30S")),
+                Duration.parse(property("duration", "PT2M")),
+                Integer.parseInt(property("max-in-flight", "2000")),
+                parseMix(property("mix", "user=2,keywords=3,items=5")),
+                Path.of(property("report-dir", "build/reports/loadtest")));
+    }
+
+    // "user=2,keywords=3,items=5" -> {user=2, keywords=3, items=5}
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식은 이름=비율,이름=비율 입니다: " + mix);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 비율이 0 보다 큰 엔드포인트가 없습니다: " + mix);
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
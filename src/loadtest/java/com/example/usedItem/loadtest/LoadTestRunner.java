@@ -0,0 +1,143 @@
+package com.example.usedItem.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.usedItem.UsedItemApplication;
+import com.example.usedItem.service.ScrapedItemService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 애플리케이션을 로컬 PostgreSQL 에 띄우고, 데이터를 시드한 뒤 조회 API 에 open model 부하를 줍니다.
+ * 실행: ./gradlew loadTest (-Ploadtest.rate=500 -Ploadtest.duration=PT5M ...)
+ *
+ * 엔드포인트별 p50/p99/p99.9/최대 지연과 처리량을 출력하고 (max-in-flight 로 기다린 시간은 지연에 포함,
+ * 끝까지 보내지 못한 요청은 dropped 로 따로 집계), report-dir 에 다음 파일을 남깁니다.
+ * - summary.txt: 출력한 표
+ * - {엔드포인트}.hgrm: HdrHistogram 백분위 분포 (ms, HdrHistogram plotter 로 릴리스 간 비교)
+ * - latency.hlog: 엔드포인트 태그가 붙은 HdrHistogram 로그 (HistogramLogAnalyzer 등으로 비교)
+ */
+public final class LoadTestRunner {
+
+    private static final String USERNAME = "loadtest";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        String password = UUID.randomUUID().toString();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UsedItemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + config.dbUrl(),
+                        "spring.datasource.username=" + config.dbUsername(),
+                        "spring.datasource.password=" + config.dbPassword(),
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "used-item.crawl.enabled=false",
+                        // 모든 요청이 한 IP 에서 나가므로 요청 수 제한은 끔
+                        "used-item.rate-limit.enabled=false",
+                        // 요청은 HTTP Basic 으로 인증 (PasswordEncoder 빈이 BCrypt 이므로 해시로 지정)
+                        // Basic 인증은 요청마다 해시를 검증하므로 최소 cost(4) 로 만들어 조회 API 대신
+                        // BCrypt 를 재는 일이 없게 함 (검증 cost 는 해시에 들어 있는 값을 따름)
+                        "spring.security.user.name=" + USERNAME,
+                        "spring.security.user.password=" + new BCryptPasswordEncoder(4).encode(password))
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            String runId = UUID.randomUUID().toString().substring(0, 8);
+            long seedStartedAt = System.nanoTime();
+            List<Long> userIds = new DataSeeder(context.getBean(JdbcTemplate.class),
+                    context.getBean(ScrapedItemService.class)).seed(runId, config);
+            System.out.printf("시드 완료: 사용자 %d명, 키워드 %d개, 상품 %d개, %ds%n", userIds.size(),
+                    userIds.size() * config.keywordsPerUser(), config.items(),
+                    (System.nanoTime() - seedStartedAt) / 1_000_000_000);
+
+            OpenModelDriver driver = new OpenModelDriver("http://localhost:" + port,
+                    "Basic " + Base64.getEncoder().encodeToString(
+                            (USERNAME + ":" + password).getBytes(StandardCharsets.UTF_8)),
+                    endpoints(config.mix(), userIds));
+            System.out.printf("부하 시작: %.0f req/s (%s), 워밍업 %s, 측정 %s%n", config.rate(),
+                    config.poisson() ? "poisson" : "constant", config.warmup(), config.duration());
+            List<OpenModelDriver.EndpointStats> stats = driver.run(config);
+            report(stats, config);
+        }
+    }
+
+    private static List<OpenModelDriver.Endpoint> endpoints(Map<String, Integer> mix, List<Long> userIds) {
+        Function<SplittableRandom, Long> anyUser = random -> userIds.get(random.nextInt(userIds.size()));
+        List<OpenModelDriver.Endpoint> endpoints = new ArrayList<>();
+        mix.forEach((name, weight) -> endpoints.add(switch (name) {
+            case "user" -> new OpenModelDriver.Endpoint(name, weight,
+                    random -> "/api/users/" + anyUser.apply(random));
+            case "users" -> new OpenModelDriver.Endpoint(name, weight,
+                    random -> "/api/users?size=20");
+            case "keywords" -> new OpenModelDriver.Endpoint(name, weight,
+                    random -> "/api/users/" + anyUser.apply(random) + "/keywords");
+            case "items" -> new OpenModelDriver.Endpoint(name, weight,
+                    random -> "/api/scraped-items?size=20&sourceSiteCode="
+                            + DataSeeder.SITE_CODES[random.nextInt(DataSeeder.SITE_CODES.length)]);
+            default -> throw new IllegalArgumentException(
+                    "알 수 없는 엔드포인트: " + name + " (user, users, keywords, items 중 하나)");
+        }));
+        return endpoints;
+    }
+
+    private static void report(List<OpenModelDriver.EndpointStats> stats, LoadTestConfig config)
+            throws IOException {
+        Files.createDirectories(config.reportDir());
+        double seconds = config.duration().toMillis() / 1000.0;
+        StringBuilder summary = new StringBuilder(String.format("%-10s %9s %7s %9s %9s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "delayed", "dropped", "req/s", "p50(ms)", "p99(ms)", "p999(ms)",
+                "max(ms)"));
+        try (PrintStream log = new PrintStream(Files.newOutputStream(config.reportDir().resolve("latency.hlog")),
+                false, StandardCharsets.UTF_8)) {
+            HistogramLogWriter logWriter = new HistogramLogWriter(log);
+            logWriter.outputLogFormatVersion();
+            logWriter.outputLegend();
+            for (OpenModelDriver.EndpointStats endpoint : stats) {
+                Histogram latency = endpoint.latency;
+                // requests/req/s 는 응답까지 받은 요청만 (dropped 는 히스토그램에 없음)
+                summary.append(String.format("%-10s %9d %7d %9d %9d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        endpoint.name, latency.getTotalCount(), endpoint.errors.sum(), endpoint.delayed.sum(),
+                        endpoint.dropped.sum(), latency.getTotalCount() / seconds, millis(latency, 50),
+                        millis(latency, 99), millis(latency, 99.9), latency.getMaxValue() / 1000.0));
+
+                try (PrintStream hgrm = new PrintStream(
+                        Files.newOutputStream(config.reportDir().resolve(endpoint.name + ".hgrm")), false,
+                        StandardCharsets.UTF_8)) {
+                    latency.outputPercentileDistribution(hgrm, 1000.0); // µs -> ms
+                }
+                latency.setTag(endpoint.name);
+                logWriter.outputIntervalHistogram(latency);
+            }
+        }
+        Files.writeString(config.reportDir().resolve("summary.txt"), summary);
+        System.out.print(summary);
+        System.out.println("결과 파일: " + config.reportDir().toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
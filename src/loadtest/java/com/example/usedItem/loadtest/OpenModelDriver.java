@@ -0,0 +1,203 @@
+package com.example.usedItem.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 정해진 도착률로 요청을 보내는 open model 부하 발생기입니다.
+ *
+ * 요청마다 "보냈어야 할 시각"을 미리 정하고 지연 시간을 그 시각부터 잽니다. 서버가 느려져 발송이 밀려도
+ * 밀린 시간이 지연에 포함되므로, 응답을 기다린 뒤 다음 요청을 보내는 closed model 과 달리
+ * coordinated omission 으로 꼬리 지연이 작게 측정되지 않습니다.
+ * 응답 대기 요청이 max-in-flight 에 닿으면 새 요청은 대기열에서 자리가 날 때까지 기다렸다가 보내고,
+ * 지연은 역시 보냈어야 할 시각부터 재므로 기다린 시간이 실제 측정값으로 백분위에 들어갑니다.
+ * 측정이 끝날 때까지 보내지 못한 요청은 지연에 넣지 않고 dropped 로 따로 셉니다.
+ */
+final class OpenModelDriver {
+
+    // 1µs ~ 1시간, 유효 숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * 부하를 줄 엔드포인트입니다.
+     *
+     * @param name   결과 이름 (loadtest.mix 의 키)
+     * @param weight 요청 비율
+     * @param path   요청마다 경로(쿼리 포함)를 만드는 함수
+     */
+    record Endpoint(String name, int weight, Function<SplittableRandom, String> path) {
+    }
+
+    /**
+     * 엔드포인트별 측정 결과입니다. 지연 시간은 마이크로초 단위입니다.
+     */
+    static final class EndpointStats {
+        final String name;
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        // max-in-flight 때문에 대기열에서 기다렸다 보낸 요청 수 (latency 에 기다린 시간 포함)
+        final LongAdder delayed = new LongAdder();
+        // 끝날 때까지 보내지 못한 요청 수 (latency 에 포함하지 않음)
+        final LongAdder dropped = new LongAdder();
+
+        EndpointStats(String name) {
+            this.name = name;
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String authorization;
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+
+    // 보냈어야 할 시각이 지났지만 max-in-flight 때문에 아직 보내지 못한 요청
+    private record Pending(String path, long scheduledAt, boolean measured, EndpointStats target) {
+    }
+
+    OpenModelDriver(String baseUrl, String authorization, List<Endpoint> endpoints) {
+        this.baseUrl = baseUrl;
+        this.authorization = authorization;
+        this.endpoints = List.copyOf(endpoints);
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        // 응답 처리는 기록만 하므로 작은 풀로 충분
+        ExecutorService responseExecutor = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .executor(responseExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * warmup 동안 같은 도착률로 요청을 보내되 기록하지 않고, 이어서 duration 동안 측정합니다.
+     *
+     * @return 엔드포인트별 결과 (측정 구간만)
+     */
+    List<EndpointStats> run(LoadTestConfig config) throws InterruptedException {
+        List<EndpointStats> stats = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            stats.add(new EndpointStats(endpoint.name()));
+        }
+        SplittableRandom random = new SplittableRandom(7);
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        Queue<Pending> backlog = new ConcurrentLinkedQueue<>();
+        AtomicBoolean closed = new AtomicBoolean();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+
+        long startedAt = System.nanoTime();
+        long measureFromEpochMillis = System.currentTimeMillis() + config.warmup().toMillis();
+        long measureFrom = startedAt + config.warmup().toNanos();
+        long endAt = measureFrom + config.duration().toNanos();
+        double intendedAt = startedAt;
+        while (intendedAt < endAt) {
+            long scheduledAt = (long) intendedAt;
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int index = pick(random);
+            String path = endpoints.get(index).path().apply(random);
+            // 자리가 없으면 대기열에 남아 응답이 돌아올 때 보내짐
+            backlog.add(new Pending(path, scheduledAt, scheduledAt >= measureFrom, stats.get(index)));
+            drain(backlog, inFlight, closed, false);
+            intendedAt += config.poisson()
+                    ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos
+                    : meanIntervalNanos;
+        }
+        // 대기열과 응답 대기 요청이 모두 끝나기를 기다림 (요청 타임아웃이 있으므로 보통 그 안에 끝남)
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while ((!backlog.isEmpty() || inFlight.availablePermits() < config.maxInFlight())
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        closed.set(true);
+        for (Pending pending; (pending = backlog.poll()) != null; ) {
+            if (pending.measured()) {
+                pending.target().dropped.increment();
+            }
+        }
+        long endEpochMillis = System.currentTimeMillis();
+        for (EndpointStats endpoint : stats) {
+            // 히스토그램 로그의 구간 시각
+            endpoint.latency.setStartTimeStamp(measureFromEpochMillis);
+            endpoint.latency.setEndTimeStamp(endEpochMillis);
+        }
+        return stats;
+    }
+
+    // 자리가 있는 만큼 대기열 앞에서부터 보냄. 발생 스레드(추가 후)와 응답 스레드(반납 후)가 모두 호출하므로
+    // 추가와 반납이 엇갈려도 대기열에 남은 요청이 빈자리와 함께 방치되지 않음
+    private void drain(Queue<Pending> backlog, Semaphore inFlight, AtomicBoolean closed, boolean afterResponse) {
+        while (!closed.get() && !backlog.isEmpty() && inFlight.tryAcquire()) {
+            Pending next = backlog.poll();
+            if (next == null) {
+                inFlight.release();
+                return;
+            }
+            if (afterResponse && next.measured()) {
+                // 응답이 자리를 비워 줄 때까지 대기열에 있던 요청
+                next.target().delayed.increment();
+            }
+            send(next, backlog, inFlight, closed);
+        }
+    }
+
+    private void send(Pending pending, Queue<Pending> backlog, Semaphore inFlight, AtomicBoolean closed) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + pending.path()))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    // 대기열에서 기다린 시간까지 포함해 보냈어야 할 시각부터 잼
+                    long latencyMicros = (System.nanoTime() - pending.scheduledAt()) / 1_000;
+                    inFlight.release();
+                    drain(backlog, inFlight, closed, true);
+                    if (!pending.measured()) {
+                        return;
+                    }
+                    if (error != null || response.statusCode() >= 400) {
+                        pending.target().errors.increment();
+                    }
+                    pending.target().latency.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                });
+    }
+
+    private int pick(SplittableRandom random) {
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < endpoints.size(); i++) {
+            point -= endpoints.get(i).weight();
+            if (point < 0) {
+                return i;
+            }
+        }
+        return endpoints.size() - 1;
+    }
+}
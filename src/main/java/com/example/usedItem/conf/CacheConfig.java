@@ -0,0 +1,42 @@
+package com.example.usedItem.conf;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 사용자/키워드 조회용 프로세스 내 캐시 설정입니다.
+ *
+ * 캐시별로 최대 건수와 만료 시간을 Caffeine spec 으로 지정하고(recordStats 로 적중률/제거 수 집계),
+ * 트랜잭션 안에서의 put/evict 는 커밋된 뒤에 반영되도록 TransactionAwareCacheManagerProxy 로 감쌉니다.
+ * 롤백된 변경 때문에 캐시가 비워지거나, 커밋 전 값이 다른 요청에 보이는 일이 없습니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 사용자 ID -> UserResponseDto
+    public static final String USERS = "users";
+    // 사용자 ID -> List<KeywordResponseDto>
+    public static final String USER_KEYWORDS = "userKeywords";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${used-item.cache.users.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String usersSpec,
+            @Value("${used-item.cache.user-keywords.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}")
+            String userKeywordsSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록한 캐시만 사용 (이름 오타로 제한 없는 캐시가 생기지 않도록), 기동 시 캐시 메트릭에도 바로 등록됨
+        cacheManager.registerCustomCache(USERS, Caffeine.from(usersSpec).build());
+        cacheManager.registerCustomCache(USER_KEYWORDS, Caffeine.from(userKeywordsSpec).build());
+        cacheManager.setCacheNames(List.of());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
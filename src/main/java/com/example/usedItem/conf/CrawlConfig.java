@@ -0,0 +1,11 @@
+package com.example.usedItem.conf;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.usedItem.crawl.CrawlProperties;
+
+@Configuration
+@EnableConfigurationProperties(CrawlProperties.class) // used-item.crawl.* 설정 바인딩
+public class CrawlConfig {
+}
@@ -0,0 +1,29 @@
+package com.example.usedItem.conf;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.example.usedItem.ratelimit.RateLimitFilter;
+import com.example.usedItem.ratelimit.RateLimitProperties;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class) // used-item.rate-limit.* 설정 바인딩
+public class RateLimitConfig {
+
+    // 인증 등 다른 필터보다 먼저 실행해 거절할 요청에 비용을 쓰지 않음
+    @Bean
+    @ConditionalOnProperty(prefix = "used-item.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
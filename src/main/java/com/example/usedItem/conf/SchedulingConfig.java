@@ -0,0 +1,9 @@
+package com.example.usedItem.conf;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // @Scheduled 작업 활성화 (중복 확인 필터 재구성 등)
+public class SchedulingConfig {
+}
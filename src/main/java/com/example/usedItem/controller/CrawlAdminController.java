@@ -0,0 +1,27 @@
+package com.example.usedItem.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.usedItem.dto.CrawlTierSummaryDto;
+import com.example.usedItem.service.CrawlAdminService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/crawl")
+@RequiredArgsConstructor
+public class CrawlAdminController {
+
+    private final CrawlAdminService crawlAdminService;
+
+    // 검색어 묶음의 크롤링 주기 구간(HOT/WARM/COLD/NEW) 분포
+    @GetMapping("/tiers")
+    public ResponseEntity<List<CrawlTierSummaryDto>> getTierSummary() {
+        // TODO: 관리자만 조회 가능하도록 권한 체크 필요 (Spring Security)
+        return ResponseEntity.ok(crawlAdminService.getTierSummary());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.usedItem.controller;
 
 import jakarta.validation.Valid; // javax -> jakarta
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,7 +11,10 @@ import com.example.usedItem.dto.KeywordRequestDto;
 import com.example.usedItem.dto.KeywordResponseDto;
 import com.example.usedItem.service.KeywordService;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/users/{userId}/keywords") // 사용자별 키워드 관리를 위한 경로
@@ -30,10 +34,14 @@ public class KeywordController {
     }
 
     // 특정 사용자의 키워드 목록 조회
+    // If-None-Match 가 ETag 와 같으면 본문 없이 304 (목록은 사용자별 캐시에서 오므로 DB 조회와 JSON 직렬화를 모두 생략)
     @GetMapping
     public ResponseEntity<List<KeywordResponseDto>> getUserKeywords(@PathVariable Long userId) {
         List<KeywordResponseDto> keywords = keywordService.getKeywordsByUser(userId);
-        return ResponseEntity.ok(keywords); // 조회 성공 시 200 OK
+        return ResponseEntity.ok() // 조회 성공 시 200 OK
+                .cacheControl(CacheControl.noCache().cachePrivate()) // 매번 ETag 로 재검증
+                .eTag(eTagOf(keywords))
+                .body(keywords);
     }
 
     // 특정 키워드 수정
@@ -55,4 +63,14 @@ public class KeywordController {
         // 삭제 성공 시 204 No Content 상태 코드 (본문 없음)
         return ResponseEntity.noContent().build();
     }
+
+    // 키워드 추가/수정은 updatedAt 최댓값을, 삭제는 개수를 바꾸므로 둘로 목록 버전을 나타냄 (약한 ETag)
+    private static String eTagOf(List<KeywordResponseDto> keywords) {
+        LocalDateTime lastUpdatedAt = keywords.stream()
+                .map(KeywordResponseDto::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return "W/\"" + keywords.size() + "-" + lastUpdatedAt + "\"";
+    }
 }
\ No newline at end of file
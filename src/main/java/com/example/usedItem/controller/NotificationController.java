@@ -0,0 +1,68 @@
+package com.example.usedItem.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.usedItem.dto.CursorPageResponseDto;
+import com.example.usedItem.dto.NotificationReadRequestDto;
+import com.example.usedItem.dto.NotificationResponseDto;
+import com.example.usedItem.service.NotificationService;
+import com.example.usedItem.stream.NotificationStreamHub;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/users/{userId}/notifications") // 사용자별 알림함
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final NotificationStreamHub notificationStreamHub;
+
+    // 알림함 조회 (최신순, 커서 기반 페이징)
+    // 예: GET /api/users/1/notifications?unreadOnly=true&size=20&cursor={이전 응답의 nextCursor}
+    @GetMapping
+    public ResponseEntity<CursorPageResponseDto<NotificationResponseDto>> getNotifications(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponseDto.DEFAULT_SIZE) int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        // TODO: 본인만 조회 가능하도록 권한 체크 필요 (Spring Security)
+        return ResponseEntity.ok(notificationService.getInbox(userId, cursor, size, unreadOnly));
+    }
+
+    // 새 매칭 알림 실시간 수신 (Server-Sent Events)
+    // event: match {"itemId":..,"keywordId":..} / event: dropped {버린 이벤트 수, 받으면 알림함 API 로 다시 조회}
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@PathVariable Long userId) {
+        // TODO: 본인만 구독 가능하도록 권한 체크 필요 (Spring Security)
+        return notificationStreamHub.connect(userId);
+    }
+
+    // 읽지 않은 알림 수 (앱 배지용)
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@PathVariable Long userId) {
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(userId)));
+    }
+
+    // 선택한 알림 읽음 처리
+    // 예: POST /api/users/1/notifications/read {"notificationIds": [10, 11, 12]}
+    @PostMapping("/read")
+    public ResponseEntity<Map<String, Integer>> markAsRead(
+            @PathVariable Long userId,
+            @Valid @RequestBody NotificationReadRequestDto requestDto) {
+        int updated = notificationService.markAsRead(userId, requestDto.getNotificationIds());
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+    // 모든 알림 읽음 처리
+    @PostMapping("/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllAsRead(@PathVariable Long userId) {
+        int updated = notificationService.markAsRead(userId, null);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+}
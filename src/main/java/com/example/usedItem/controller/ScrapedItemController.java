@@ -1,39 +1,180 @@
 package com.example.usedItem.controller;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.usedItem.dto.CursorPageResponseDto;
+import com.example.usedItem.dto.ScrapedItemIngestResponseDto;
 import com.example.usedItem.dto.ScrapedItemResponseDto;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+import com.example.usedItem.service.ScrapedItemExportService;
+import com.example.usedItem.service.ScrapedItemIngestService;
 import com.example.usedItem.service.ScrapedItemService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/scraped-items") // 기본 경로
-@RequiredArgsConstructor
 public class ScrapedItemController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    // 브라우저/앱 캐시에 두되 매번 ETag 로 재검증
+    private static final CacheControl ITEM_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final String EXPORT_TIMEOUT_KEY = ScrapedItemController.class.getName() + ".exportTimeout";
+
     private final ScrapedItemService scrapedItemService;
+    private final ScrapedItemExportService scrapedItemExportService;
+    private final ScrapedItemIngestService scrapedItemIngestService;
+    // 내보내기 응답에만 적용하는 비동기 처리 허용 시간 (전역 spring.mvc.async.request-timeout 은 짧게 유지)
+    private final CallableProcessingInterceptor exportTimeout;
+
+    public ScrapedItemController(ScrapedItemService scrapedItemService,
+            ScrapedItemExportService scrapedItemExportService,
+            ScrapedItemIngestService scrapedItemIngestService,
+            @Value("${used-item.export.timeout:PT1H}") Duration exportTimeout) {
+        this.scrapedItemService = scrapedItemService;
+        this.scrapedItemExportService = scrapedItemExportService;
+        this.scrapedItemIngestService = scrapedItemIngestService;
+        long timeoutMillis = exportTimeout.toMillis();
+        this.exportTimeout = new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // StreamingResponseBody 는 시간 지정 없는 WebAsyncTask 로 감싸지므로 비동기 시작 직전에 바꿈
+                if (request instanceof AsyncWebRequest asyncWebRequest) {
+                    asyncWebRequest.setTimeout(timeoutMillis);
+                }
+            }
+        };
+    }
 
-    // 모든 스크랩된 상품 조회 (페이징 필요!)
+    // 스크랩된 상품 목록 조회 (최신순, 커서 기반 페이징)
+    // 예: GET /api/scraped-items?sourceSiteCode=BUNJANG&minPrice=10000&size=20&cursor={이전 응답의 nextCursor}
     @GetMapping
-    public ResponseEntity<List<ScrapedItemResponseDto>> getAllScrapedItems() {
+    public ResponseEntity<CursorPageResponseDto<ScrapedItemResponseDto>> getScrapedItems(
+            @ModelAttribute ScrapedItemSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponseDto.DEFAULT_SIZE) int size) {
         // TODO: 관리자 권한 확인 필요
-        // TODO: 페이징 처리 필수 (예: Pageable 파라미터 사용)
-        List<ScrapedItemResponseDto> items = scrapedItemService.getAllItems();
+        CursorPageResponseDto<ScrapedItemResponseDto> items = scrapedItemService.getItems(condition, cursor, size);
         return ResponseEntity.ok(items);
     }
 
+    // 상품 제목 검색 (검색어의 모든 단어 포함, 최신순), fuzzy=true 면 글자 n-gram 유사 검색
+    // 예: GET /api/scraped-items/search?q=아이폰 15&scrapedFrom=2025-01-01T00:00:00&maxPrice=1000000&size=20
+    // 예: GET /api/scraped-items/search?q=아이폰15프로&fuzzy=true
+    @GetMapping("/search")
+    public ResponseEntity<List<ScrapedItemResponseDto>> searchScrapedItems(
+            @RequestParam("q") String query,
+            @ModelAttribute ScrapedItemSearchCondition condition,
+            @RequestParam(defaultValue = "" + CursorPageResponseDto.DEFAULT_SIZE) int size,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+        return ResponseEntity.ok(scrapedItemService.searchByTitle(query, condition, size, fuzzy));
+    }
+
+    // 스크랩 상품 대량 내보내기 (분석용, NDJSON 스트리밍)
+    // 예: GET /api/scraped-items/export?sourceSiteCode=BUNJANG&scrapedFrom=2025-01-01T00:00:00&gzip=true
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportScrapedItems(
+            @ModelAttribute ScrapedItemSearchCondition condition,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest request) {
+        // TODO: 관리자 권한 확인 필요
+        // 이 요청의 비동기 처리에만 등록 -> 다른 비동기 응답은 전역 허용 시간을 그대로 씀
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_KEY, exportTimeout);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024)) {
+                    scrapedItemExportService.exportNdjson(condition, gzipOut);
+                }
+            } else {
+                scrapedItemExportService.exportNdjson(condition, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // 외부 스크래퍼 결과 대량 적재 (NDJSON, Content-Encoding: gzip 지원)
+    // 예: curl -X POST -H 'Content-Type: application/x-ndjson' -H 'Content-Encoding: gzip' \
+    //         --data-binary @items.ndjson.gz /api/scraped-items/ingest
+    @PostMapping(path = "/ingest", consumes = "application/x-ndjson")
+    public ResponseEntity<ScrapedItemIngestResponseDto> ingestScrapedItems(
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        // TODO: 스크래퍼 인증 필요
+        try (InputStream in = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(body, 64 * 1024)
+                : body) {
+            return ResponseEntity.ok(scrapedItemIngestService.ingestNdjson(in));
+        }
+    }
+
     // ID로 특정 스크랩된 상품 조회
+    // 상품은 저장 후 내용이 바뀌지 않고 알림 완료 여부만 false -> true 로 한 번 바뀌므로 (ID, 알림 완료 여부)가 ETag
     @GetMapping("/{itemId}")
-    public ResponseEntity<ScrapedItemResponseDto> getScrapedItemById(@PathVariable Long itemId) {
+    public ResponseEntity<ScrapedItemResponseDto> getScrapedItemById(
+            @PathVariable Long itemId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // TODO: 관리자 권한 확인 필요
+        // 알림 완료 상태는 더 바뀌지 않으므로 그 ETag 를 가진 요청은 조회 없이 304
+        String notifiedETag = itemETag(itemId, true);
+        if (matchesETag(ifNoneMatch, notifiedETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(ITEM_CACHE_CONTROL)
+                    .eTag(notifiedETag)
+                    .build();
+        }
+        // 그 외에는 DTO 를 조회하고, If-None-Match 가 같으면 직렬화 없이 304 (ResponseEntity 의 ETag 로 처리됨)
         ScrapedItemResponseDto itemDto = scrapedItemService.getItemById(itemId);
-        return ResponseEntity.ok(itemDto);
+        return ResponseEntity.ok()
+                .cacheControl(ITEM_CACHE_CONTROL)
+                .eTag(itemETag(itemId, itemDto.isNotified()))
+                .body(itemDto);
     }
 
     // 참고: 상품 생성(POST), 수정(PUT/PATCH), 삭제(DELETE) API는
     // 일반적으로 이 컨트롤러에서 제공하지 않습니다. 스크래핑 서비스나
     // 내부 관리 로직에서 ScrapedItemService를 직접 호출하여 처리합니다.
+
+    private static String itemETag(Long itemId, boolean notified) {
+        return "W/\"" + itemId + (notified ? "-n" : "") + "\"";
+    }
+
+    // If-None-Match 의 태그 중 하나가 같은지 약한 비교 (W/ 접두사 무시)
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = eTag.substring(2);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
\ No newline at end of file
@@ -5,13 +5,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.example.usedItem.dto.CursorPageResponseDto;
 import com.example.usedItem.dto.UserResponseDto;
 import com.example.usedItem.dto.UserSignUpRequestDto;
 import com.example.usedItem.service.UserService;
 
-import java.util.List;
 import java.util.Map; // for check result
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/users")
@@ -20,11 +24,35 @@ public class UserController {
 
     private final UserService userService;
 
-    // 회원 가입
+    // 회원 가입 (비밀번호 해싱 동안 요청 스레드를 반환하는 비동기 응답)
     @PostMapping("/signup")
-    public ResponseEntity<UserResponseDto> signUp(@Valid @RequestBody UserSignUpRequestDto requestDto) {
-        UserResponseDto responseDto = userService.signUp(requestDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
+    public CompletableFuture<ResponseEntity<UserResponseDto>> signUp(
+            @Valid @RequestBody UserSignUpRequestDto requestDto) {
+        try {
+            return userService.signUp(requestDto)
+                    .exceptionally(error -> {
+                        // 저장 시점에 발견된 중복(동시 가입)도 사전 확인과 같은 응답으로
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        if (cause instanceof IllegalArgumentException duplicate) {
+                            throw duplicateSignUp(duplicate);
+                        }
+                        throw error instanceof CompletionException completion
+                                ? completion
+                                : new CompletionException(error);
+                    })
+                    .thenApply(responseDto -> ResponseEntity.status(HttpStatus.CREATED).body(responseDto));
+        } catch (IllegalArgumentException e) {
+            throw duplicateSignUp(e);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "가입 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    // 이메일/닉네임 중복: 어느 쪽이 중복인지 메시지를 그대로 전달
+    private static ResponseStatusException duplicateSignUp(IllegalArgumentException e) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
     }
 
     // 이메일 중복 확인
@@ -57,11 +85,13 @@ public class UserController {
         return ResponseEntity.ok(userDto);
     }
 
-    // 모든 사용자 조회 (관리자용)
+    // 사용자 목록 조회 (관리자용, 가입일 최신순 커서 기반 페이징)
     @GetMapping
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
+    public ResponseEntity<CursorPageResponseDto<UserResponseDto>> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponseDto.DEFAULT_SIZE) int size) {
         // TODO: 관리자 권한 체크 필요 (Spring Security)
-        List<UserResponseDto> users = userService.getAllUsers();
+        CursorPageResponseDto<UserResponseDto> users = userService.getUsers(cursor, size);
         return ResponseEntity.ok(users);
     }
 
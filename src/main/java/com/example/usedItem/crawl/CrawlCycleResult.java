@@ -0,0 +1,26 @@
+package com.example.usedItem.crawl;
+
+/**
+ * 크롤링 한 주기의 처리 결과입니다.
+ *
+ * @param dueQueries      보낸 검색 요청 수 (정규화 검색어 기준으로 묶은 수)
+ * @param dueKeywords     확인 대상이었던 키워드 수
+ * @param checkedKeywords 검색/저장까지 성공해 확인 시각을 기록한 키워드 수
+ * @param savedItems      새로 저장된 상품 수
+ */
+public record CrawlCycleResult(int dueQueries, int dueKeywords, int checkedKeywords, int savedItems) {
+
+    static final CrawlCycleResult EMPTY = new CrawlCycleResult(0, 0, 0, 0);
+
+    CrawlCycleResult plus(CrawlCycleResult other) {
+        return new CrawlCycleResult(dueQueries + other.dueQueries, dueKeywords + other.dueKeywords,
+                checkedKeywords + other.checkedKeywords, savedItems + other.savedItems);
+    }
+
+    /**
+     * 검색 요청 하나가 대신한 키워드 수 (키워드마다 검색했다면 1)
+     */
+    double coalescingRatio() {
+        return dueQueries == 0 ? 0 : (double) dueKeywords / dueQueries;
+    }
+}
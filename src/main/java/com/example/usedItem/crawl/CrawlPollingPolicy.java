@@ -0,0 +1,94 @@
+package com.example.usedItem.crawl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 검색어별 새 상품 등록 속도로 다음 확인 간격을 정합니다.
+ *
+ * 확인할 때마다 새로 저장된 상품 수를 직전 확인 이후 경과 시간으로 나눠 시간당 속도로 바꾸고, EWMA 로 누적합니다.
+ * (간격이 검색어마다 다르므로 확인당 개수 대신 시간당 속도로 비교합니다.)
+ * 다음 간격은 한 번 확인할 때 새 상품이 targetNewItemsPerCheck 개 정도 쌓이도록 잡되 최소~최대 간격으로 제한합니다.
+ * 새 상품이 자주 올라오는 검색어는 최소 간격으로 자주, 거의 없는 검색어는 최대 간격으로 드물게 확인합니다.
+ */
+public class CrawlPollingPolicy {
+
+    private static final double MILLIS_PER_HOUR = Duration.ofHours(1).toMillis();
+
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final double targetNewItemsPerCheck;
+    private final double smoothing;
+    // 이 속도 이상이면 최소 간격(HOT), 이하이면 최대 간격(COLD)
+    private final double hotRate;
+    private final double coldRate;
+
+    public CrawlPollingPolicy(CrawlProperties properties) {
+        this.minInterval = properties.getMinCheckInterval();
+        this.maxInterval = properties.getMaxCheckInterval().compareTo(minInterval) < 0
+                ? minInterval : properties.getMaxCheckInterval();
+        this.targetNewItemsPerCheck = properties.getTargetNewItemsPerCheck();
+        this.smoothing = Math.min(1, Math.max(0, properties.getRateSmoothing()));
+        this.hotRate = targetNewItemsPerCheck / hours(minInterval);
+        this.coldRate = targetNewItemsPerCheck / hours(maxInterval);
+    }
+
+    /**
+     * 이번 확인 결과로 시간당 새 상품 수 EWMA 를 갱신합니다.
+     * 처음 확인한 결과는 그동안 쌓인 상품 전체라 속도로 볼 수 없으므로 반영하지 않습니다.
+     *
+     * @param previousRate  직전 EWMA (없으면 null)
+     * @param newItems      이번 확인에서 새로 저장된 상품 수
+     * @param lastCheckedAt 직전 확인 시각 (없으면 null)
+     * @param checkedAt     이번 확인 시각
+     * @return 갱신한 EWMA (아직 모르면 null)
+     */
+    public Double nextRate(Double previousRate, int newItems, LocalDateTime lastCheckedAt, LocalDateTime checkedAt) {
+        if (lastCheckedAt == null) {
+            return previousRate;
+        }
+        // 주기가 아주 짧았던 경우 한두 개로 속도가 튀지 않도록 최소 간격을 경과 시간의 하한으로
+        Duration elapsed = Duration.between(lastCheckedAt, checkedAt);
+        double observed = newItems / hours(elapsed.compareTo(minInterval) < 0 ? minInterval : elapsed);
+        return previousRate == null ? observed : smoothing * observed + (1 - smoothing) * previousRate;
+    }
+
+    /**
+     * 다음 확인까지의 간격입니다. 속도를 아직 모르면 빨리 표본을 얻도록 최소 간격입니다.
+     */
+    public Duration nextInterval(Double rate) {
+        if (rate == null || rate >= hotRate) {
+            return minInterval;
+        }
+        if (rate <= coldRate) {
+            return maxInterval;
+        }
+        return Duration.ofMillis((long) (targetNewItemsPerCheck / rate * MILLIS_PER_HOUR));
+    }
+
+    /**
+     * 검색에 실패한 검색어를 다시 확인할 때까지의 간격입니다. 최소 간격에서 시작해 연속 실패마다 두 배로 늘리고
+     * 최대 간격을 넘지 않습니다. (사이트 장애 중에 매 주기 같은 요청을 반복하지 않도록)
+     *
+     * @param consecutiveFailures 이번 실패를 포함한 연속 실패 횟수 (1 이상)
+     */
+    public Duration retryInterval(int consecutiveFailures) {
+        int doublings = Math.min(Math.max(0, consecutiveFailures - 1), 30);
+        Duration interval = minInterval.multipliedBy(1L << doublings);
+        return interval.compareTo(maxInterval) > 0 ? maxInterval : interval;
+    }
+
+    public CrawlTier tier(Double rate) {
+        if (rate == null) {
+            return CrawlTier.NEW;
+        }
+        if (rate >= hotRate) {
+            return CrawlTier.HOT;
+        }
+        return rate <= coldRate ? CrawlTier.COLD : CrawlTier.WARM;
+    }
+
+    private static double hours(Duration duration) {
+        return Math.max(1, duration.toMillis()) / MILLIS_PER_HOUR;
+    }
+}
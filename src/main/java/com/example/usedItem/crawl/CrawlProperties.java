@@ -0,0 +1,58 @@
+package com.example.usedItem.crawl;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사이트별 크롤링 설정입니다. (used-item.crawl.*)
+ * 테스트에서는 sites.{사이트코드}.base-url 을 로컬 스텁 HTTP 서버로 지정하면 됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "used-item.crawl")
+public class CrawlProperties {
+
+    private boolean enabled = false;
+
+    // 검색어별 확인 간격의 범위: 새 상품이 자주 올라오는 검색어는 최소 간격, 거의 없는 검색어는 최대 간격
+    private Duration minCheckInterval = Duration.ofMinutes(1);
+    private Duration maxCheckInterval = Duration.ofHours(1);
+
+    // 한 번 확인할 때 쌓여 있기를 기대하는 새 상품 수 (작을수록 자주 확인해 알림이 빨라지고 요청이 늘어남)
+    private double targetNewItemsPerCheck = 1.0;
+
+    // 새 상품 등록 속도 EWMA 의 최신 확인 결과 가중치 (0~1, 클수록 최근 변화에 빠르게 반응)
+    private double rateSmoothing = 0.3;
+
+    // 한 주기에 사이트별로 보낼 최대 검색 요청 수 (같은 검색어의 키워드 묶음 단위)
+    private int batchSizePerSite = 1000;
+
+    // 검색 결과 저장/알림 생성을 처리할 스레드 수 (DB 커넥션 풀보다 작게)
+    private int processingThreads = 8;
+
+    private Map<String, Site> sites = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Site {
+
+        // 예: https://api.example.com
+        private String baseUrl;
+
+        // {query} 자리에 URL 인코딩된 검색어가 들어감. 예: /search.json?q={query}
+        private String searchPath = "/search?q={query}";
+
+        // 사이트별 동시 요청 수 상한
+        private int maxConcurrency = 4;
+
+        // 사이트별 초당 요청 수 상한
+        private double requestsPerSecond = 5;
+
+        private Duration requestTimeout = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.usedItem.crawl;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색을 마친 묶음의 다음 크롤링 일정입니다. 묶음의 모든 활성 키워드에 그대로 기록합니다.
+ *
+ * @param query       묶음 기준 검색어 ({@link CrawlTarget#query()})
+ * @param newItemRate 갱신한 시간당 새 상품 수 EWMA (아직 모르면 null)
+ * @param nextCheckAt 다음 확인 예정 시각
+ */
+public record CrawlSchedule(String query, Double newItemRate, LocalDateTime nextCheckAt) {
+}
@@ -0,0 +1,271 @@
+package com.example.usedItem.crawl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.repository.KeywordRepository;
+import com.example.usedItem.service.NotificationService;
+import com.example.usedItem.service.ScrapedItemService;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keyword.nextCheckAt 기준으로 확인할 때가 된 키워드를 사이트별로 골라 검색하고,
+ * 결과를 ScrapedItemService.saveItemsIfNotExists 로 저장한 뒤 알림을 생성합니다.
+ *
+ * 같은 사이트에 같은 검색어(정규화 기준)를 등록한 키워드는 {@link CrawlTarget} 하나로 묶어 한 번만 검색하고,
+ * 결과는 알림 생성 시 매칭 엔진이 구독자별 가격 조건에 맞춰 나눕니다. 묶음 비율은
+ * useditem.crawl.keywords / useditem.crawl.requests (사이트별) 와 useditem.crawl.coalescing.ratio (직전 주기) 로 확인합니다.
+ *
+ * 검색어마다 새 상품 등록 속도를 기록해 다음 확인 시각을 {@link CrawlPollingPolicy} 로 정하므로,
+ * 새 상품이 자주 올라오는 검색어는 자주, 거의 없는 검색어는 드물게 확인합니다.
+ * 검색에 실패한 검색어는 연속 실패 횟수에 따라 최소 간격부터 두 배씩 늘린 간격 뒤에 다시 확인합니다.
+ * 검색은 됐지만 결과 저장(DB)에 실패한 검색어는 사이트 문제가 아니므로 간격을 늘리지 않고 최소 간격 뒤에 다시 확인합니다.
+ *
+ * 검색 요청은 비동기 HttpClient 로 보내 응답 대기 중 스레드를 점유하지 않고,
+ * 사이트별 동시 요청 수와 초당 요청 수는 {@link SiteThrottle} 로 제한합니다.
+ */
+@Slf4j
+@Component
+public class CrawlScheduler {
+
+    private final CrawlProperties properties;
+    private final CrawlPollingPolicy pollingPolicy;
+    private final KeywordRepository keywordRepository;
+    private final ScrapedItemService scrapedItemService;
+    private final NotificationService notificationService;
+
+    private final Map<String, SiteSearchClient> clients = new HashMap<>();
+    private final Map<String, SiteThrottle> throttles = new HashMap<>();
+    private final Map<String, Counter> dueKeywordCounters = new HashMap<>();
+    private final Map<String, Counter> requestCounters = new HashMap<>();
+    private volatile double lastCoalescingRatio;
+    // (사이트, 검색어)별 연속 검색 실패 횟수 -> 재시도 간격. 성공하거나 검색어가 사라지면 지움
+    private final Map<FailureKey, Backoff> consecutiveFailures = new ConcurrentHashMap<>();
+    // 사이트별 요청 발송 루프 (사이트당 스레드 1개, 제한에 걸리면 이 스레드만 대기)
+    private final ExecutorService dispatchExecutor;
+    // 검색 결과 저장/알림 생성 (JDBC 호출이 블로킹이므로 커넥션 풀 크기에 맞춘 고정 풀)
+    private final ExecutorService processingExecutor;
+
+    public CrawlScheduler(CrawlProperties properties, KeywordRepository keywordRepository,
+            ScrapedItemService scrapedItemService, NotificationService notificationService,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pollingPolicy = new CrawlPollingPolicy(properties);
+        this.keywordRepository = keywordRepository;
+        this.scrapedItemService = scrapedItemService;
+        this.notificationService = notificationService;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        properties.getSites().forEach((siteCode, site) -> {
+            clients.put(siteCode, new JsonSiteSearchClient(siteCode, site, httpClient, objectMapper));
+            throttles.put(siteCode, new SiteThrottle(site.getMaxConcurrency(), site.getRequestsPerSecond()));
+            dueKeywordCounters.put(siteCode, Counter.builder("useditem.crawl.keywords")
+                    .description("확인할 때가 되어 검색 대상에 포함된 키워드 수")
+                    .tag("site", siteCode)
+                    .register(meterRegistry));
+            requestCounters.put(siteCode, Counter.builder("useditem.crawl.requests")
+                    .description("보낸 검색 요청 수 (같은 검색어의 키워드는 한 번만 검색)")
+                    .tag("site", siteCode)
+                    .register(meterRegistry));
+        });
+        Gauge.builder("useditem.crawl.coalescing.ratio", this, scheduler -> scheduler.lastCoalescingRatio)
+                .description("직전 주기에 검색 요청 하나가 대신한 키워드 수")
+                .register(meterRegistry);
+        this.dispatchExecutor = Executors.newFixedThreadPool(Math.max(1, clients.size()),
+                namedThreads("crawl-dispatch"));
+        this.processingExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getProcessingThreads()),
+                namedThreads("crawl-process"));
+    }
+
+    @Scheduled(fixedDelayString = "${used-item.crawl.tick-interval:PT10S}")
+    public void scheduledCycle() {
+        if (properties.isEnabled()) {
+            runCycle();
+        }
+    }
+
+    /**
+     * 모든 사이트에 대해 한 주기를 실행하고 끝날 때까지 기다립니다.
+     */
+    public CrawlCycleResult runCycle() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        List<CompletableFuture<CrawlCycleResult>> sites = new ArrayList<>();
+        for (String siteCode : clients.keySet()) {
+            sites.add(CompletableFuture.supplyAsync(() -> crawlSite(siteCode, now), dispatchExecutor)
+                    .exceptionally(e -> {
+                        log.error("크롤링 주기 실패: site={}", siteCode, e);
+                        return CrawlCycleResult.EMPTY;
+                    }));
+        }
+        CrawlCycleResult result = sites.stream()
+                .map(CompletableFuture::join)
+                .reduce(CrawlCycleResult.EMPTY, CrawlCycleResult::plus);
+        if (result.dueQueries() > 0) {
+            lastCoalescingRatio = result.coalescingRatio();
+            log.info("크롤링 주기 완료: 검색 {}건 (대상 키워드 {}개, {}배), 확인 {}개, 새 상품 {}개, {}ms",
+                    result.dueQueries(), result.dueKeywords(), String.format("%.1f", result.coalescingRatio()),
+                    result.checkedKeywords(), result.savedItems(), (System.nanoTime() - startedAt) / 1_000_000);
+        }
+        return result;
+    }
+
+    private CrawlCycleResult crawlSite(String siteCode, LocalDateTime now) {
+        List<CrawlTarget> targets = keywordRepository.findDueCrawlTargets(siteCode, now,
+                PageRequest.of(0, properties.getBatchSizePerSite()));
+        pruneFailures(siteCode, targets, now);
+        if (targets.isEmpty()) {
+            return CrawlCycleResult.EMPTY;
+        }
+        SiteSearchClient client = clients.get(siteCode);
+        SiteThrottle throttle = throttles.get(siteCode);
+        int dueKeywords = targets.stream().mapToInt(target -> target.subscriberCount().intValue()).sum();
+        dueKeywordCounters.get(siteCode).increment(dueKeywords);
+        Queue<CrawlSchedule> schedules = new ConcurrentLinkedQueue<>();
+        Queue<CrawlSchedule> retries = new ConcurrentLinkedQueue<>();
+        AtomicInteger savedItems = new AtomicInteger();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(targets.size());
+
+        for (CrawlTarget target : targets) {
+            try {
+                throttle.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            requestCounters.get(siteCode).increment();
+            CompletableFuture<List<ScrapedItem>> search;
+            try {
+                search = client.search(target.keywordText());
+            } catch (RuntimeException e) {
+                // 요청을 만들다 바로 실패한 경우(잘못된 URL 등)도 허가를 돌려주고 실패한 검색과 같이 처리
+                search = CompletableFuture.failedFuture(e);
+            }
+            inFlight.add(search
+                    .whenComplete((items, error) -> throttle.release())
+                    .handleAsync((items, searchError) -> {
+                        FailureKey failureKey = new FailureKey(siteCode, target.query());
+                        if (searchError != null) {
+                            Backoff backoff = consecutiveFailures.compute(failureKey,
+                                    (key, previous) -> nextBackoff(previous, now));
+                            log.warn("키워드 검색 실패 ({}회 연속, {} 후 재시도): site={}, query={}, {}",
+                                    backoff.failures(), Duration.between(now, backoff.retryAt()), siteCode,
+                                    target.keywordText(), searchError.getMessage());
+                            retries.add(new CrawlSchedule(target.query(), target.newItemRate(), backoff.retryAt()));
+                            return null;
+                        }
+                        consecutiveFailures.remove(failureKey);
+                        int saved;
+                        try {
+                            saved = saveAndNotify(items);
+                        } catch (RuntimeException e) {
+                            // 사이트는 응답했으므로 실패 횟수를 늘리지 않고, 확인하지 못한 것으로 두어 최소 간격 뒤 다시 검색
+                            Duration retryAfter = pollingPolicy.retryInterval(1);
+                            log.error("검색 결과 저장 실패 ({} 후 재시도): site={}, query={}", retryAfter, siteCode,
+                                    target.keywordText(), e);
+                            retries.add(new CrawlSchedule(target.query(), target.newItemRate(), now.plus(retryAfter)));
+                            return null;
+                        }
+                        schedules.add(nextSchedule(target, saved, now));
+                        savedItems.addAndGet(saved);
+                        return null;
+                    }, processingExecutor));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+
+        int checkedKeywords = 0;
+        if (!schedules.isEmpty()) {
+            // 묶음의 모든 구독 키워드가 이번 검색 결과로 확인된 것으로 기록
+            checkedKeywords = keywordRepository.updateCrawlSchedules(siteCode, List.copyOf(schedules), now);
+        }
+        if (!retries.isEmpty()) {
+            keywordRepository.postponeCrawlSchedules(siteCode, List.copyOf(retries));
+        }
+        return new CrawlCycleResult(targets.size(), dueKeywords, checkedKeywords, savedItems.get());
+    }
+
+    private Backoff nextBackoff(Backoff previous, LocalDateTime now) {
+        int failures = previous == null ? 1 : previous.failures() + 1;
+        return new Backoff(failures, now.plus(pollingPolicy.retryInterval(failures)));
+    }
+
+    // 다시 확인할 때가 지났는데 이번 대상에 없는 검색어는 삭제됐거나 다시 예약된 것이므로 실패 횟수를 지움
+    // 한 번에 가져오는 수(batchSizePerSite)를 다 채운 경우에는 뒤로 밀린 것일 수 있으므로 지우지 않음
+    private void pruneFailures(String siteCode, List<CrawlTarget> targets, LocalDateTime now) {
+        if (targets.size() >= properties.getBatchSizePerSite()) {
+            return;
+        }
+        Set<String> dueQueries = new HashSet<>();
+        targets.forEach(target -> dueQueries.add(target.query()));
+        consecutiveFailures.entrySet().removeIf(entry -> entry.getKey().siteCode().equals(siteCode)
+                && !entry.getValue().retryAt().isAfter(now)
+                && !dueQueries.contains(entry.getKey().query()));
+    }
+
+    // 실패 횟수를 기억하고 있는 (사이트, 검색어) 수 (테스트용)
+    int trackedFailures() {
+        return consecutiveFailures.size();
+    }
+
+    private CrawlSchedule nextSchedule(CrawlTarget target, int newItems, LocalDateTime checkedAt) {
+        Double rate = pollingPolicy.nextRate(target.newItemRate(), newItems, target.lastCheckedAt(), checkedAt);
+        return new CrawlSchedule(target.query(), rate, checkedAt.plus(pollingPolicy.nextInterval(rate)));
+    }
+
+    private int saveAndNotify(List<ScrapedItem> items) {
+        List<ScrapedItem> saved = scrapedItemService.saveItemsIfNotExists(items);
+        if (!saved.isEmpty()) {
+            notificationService.createNotificationsForItems(saved);
+        }
+        return saved.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+        processingExecutor.shutdownNow();
+    }
+
+    private record FailureKey(String siteCode, String query) {
+    }
+
+    private record Backoff(int failures, LocalDateTime retryAt) {
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.usedItem.crawl;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번의 검색 요청 대상입니다. 같은 사이트에서 정규화 검색어가 같은 활성 키워드를 하나로 묶은 것으로,
+ * 구독자가 몇 명이든 주기마다 한 번만 검색하고 결과는 매칭 엔진이 구독자별 가격 조건으로 나눠 알림을 만듭니다.
+ *
+ * @param targetSiteCode  검색할 사이트 코드
+ * @param query           묶음 기준 검색어 (keyword_text_normalized, 값이 없던 행은 keyword_text)
+ * @param keywordText     실제로 보낼 검색어 (묶음 안의 원문 중 하나)
+ * @param subscriberCount 묶음 안의 활성 키워드 수
+ * @param lastCheckedAt   묶음의 마지막 확인 시각 (한 번도 확인하지 않았으면 null)
+ * @param newItemRate     묶음의 시간당 새 상품 수 EWMA (아직 모르면 null)
+ */
+public record CrawlTarget(String targetSiteCode, String query, String keywordText, Long subscriberCount,
+        LocalDateTime lastCheckedAt, Double newItemRate) {
+}
@@ -0,0 +1,11 @@
+package com.example.usedItem.crawl;
+
+/**
+ * 검색어의 새 상품 등록 속도에 따른 크롤링 주기 구간입니다. ({@link CrawlPollingPolicy#tier})
+ */
+public enum CrawlTier {
+    NEW,  // 아직 속도를 모름 (처음 확인 전이거나 한 번만 확인함)
+    HOT,  // 최소 간격으로 확인
+    WARM, // 최소~최대 간격 사이
+    COLD  // 최대 간격으로 확인
+}
@@ -0,0 +1,92 @@
+package com.example.usedItem.crawl;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.example.usedItem.domain.ScrapedItem;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 검색 결과를 JSON 배열로 돌려주는 사이트용 클라이언트입니다.
+ * 응답 형식: [{"id": "...", "title": "...", "price": 10000, "url": "...", "imageUrl": "...",
+ * "location": "...", "postedAt": "2025-01-01T10:00:00", "sellerId": "..."}, ...]
+ */
+public class JsonSiteSearchClient implements SiteSearchClient {
+
+    private static final TypeReference<List<SearchResultItem>> RESULT_TYPE = new TypeReference<>() {
+    };
+
+    private final String siteCode;
+    private final CrawlProperties.Site site;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    public JsonSiteSearchClient(String siteCode, CrawlProperties.Site site, HttpClient httpClient,
+            ObjectMapper objectMapper) {
+        this.siteCode = siteCode;
+        this.site = site;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String siteCode() {
+        return siteCode;
+    }
+
+    @Override
+    public CompletableFuture<List<ScrapedItem>> search(String keywordText) {
+        String query = URLEncoder.encode(keywordText, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(site.getBaseUrl() + site.getSearchPath()
+                .replace("{query}", query)))
+                .timeout(site.getRequestTimeout())
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("검색 요청 실패: site=" + siteCode + ", status="
+                                + response.statusCode());
+                    }
+                    return parse(response.body());
+                });
+    }
+
+    private List<ScrapedItem> parse(byte[] body) {
+        try {
+            return objectMapper.readValue(body, RESULT_TYPE).stream()
+                    .map(result -> ScrapedItem.builder()
+                            .sourceSiteCode(siteCode)
+                            .itemSourceId(result.id())
+                            .title(result.title())
+                            .price(result.price())
+                            .itemUrl(result.url())
+                            .imageUrl(result.imageUrl())
+                            .location(result.location())
+                            .postedAtSource(result.postedAt())
+                            .sellerId(result.sellerId())
+                            .build())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 결과 파싱 실패: site=" + siteCode, e);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record SearchResultItem(String id, String title, Integer price, String url, String imageUrl,
+            String location, LocalDateTime postedAt, String sellerId) {
+    }
+}
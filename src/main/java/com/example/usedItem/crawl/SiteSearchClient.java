@@ -0,0 +1,22 @@
+package com.example.usedItem.crawl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.example.usedItem.domain.ScrapedItem;
+
+/**
+ * 한 사이트의 검색 결과를 가져오는 클라이언트입니다.
+ */
+public interface SiteSearchClient {
+
+    String siteCode();
+
+    /**
+     * 검색어로 사이트를 검색합니다. 요청은 비동기로 수행되어 대기 중에 스레드를 점유하지 않습니다.
+     *
+     * @param keywordText 검색어
+     * @return 검색된 상품 목록 (저장 전 엔티티)
+     */
+    CompletableFuture<List<ScrapedItem>> search(String keywordText);
+}
@@ -0,0 +1,53 @@
+package com.example.usedItem.crawl;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사이트별 동시 요청 수와 초당 요청 수를 제한합니다.
+ * 요청 시작 시각을 일정 간격으로 예약하므로 짧은 순간에 요청이 몰리지 않습니다.
+ */
+final class SiteThrottle {
+
+    private final Semaphore concurrency;
+    private final long intervalNanos;
+    private final AtomicLong nextStartNanos = new AtomicLong(System.nanoTime());
+
+    SiteThrottle(int maxConcurrency, double requestsPerSecond) {
+        this.concurrency = new Semaphore(Math.max(1, maxConcurrency));
+        this.intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+    }
+
+    /**
+     * 동시 요청 수 여유가 생기고 예약된 시작 시각이 될 때까지 기다립니다.
+     * 요청이 끝나면 반드시 {@link #release()} 를 호출해야 합니다.
+     */
+    void acquire() throws InterruptedException {
+        concurrency.acquire();
+        long delayNanos = reserveStartDelayNanos();
+        if (delayNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                concurrency.release();
+                throw e;
+            }
+        }
+    }
+
+    void release() {
+        concurrency.release();
+    }
+
+    private long reserveStartDelayNanos() {
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextStartNanos.get();
+            long start = Math.max(now, next);
+            if (nextStartNanos.compareAndSet(next, start + intervalNanos)) {
+                return start - now;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.usedItem.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom 필터입니다.
+ * mightContain 이 false 이면 한 번도 put 되지 않은 키임이 확실하고, true 이면 오탐일 수 있습니다.
+ * 비트 배열은 AtomicLongArray 로 관리하므로 여러 스크래퍼 스레드가 락 없이 동시에 put/mightContain 할 수 있습니다.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final int MAX_HASH_FUNCTIONS = 16;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    private BloomFilter(long bitCount, int hashFunctions) {
+        int wordCount = (int) ((bitCount + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 크기를 정하되, maxBytes 를 넘지 않도록 비트 수를 제한합니다.
+     * 메모리 상한에 걸리면 실제 오탐률은 목표보다 높아질 수 있습니다.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate, long maxBytes) {
+        if (expectedInsertions <= 0) {
+            expectedInsertions = 1;
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long optimalBits = optimalBits(expectedInsertions, falsePositiveRate);
+        long maxBits = Math.min(Math.max(64, Math.min(maxBytes, Long.MAX_VALUE >>> 3) << 3),
+                (long) Integer.MAX_VALUE << 6);
+        long bits = Math.max(64, Math.min(optimalBits, maxBits));
+        int k = (int) Math.round((double) bits / expectedInsertions * LN2);
+        return new BloomFilter(bits, Math.max(1, Math.min(k, MAX_HASH_FUNCTIONS)));
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률을 메모리 상한 없이 맞추는 데 필요한 바이트 수입니다.
+     */
+    public static long optimalSizeInBytes(long expectedInsertions, double falsePositiveRate) {
+        return ((optimalBits(Math.max(1, expectedInsertions), falsePositiveRate) + 63) >>> 6) << 3;
+    }
+
+    private static long optimalBits(long expectedInsertions, double falsePositiveRate) {
+        return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+    }
+
+    public void put(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            setBit(bit);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long sizeInBytes() {
+        return bitCount >>> 3;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current = words.get(index);
+        while ((current & mask) == 0) {
+            if (words.compareAndSet(index, current, current | mask)) {
+                return;
+            }
+            current = words.get(index);
+        }
+    }
+
+    // UTF-8 바이트 기준 64비트 해시 (seed 만 바꿔 독립적인 두 해시를 얻고 double hashing 으로 k개 위치를 만듦)
+    private static long hash(String key, long seed) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h = seed ^ (bytes.length * 0xFF51AFD7ED558CCDL);
+        for (byte b : bytes) {
+            h ^= (b & 0xFF);
+            h *= 0x100000001B3L;
+            h = Long.rotateLeft(h, 31);
+        }
+        return mix64(h);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.usedItem.dedup;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.event.ScrapedItemsSavedEvent;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매자가 상품을 지우고 새 상품 ID 로 다시 올린 경우(재등록)를 SimHash 로 찾습니다.
+ *
+ * 최근 window 기간에 저장된 상품의 fingerprint 를 메모리에 두고, 64비트를 max-distance + 1 개 구간(band)으로
+ * 나눠 구간 값별 해시 테이블에 넣습니다. 해밍 거리가 max-distance 이하인 두 값은 비둘기집 원리로 적어도 한 구간이
+ * 완전히 같으므로, 새 상품과 구간 하나라도 같은 후보만 거리를 계산합니다. (전체 상품과 비교하지 않음)
+ *
+ * 같은 사이트, 같은 판매자의 후보 중 거리가 가장 가까운 상품을 원래 상품으로 보고, 재등록 상품은 알림을 만들지 않습니다.
+ * 다른 판매자가 같은 모델을 비슷한 가격에 올린 상품은 별개의 매물이므로 재등록으로 보지 않고,
+ * 판매자를 모르는 상품(seller_id 없음)은 비교하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RelistDetector {
+
+    private static final String SELECT_RECENT_SQL = """
+            SELECT item_id, source_site_code, seller_id, fingerprint, scraped_at
+              FROM scraped_items
+             WHERE scraped_at >= ?
+               AND fingerprint IS NOT NULL
+               AND seller_id IS NOT NULL
+             ORDER BY item_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int maxDistance;
+    private final Duration window;
+    private final int maxEntries;
+    private final int fetchSize;
+
+    private final int[] bandShifts;
+    private final long[] bandMasks;
+    private final Map<Long, ArrayDeque<Entry>>[] bands;
+    // 추가 순서 (오래된 항목부터 제거)
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+
+    private final Counter relistCounter;
+
+    @SuppressWarnings("unchecked")
+    public RelistDetector(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${used-item.relist.enabled:true}") boolean enabled,
+            @Value("${used-item.relist.max-distance:3}") int maxDistance,
+            @Value("${used-item.relist.window:P14D}") Duration window,
+            @Value("${used-item.relist.max-entries:2000000}") int maxEntries,
+            @Value("${used-item.relist.warmup-fetch-size:10000}") int fetchSize) {
+        if (maxDistance < 0 || maxDistance > 15) {
+            throw new IllegalArgumentException("used-item.relist.max-distance 는 0 ~ 15 사이여야 합니다: " + maxDistance);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxDistance = maxDistance;
+        this.window = window;
+        this.maxEntries = maxEntries;
+        this.fetchSize = fetchSize;
+
+        // 64비트를 bandCount 개 구간으로 최대한 고르게 나눔
+        int bandCount = maxDistance + 1;
+        this.bandShifts = new int[bandCount];
+        this.bandMasks = new long[bandCount];
+        this.bands = new Map[bandCount];
+        int shift = 0;
+        for (int b = 0; b < bandCount; b++) {
+            int width = 64 / bandCount + (b < 64 % bandCount ? 1 : 0);
+            bandShifts[b] = shift;
+            bandMasks[b] = width == 64 ? -1L : (1L << width) - 1;
+            bands[b] = new HashMap<>();
+            shift += width;
+        }
+
+        this.relistCounter = Counter.builder("useditem.scrape.relists")
+                .description("최근 상품의 재등록으로 판단되어 알림을 생략한 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("useditem.relist.index.entries", this, RelistDetector::entryCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장 전 상품들 중 최근 상품의 재등록으로 보이는 상품에 원래 상품 ID 를 표시합니다.
+     *
+     * @return 재등록으로 표시한 상품 수
+     */
+    public int markRelists(List<ScrapedItem> items) {
+        if (!enabled || items.isEmpty()) {
+            return 0;
+        }
+        int relists = 0;
+        synchronized (this) {
+            evictExpired();
+            for (ScrapedItem item : items) {
+                if (item.getFingerprint() == null || item.getSellerId() == null) {
+                    continue;
+                }
+                Entry original = findNearest(item.getSourceSiteCode(), item.getSellerId(), item.getFingerprint());
+                if (original != null) {
+                    item.markAsRelistOf(original.itemId());
+                    relists++;
+                }
+            }
+        }
+        if (relists > 0) {
+            relistCounter.increment(relists);
+        }
+        return relists;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsSaved(ScrapedItemsSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            for (ScrapedItem item : event.items()) {
+                if (item.getFingerprint() != null && item.getSellerId() != null) {
+                    add(item.getId(), item.getSourceSiteCode(), item.getSellerId(), item.getFingerprint(),
+                            item.getScrapedAt());
+                }
+            }
+        }
+    }
+
+    /**
+     * 기동 후 최근 window 기간의 상품을 DB 에서 읽어 채웁니다. 그 전에 저장된 상품은 재등록 비교 대상에서 빠집니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Timestamp from = Timestamp.valueOf(LocalDateTime.now().minus(window));
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_RECENT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                ps.setTimestamp(1, from);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, rs -> {
+                synchronized (this) {
+                    add(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4),
+                            rs.getTimestamp(5).toLocalDateTime());
+                }
+            }));
+            log.info("재등록 감지 색인 적재 완료: {}건, {}ms", entryCount(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.error("재등록 감지 색인 적재 실패. 이후 저장되는 상품만 비교합니다.", e);
+        }
+    }
+
+    private Entry findNearest(String siteCode, String sellerId, long fingerprint) {
+        Entry nearest = null;
+        int nearestDistance = maxDistance + 1;
+        for (int b = 0; b < bands.length; b++) {
+            ArrayDeque<Entry> bucket = bands[b].get(bandKey(b, fingerprint));
+            if (bucket == null) {
+                continue;
+            }
+            for (Entry candidate : bucket) {
+                int distance = SimHash.distance(fingerprint, candidate.fingerprint());
+                // 거리가 같으면 더 최근 상품 (bucket 은 오래된 순)
+                if (distance <= nearestDistance && distance <= maxDistance
+                        && candidate.siteCode().equals(siteCode) && candidate.sellerId().equals(sellerId)) {
+                    nearest = candidate;
+                    nearestDistance = distance;
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private void add(long itemId, String siteCode, String sellerId, long fingerprint, LocalDateTime scrapedAt) {
+        Entry entry = new Entry(itemId, siteCode, sellerId, fingerprint, scrapedAt.toEpochSecond(ZoneOffset.UTC));
+        entries.addLast(entry);
+        for (int b = 0; b < bands.length; b++) {
+            bands[b].computeIfAbsent(bandKey(b, fingerprint), key -> new ArrayDeque<>(2)).addLast(entry);
+        }
+        while (entries.size() > maxEntries) {
+            removeOldest();
+        }
+    }
+
+    private void evictExpired() {
+        long cutoff = LocalDateTime.now().minus(window).toEpochSecond(ZoneOffset.UTC);
+        while (!entries.isEmpty() && entries.peekFirst().scrapedAt() < cutoff) {
+            removeOldest();
+        }
+    }
+
+    // 모든 구간 버킷도 추가 순서를 유지하므로 가장 오래된 항목은 각 버킷의 맨 앞에 있음
+    private void removeOldest() {
+        Entry oldest = entries.pollFirst();
+        for (int b = 0; b < bands.length; b++) {
+            long key = bandKey(b, oldest.fingerprint());
+            ArrayDeque<Entry> bucket = bands[b].get(key);
+            bucket.pollFirst();
+            if (bucket.isEmpty()) {
+                bands[b].remove(key);
+            }
+        }
+    }
+
+    private long bandKey(int band, long fingerprint) {
+        return (fingerprint >>> bandShifts[band]) & bandMasks[band];
+    }
+
+    private synchronized double entryCount() {
+        return entries.size();
+    }
+
+    private record Entry(long itemId, String siteCode, String sellerId, long fingerprint, long scrapedAt) {
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.usedItem.dedup;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usedItem.domain.ScrapedItem;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ScrapedItemRepository 의 중복 확인 쿼리 앞단에 두는 사이트별 "이미 본 상품" 필터입니다.
+ *
+ * 사이트마다 상품ID 필터와 URL 필터를 하나씩 두고, 둘 다 확실히 없다고 답하면(definite miss) DB 확인을 생략합니다.
+ * 필터가 있다고 답한 상품(possible hit)만 기존처럼 DB 에서 정확히 확인합니다.
+ * 필터가 놓친 상품이 있더라도 최종 저장은 INSERT ... ON CONFLICT DO NOTHING 이므로 중복 행이 생기지 않습니다.
+ *
+ * 필터 크기는 사이트당 예상 상품 수와 목표 오탐률로 정합니다. max-memory-mb 를 지정했는데 그 예산으로 max-sites 개
+ * 사이트의 목표 오탐률을 맞출 수 없으면 기동에 실패합니다. (지정하지 않으면 필요한 만큼 사용)
+ */
+@Slf4j
+@Component
+public class ScrapedItemSeenFilter {
+
+    private static final String SELECT_ALL_KEYS_SQL =
+            "SELECT source_site_code, item_source_id, item_url FROM scraped_items";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long expectedItemsPerSite;
+    private final double falsePositiveRate;
+    private final long maxMemoryBytes;
+    private final int maxSites;
+    private final int fetchSize;
+
+    private final Counter definiteMissCounter;
+    private final Counter possibleHitCounter;
+    private final Counter falsePositiveCounter;
+
+    // null 이면 아직 워밍업 전 -> 모든 상품을 DB 로 확인
+    private volatile Generation current;
+    // 재구성 중인 세대. 재구성 도중 저장된 상품도 빠지지 않도록 record 시 함께 반영
+    private volatile Generation building;
+
+    public ScrapedItemSeenFilter(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${used-item.dedup-filter.enabled:true}") boolean enabled,
+            @Value("${used-item.dedup-filter.expected-items-per-site:5000000}") long expectedItemsPerSite,
+            @Value("${used-item.dedup-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${used-item.dedup-filter.max-memory-mb:0}") long maxMemoryMb,
+            @Value("${used-item.dedup-filter.max-sites:8}") int maxSites,
+            @Value("${used-item.dedup-filter.warmup-fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedItemsPerSite = expectedItemsPerSite;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxSites = maxSites;
+        // 세대당 필요한 메모리: 사이트당 필터 2개 x 최대 사이트 수
+        long requiredBytes = 2L * maxSites * BloomFilter.optimalSizeInBytes(expectedItemsPerSite, falsePositiveRate);
+        if (maxMemoryMb <= 0) {
+            this.maxMemoryBytes = requiredBytes;
+        } else if (enabled && maxMemoryMb * 1024 * 1024 < requiredBytes) {
+            throw new IllegalStateException(String.format(
+                    "중복 확인 필터 메모리 예산이 부족합니다: 사이트 %d개, 사이트당 %d건, 오탐률 %s 에 %dMB 필요 (설정 %dMB)",
+                    maxSites, expectedItemsPerSite, falsePositiveRate,
+                    (requiredBytes + 1024 * 1024 - 1) / (1024 * 1024), maxMemoryMb));
+        } else {
+            this.maxMemoryBytes = maxMemoryMb * 1024 * 1024;
+        }
+        this.fetchSize = fetchSize;
+
+        this.definiteMissCounter = Counter.builder("useditem.dedup.filter.lookups")
+                .description("중복 확인 필터 조회 결과")
+                .tag("result", "definite_miss")
+                .register(meterRegistry);
+        this.possibleHitCounter = Counter.builder("useditem.dedup.filter.lookups")
+                .description("중복 확인 필터 조회 결과")
+                .tag("result", "possible_hit")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("useditem.dedup.filter.false.positives")
+                .description("필터는 있다고 했지만 DB 에는 없던 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("useditem.dedup.filter.memory", this, ScrapedItemSeenFilter::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품이 이미 저장되었을 가능성이 있는지 확인합니다.
+     *
+     * @return DEFINITE_MISS 면 저장된 적 없는 상품이 확실하므로 DB 중복 확인을 생략해도 됨
+     */
+    public Lookup lookup(ScrapedItem item) {
+        Generation generation = current;
+        if (generation == null) {
+            return Lookup.UNFILTERED;
+        }
+        SiteFilters site = generation.sites.get(item.getSourceSiteCode());
+        if (site == null && generation.sites.size() >= maxSites) {
+            // 메모리 상한 때문에 필터를 만들지 못한 사이트는 항상 DB 로 확인
+            return Lookup.UNFILTERED;
+        }
+        boolean possibleHit = site != null
+                && (site.sourceIds.mightContain(item.getItemSourceId()) || site.urls.mightContain(item.getItemUrl()));
+        (possibleHit ? possibleHitCounter : definiteMissCounter).increment();
+        return possibleHit ? Lookup.POSSIBLE_HIT : Lookup.DEFINITE_MISS;
+    }
+
+    /**
+     * 저장에 성공한 상품을 필터에 반영합니다.
+     */
+    public void record(Collection<ScrapedItem> savedItems) {
+        Generation generation = current;
+        Generation next = building;
+        for (ScrapedItem item : savedItems) {
+            if (generation != null) {
+                generation.put(item.getSourceSiteCode(), item.getItemSourceId(), item.getItemUrl());
+            }
+            if (next != null) {
+                next.put(item.getSourceSiteCode(), item.getItemSourceId(), item.getItemUrl());
+            }
+        }
+    }
+
+    /**
+     * 필터가 있다고(POSSIBLE_HIT) 했지만 DB 확인 결과 없던 상품 수를 기록합니다. (실제 오탐률 확인용)
+     * 필터 없이(UNFILTERED) DB 로 확인한 상품은 포함하지 않아야 합니다.
+     */
+    public void recordFalsePositives(int count) {
+        if (count > 0) {
+            falsePositiveCounter.increment(count);
+        }
+    }
+
+    /**
+     * SCRAPED_ITEMS 전체를 서버 측 커서로 읽어 새 필터를 만든 뒤 교체합니다.
+     * 기동 직후 한 번 실행되어 워밍업을 겸하고, 이후 주기적으로 다시 만들어 누적 오탐률을 되돌립니다.
+     */
+    @Scheduled(initialDelayString = "${used-item.dedup-filter.initial-delay:PT0S}",
+            fixedDelayString = "${used-item.dedup-filter.rebuild-interval:PT6H}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Generation next = new Generation();
+        building = next;
+        try {
+            long[] rowCount = { 0 };
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_ALL_KEYS_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, rs -> {
+                next.put(rs.getString(1), rs.getString(2), rs.getString(3));
+                rowCount[0]++;
+            }));
+            current = next;
+            log.info("중복 확인 필터 재구성 완료: {}건, 사이트 {}개, {}KB, {}ms", rowCount[0], next.sites.size(),
+                    next.sizeInBytes() / 1024, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (DataAccessException e) {
+            // 실패 시 기존 세대를 그대로 사용 (워밍업 전이면 계속 DB 로 확인)
+            log.error("중복 확인 필터 재구성 실패. 기존 필터를 유지합니다.", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    private double memoryBytes() {
+        Generation generation = current;
+        Generation next = building;
+        return (generation != null ? generation.sizeInBytes() : 0) + (next != null ? next.sizeInBytes() : 0);
+    }
+
+    // 한 번의 재구성으로 만들어지는 사이트별 필터 묶음
+    private final class Generation {
+        private final Map<String, SiteFilters> sites = new ConcurrentHashMap<>();
+
+        void put(String siteCode, String itemSourceId, String itemUrl) {
+            SiteFilters site = sites.get(siteCode);
+            if (site == null) {
+                if (sites.size() >= maxSites) {
+                    return;
+                }
+                site = sites.computeIfAbsent(siteCode, code -> new SiteFilters(newFilter(), newFilter()));
+            }
+            site.sourceIds.put(itemSourceId);
+            site.urls.put(itemUrl);
+        }
+
+        long sizeInBytes() {
+            return sites.values().stream()
+                    .mapToLong(site -> site.sourceIds.sizeInBytes() + site.urls.sizeInBytes())
+                    .sum();
+        }
+
+        private BloomFilter newFilter() {
+            // 사이트당 필터 2개 x 최대 사이트 수로 전체 예산을 나눠 세대당 메모리 상한을 보장
+            return BloomFilter.create(expectedItemsPerSite, falsePositiveRate, maxMemoryBytes / (2L * maxSites));
+        }
+    }
+
+    private record SiteFilters(BloomFilter sourceIds, BloomFilter urls) {
+    }
+
+    /**
+     * 필터 조회 결과입니다.
+     */
+    public enum Lookup {
+        DEFINITE_MISS, // 필터가 없다고 답함 -> 새 상품 확정
+        POSSIBLE_HIT, // 필터가 있다고 답함 -> DB 확인 (없으면 오탐)
+        UNFILTERED // 워밍업 전이거나 필터가 없는 사이트 -> DB 확인 (오탐 집계 대상 아님)
+    }
+}
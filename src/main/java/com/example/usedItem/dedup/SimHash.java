@@ -0,0 +1,83 @@
+package com.example.usedItem.dedup;
+
+import com.example.usedItem.text.TextNormalizer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 상품 재등록 감지용 64비트 SimHash 입니다.
+ *
+ * 정규화 제목의 글자 2-gram 과 가격대/이미지 URL/지역을 특징으로 쓰고, 특징마다 64비트 해시의 각 비트에
+ * 가중치를 더하거나 빼서 부호로 최종 비트를 정합니다. 특징이 조금만 달라지면 일부 비트만 바뀌므로
+ * 두 fingerprint 의 해밍 거리(다른 비트 수)가 작을수록 비슷한 상품입니다.
+ */
+public final class SimHash {
+
+    // 가격은 이 비율 단위 구간으로 묶음 (재등록 시 소폭 인하해도 같은 구간에 들어가도록)
+    private static final double PRICE_BUCKET_RATIO = 1.25;
+
+    // 특징별 가중치. 재등록 시 사진을 다시 올리면 이미지 URL 이 바뀌는 경우가 많아 이미지는 가장 낮게 둠
+    // (같은 제목/가격/지역에서 이미지 URL 만 다르면 거리 0~2, 색상 한 단어만 다르면 거리 10 안팎)
+    private static final int TITLE_GRAM_WEIGHT = 3;
+    private static final int PRICE_WEIGHT = 3;
+    private static final int IMAGE_WEIGHT = 1;
+    private static final int LOCATION_WEIGHT = 2;
+
+    private SimHash() {
+    }
+
+    /**
+     * @param normalizedTitle {@link TextNormalizer#normalize} 를 적용한 제목
+     */
+    public static long fingerprint(String normalizedTitle, Integer price, String imageUrl, String location) {
+        int[] weights = new int[64];
+        if (normalizedTitle != null) {
+            List<String> grams = TextNormalizer.ngrams(normalizedTitle, 2);
+            if (grams.isEmpty() && !normalizedTitle.isEmpty()) {
+                grams = List.of(normalizedTitle); // 한 글자 제목
+            }
+            for (String gram : grams) {
+                add(weights, hash("t:" + gram), TITLE_GRAM_WEIGHT);
+            }
+        }
+        if (price != null && price > 0) {
+            add(weights, hash("p:" + (int) (Math.log(price) / Math.log(PRICE_BUCKET_RATIO))), PRICE_WEIGHT);
+        }
+        if (imageUrl != null && !imageUrl.isBlank()) {
+            add(weights, hash("i:" + imageUrl.strip()), IMAGE_WEIGHT);
+        }
+        if (location != null && !location.isBlank()) {
+            add(weights, hash("l:" + TextNormalizer.normalize(location)), LOCATION_WEIGHT);
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void add(int[] weights, long featureHash, int weight) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((featureHash >>> bit) & 1L) != 0 ? weight : -weight;
+        }
+    }
+
+    // FNV-1a 변형 + 최종 섞기 (BloomFilter 와 같은 방식)
+    private static long hash(String feature) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : feature.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xFF);
+            h *= 0x100000001B3L;
+        }
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -4,9 +4,13 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+
+import com.example.usedItem.text.TextNormalizer;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Getter
 @Setter // 연관관계 편의 메소드를 위해 Setter 허용 (또는 별도 메소드)
@@ -14,7 +18,9 @@ import java.util.List;
 @Entity
 @Table(name = "KEYWORDS", indexes = {
         @Index(name = "idx_keyword_user_id", columnList = "user_id"),
-        @Index(name = "idx_keyword_site_text", columnList = "target_site_code, keyword_text")
+        @Index(name = "idx_keyword_site_text", columnList = "target_site_code, keyword_text"),
+        @Index(name = "idx_keyword_site_normalized", columnList = "target_site_code, keyword_text_normalized"), // 크롤링 묶음 확인 시각 기록용
+        @Index(name = "idx_keyword_site_next_check", columnList = "target_site_code, next_check_at") // 크롤링 대상 조회용
 })
 public class Keyword {
 
@@ -30,6 +36,11 @@ public class Keyword {
     @Column(name = "keyword_text", nullable = false)
     private String keywordText;
 
+    // 매칭/중복 확인용 정규화 형태 (TextNormalizer.normalize), keywordText 를 바꿀 때 함께 갱신
+    @Setter(AccessLevel.NONE)
+    @Column(name = "keyword_text_normalized")
+    private String keywordTextNormalized;
+
     @Column(name = "target_site_code", nullable = false, length = 20)
     private String targetSiteCode; // 예: "BUNJANG", "JOONGGO"
 
@@ -45,6 +56,14 @@ public class Keyword {
     @Column(name = "last_checked_at")
     private LocalDateTime lastCheckedAt;
 
+    // 확인마다 새로 저장된 상품 수로 갱신하는 시간당 새 상품 수의 EWMA (첫 확인 전에는 null)
+    @Column(name = "new_item_rate")
+    private Double newItemRate;
+
+    // 다음 확인 예정 시각 (newItemRate 에 따라 최소~최대 간격 사이로 정함, null 이면 바로 확인)
+    @Column(name = "next_check_at")
+    private LocalDateTime nextCheckAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
@@ -62,12 +81,24 @@ public class Keyword {
             Integer maxPrice) {
         this.user = user;
         this.keywordText = keywordText;
+        this.keywordTextNormalized = TextNormalizer.normalize(keywordText);
         this.targetSiteCode = targetSiteCode;
         this.active = active;
         this.minPrice = minPrice;
         this.maxPrice = maxPrice;
     }
 
+    public void setKeywordText(String keywordText) {
+        String normalized = TextNormalizer.normalize(keywordText);
+        if (!Objects.equals(normalized, this.keywordTextNormalized)) {
+            // 다른 검색어가 되었으므로 이전 검색어의 수집 주기 대신 바로 확인
+            this.newItemRate = null;
+            this.nextCheckAt = null;
+        }
+        this.keywordText = keywordText;
+        this.keywordTextNormalized = normalized;
+    }
+
     // 연관관계 편의 메소드 (양방향)
     public void setUser(User user) {
         // 기존 User와의 연관관계 제거 (필요 시)
@@ -12,8 +12,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "NOTIFICATIONS", indexes = {
-        @Index(name = "idx_notification_user_id", columnList = "user_id"),
-        @Index(name = "idx_notification_item_id", columnList = "item_id")
+        // 사용자 알림함 키셋 페이지네이션 (created_at desc, notification_id desc) 용, user_id 단독 조회도 겸함
+        @Index(name = "idx_notification_user_created_at", columnList = "user_id, created_at, notification_id"),
+        @Index(name = "idx_notification_item_id", columnList = "item_id"),
+        @Index(name = "idx_notification_status", columnList = "status")
+}, uniqueConstraints = {
+        // 같은 상품/키워드로 같은 사용자에게 알림이 두 번 생기지 않도록 (페이지 재처리 시 중복 방지)
+        @UniqueConstraint(name = "uk_notification_user_item_keyword", columnNames = { "user_id", "item_id",
+                "keyword_id" })
 })
 public class Notification {
 
@@ -83,14 +89,3 @@ public class Notification {
     }
 }
 
-// --- Enums ---
-enum NotificationType {
-    EMAIL, PUSH, SMS // 필요에 따라 추가
-}
-
-enum NotificationStatus {
-    PENDING, // 발송 대기
-    SENT, // 발송 성공
-    FAILED, // 발송 실패
-    READ // 사용자가 읽음 (구현 시 필요)
-}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.example.usedItem.domain;
+
+public enum NotificationStatus {
+    PENDING, // 발송 대기
+    SENT, // 발송 성공
+    FAILED, // 발송 실패
+    READ // 사용자가 읽음 (알림함에서 읽음 처리)
+}
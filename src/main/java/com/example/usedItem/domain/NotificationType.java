@@ -0,0 +1,5 @@
+package com.example.usedItem.domain;
+
+public enum NotificationType {
+    EMAIL, PUSH, SMS // 필요에 따라 추가
+}
@@ -6,6 +6,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+
+import com.example.usedItem.dedup.SimHash;
+import com.example.usedItem.text.TextNormalizer;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +20,11 @@ import java.util.List;
 @Table(name = "SCRAPED_ITEMS", uniqueConstraints = {
         @UniqueConstraint(name = "uk_scraped_item_source", columnNames = { "source_site_code", "item_source_id" }),
         @UniqueConstraint(name = "uk_scraped_item_url", columnNames = { "item_url" })
+}, indexes = {
+        // 목록 API 의 키셋 페이지네이션 (scraped_at desc, item_id desc) 용
+        @Index(name = "idx_scraped_item_scraped_at", columnList = "scraped_at, item_id"),
+        @Index(name = "idx_scraped_item_site_scraped_at", columnList = "source_site_code, scraped_at, item_id"),
+        @Index(name = "idx_scraped_item_relist_of", columnList = "relist_of_item_id")
 })
 public class ScrapedItem {
 
@@ -33,6 +42,10 @@ public class ScrapedItem {
     @Column(nullable = false, length = 500) // 제목 길이를 넉넉하게
     private String title;
 
+    // 키워드 매칭/검색용 정규화 형태 (TextNormalizer.normalize), 저장 시 한 번만 계산
+    @Column(name = "title_normalized", length = 500)
+    private String titleNormalized;
+
     private Integer price; // 가격이 없을 수도 있음
 
     @Column(name = "item_url", nullable = false, length = 2048) // URL 길이를 넉넉하게
@@ -47,6 +60,17 @@ public class ScrapedItem {
     @Column(name = "posted_at_source")
     private LocalDateTime postedAtSource; // 사이트에서 가져온 게시 시간
 
+    @Column(name = "seller_id", length = 100)
+    private String sellerId; // 해당 사이트의 판매자 ID (재등록 감지용, 모르면 null)
+
+    // 재등록(끌올) 감지용 SimHash (정규화 제목 + 가격대 + 이미지 URL + 지역), 저장 시 한 번만 계산
+    @Column(name = "fingerprint")
+    private Long fingerprint;
+
+    // 최근 상품과 fingerprint 가 가까우면 같은 물건의 재등록으로 보고 원래 상품 ID 를 기록 (알림 생성 생략)
+    @Column(name = "relist_of_item_id")
+    private Long relistOfItemId;
+
     @CreationTimestamp
     @Column(name = "scraped_at", updatable = false, nullable = false)
     private LocalDateTime scrapedAt; // 우리 시스템이 스크랩한 시간
@@ -62,18 +86,36 @@ public class ScrapedItem {
 
     @Builder
     public ScrapedItem(String sourceSiteCode, String itemSourceId, String title, Integer price, String itemUrl,
-            String imageUrl, String location, LocalDateTime postedAtSource) {
+            String imageUrl, String location, LocalDateTime postedAtSource, String sellerId) {
         this.sourceSiteCode = sourceSiteCode;
         this.itemSourceId = itemSourceId;
         this.title = title;
+        this.titleNormalized = TextNormalizer.normalize(title);
         this.price = price;
         this.itemUrl = itemUrl;
         this.imageUrl = imageUrl;
         this.location = location;
         this.postedAtSource = postedAtSource;
+        this.sellerId = sellerId;
+        this.fingerprint = SimHash.fingerprint(this.titleNormalized, price, imageUrl, location);
         this.notified = false; // 기본값 false
     }
 
+    // 같은 물건을 판매자가 지우고 다시 올린 상품으로 표시
+    public void markAsRelistOf(Long originalItemId) {
+        this.relistOfItemId = originalItemId;
+    }
+
+    // JDBC 로 직접 INSERT 한 엔티티에 DB 가 정한 ID 와 저장 시각을 채움 (다시 조회하지 않도록)
+    public void markAsSaved(Long id, LocalDateTime scrapedAt) {
+        this.id = id;
+        this.scrapedAt = scrapedAt;
+    }
+
+    public boolean isRelist() {
+        return relistOfItemId != null;
+    }
+
     // 알림 발송 완료 처리 (필요 시)
     public void markAsNotified() {
         this.notified = true;
@@ -14,7 +14,10 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자 접근 제한
 @Entity
-@Table(name = "USERS") // 실제 테이블 이름 지정
+@Table(name = "USERS", indexes = { // 실제 테이블 이름 지정
+        // 목록 API 의 키셋 페이지네이션 (created_at desc, user_id desc) 용
+        @Index(name = "idx_user_created_at", columnList = "created_at, user_id")
+})
 public class User {
 
     @Id
@@ -0,0 +1,24 @@
+package com.example.usedItem.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 읽지 않은 알림 수입니다. 알림 목록 배지를 COUNT(*) 없이 한 행 조회로 보여 주기 위해 유지합니다.
+ * 값은 알림 저장/읽음 처리 SQL 이 같은 문장 안에서 함께 증감합니다. (NotificationRepositoryCustomImpl 참고)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "USER_NOTIFICATION_COUNTERS")
+public class UserNotificationCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
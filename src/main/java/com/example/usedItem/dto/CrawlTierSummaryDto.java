@@ -0,0 +1,26 @@
+package com.example.usedItem.dto;
+
+import lombok.Getter;
+
+import com.example.usedItem.crawl.CrawlTier;
+
+// 사이트별 크롤링 주기 구간(HOT/WARM/COLD/NEW) 분포 (관리자용)
+@Getter
+public class CrawlTierSummaryDto {
+    private final String siteCode;
+    private final CrawlTier tier;
+    private final long queries; // 검색어 묶음 수 (검색 요청 단위)
+    private final long keywords; // 묶음에 속한 활성 키워드 수
+    private final double newItemsPerHour; // 묶음들의 시간당 새 상품 수 EWMA 합계
+    private final double requestsPerHour; // 현재 간격대로 확인할 때의 시간당 검색 요청 수
+
+    public CrawlTierSummaryDto(String siteCode, CrawlTier tier, long queries, long keywords, double newItemsPerHour,
+            double requestsPerHour) {
+        this.siteCode = siteCode;
+        this.tier = tier;
+        this.queries = queries;
+        this.keywords = keywords;
+        this.newItemsPerHour = newItemsPerHour;
+        this.requestsPerHour = requestsPerHour;
+    }
+}
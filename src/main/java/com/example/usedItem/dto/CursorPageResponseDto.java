@@ -0,0 +1,41 @@
+package com.example.usedItem.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorPageResponseDto<T> {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달, 마지막 페이지면 null
+    private final boolean hasNext;
+
+    public CursorPageResponseDto(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // 요청 페이지 크기를 1 ~ MAX_SIZE 로 제한
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size + 1 건으로 조회한 결과로 페이지를 만듭니다. 한 건이 더 있으면 다음 페이지가 있는 것으로 봅니다.
+     *
+     * @param rows     size + 1 건까지 조회한 결과
+     * @param size     페이지 크기
+     * @param cursorOf 페이지 마지막 행으로 다음 커서를 만드는 함수
+     */
+    public static <T> CursorPageResponseDto<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResponseDto<>(content, nextCursor, hasNext);
+    }
+}
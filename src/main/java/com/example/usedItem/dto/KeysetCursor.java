@@ -0,0 +1,43 @@
+package com.example.usedItem.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션용 커서입니다. (정렬 기준 시각 + ID)
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64 문자열로만 전달합니다.
+ *
+ * @param at 마지막 행의 정렬 기준 시각 (scraped_at, created_at 등)
+ * @param id 마지막 행의 ID (같은 시각의 행 사이 순서 보장용)
+ */
+public record KeysetCursor(LocalDateTime at, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = at.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor, 첫 페이지면 null 또는 빈 문자열
+     * @return 커서, 첫 페이지면 null
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
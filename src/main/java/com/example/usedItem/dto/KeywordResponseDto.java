@@ -5,16 +5,17 @@ import java.time.LocalDateTime;
 
 import com.example.usedItem.domain.Keyword;
 
+// 불변 응답 DTO (사용자별 키워드 캐시에 그대로 공유됨)
 @Getter
 public class KeywordResponseDto {
-    private Long keywordId;
-    private String keywordText;
-    private String targetSiteCode;
-    private boolean active;
-    private Integer minPrice;
-    private Integer maxPrice;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    private final Long keywordId;
+    private final String keywordText;
+    private final String targetSiteCode;
+    private final boolean active;
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
 
     // Entity -> DTO 변환을 위한 생성자 또는 정적 팩토리 메소드
     public KeywordResponseDto(Keyword keyword) {
@@ -28,6 +29,19 @@ public class KeywordResponseDto {
         this.updatedAt = keyword.getUpdatedAt();
     }
 
+    // JPQL 생성자 표현식(select new ...)용 - 엔티티를 거치지 않고 필요한 컬럼만으로 생성
+    public KeywordResponseDto(Long keywordId, String keywordText, String targetSiteCode, boolean active,
+            Integer minPrice, Integer maxPrice, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.keywordId = keywordId;
+        this.keywordText = keywordText;
+        this.targetSiteCode = targetSiteCode;
+        this.active = active;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public static KeywordResponseDto fromEntity(Keyword keyword) {
         return new KeywordResponseDto(keyword);
     }
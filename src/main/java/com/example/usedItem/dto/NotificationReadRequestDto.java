@@ -0,0 +1,21 @@
+package com.example.usedItem.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationReadRequestDto {
+
+    @NotEmpty(message = "읽음 처리할 알림 ID를 입력해주세요.")
+    @Size(max = 1000, message = "한 번에 1000건까지 읽음 처리할 수 있습니다.")
+    private List<Long> notificationIds;
+}
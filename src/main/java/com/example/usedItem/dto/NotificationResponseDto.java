@@ -0,0 +1,49 @@
+package com.example.usedItem.dto;
+
+import lombok.Getter;
+
+import com.example.usedItem.domain.NotificationStatus;
+import com.example.usedItem.domain.NotificationType;
+
+import java.time.LocalDateTime;
+
+// 알림함 한 행: 알림 + 상품/키워드 요약 (한 번의 조인 조회로 생성)
+@Getter
+public class NotificationResponseDto {
+    private final Long notificationId;
+    private final NotificationType notificationType;
+    private final NotificationStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime sentAt;
+    private final Long itemId;
+    private final String sourceSiteCode;
+    private final String itemTitle;
+    private final Integer itemPrice;
+    private final String itemUrl;
+    private final String itemImageUrl;
+    private final Long keywordId;
+    private final String keywordText;
+
+    // JPQL 생성자 표현식(select new ...)용
+    public NotificationResponseDto(Long notificationId, NotificationType notificationType, NotificationStatus status,
+            LocalDateTime createdAt, LocalDateTime sentAt, Long itemId, String sourceSiteCode, String itemTitle,
+            Integer itemPrice, String itemUrl, String itemImageUrl, Long keywordId, String keywordText) {
+        this.notificationId = notificationId;
+        this.notificationType = notificationType;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.sentAt = sentAt;
+        this.itemId = itemId;
+        this.sourceSiteCode = sourceSiteCode;
+        this.itemTitle = itemTitle;
+        this.itemPrice = itemPrice;
+        this.itemUrl = itemUrl;
+        this.itemImageUrl = itemImageUrl;
+        this.keywordId = keywordId;
+        this.keywordText = keywordText;
+    }
+
+    public boolean isRead() {
+        return status == NotificationStatus.READ;
+    }
+}
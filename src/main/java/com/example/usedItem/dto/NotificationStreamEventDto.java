@@ -0,0 +1,15 @@
+package com.example.usedItem.dto;
+
+import lombok.Getter;
+
+// SSE 로 보내는 매칭 이벤트 (상세 내용은 알림함 API 로 조회)
+@Getter
+public class NotificationStreamEventDto {
+    private final Long itemId;
+    private final Long keywordId;
+
+    public NotificationStreamEventDto(Long itemId, Long keywordId) {
+        this.itemId = itemId;
+        this.keywordId = keywordId;
+    }
+}
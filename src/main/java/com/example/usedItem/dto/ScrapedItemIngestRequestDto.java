@@ -0,0 +1,52 @@
+package com.example.usedItem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.example.usedItem.domain.ScrapedItem;
+
+import java.time.LocalDateTime;
+
+// 대량 적재 NDJSON 의 한 줄 (외부 스크래퍼가 보내는 상품)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScrapedItemIngestRequestDto {
+    private String sourceSiteCode;
+    private String itemSourceId;
+    private String title;
+    private Integer price;
+    private String itemUrl;
+    private String imageUrl;
+    private String location;
+    private LocalDateTime postedAtSource;
+    private String sellerId;
+
+    // 필수 값이 있고 컬럼 길이를 넘지 않는지 (ScrapedItem 컬럼 정의 기준)
+    public boolean isValid() {
+        return hasText(sourceSiteCode, 20) && hasText(itemSourceId, 100) && hasText(title, 500)
+                && hasText(itemUrl, 2048)
+                && (imageUrl == null || imageUrl.length() <= 2048)
+                && (location == null || location.length() <= 100)
+                && (sellerId == null || sellerId.length() <= 100);
+    }
+
+    public ScrapedItem toEntity() {
+        return ScrapedItem.builder()
+                .sourceSiteCode(sourceSiteCode)
+                .itemSourceId(itemSourceId)
+                .title(title)
+                .price(price)
+                .itemUrl(itemUrl)
+                .imageUrl(imageUrl)
+                .location(location)
+                .postedAtSource(postedAtSource)
+                .sellerId(sellerId)
+                .build();
+    }
+
+    private static boolean hasText(String value, int maxLength) {
+        return value != null && !value.isBlank() && value.length() <= maxLength;
+    }
+}
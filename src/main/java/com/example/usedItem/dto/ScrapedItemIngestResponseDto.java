@@ -0,0 +1,21 @@
+package com.example.usedItem.dto;
+
+import lombok.Getter;
+
+// 대량 적재 결과 건수
+@Getter
+public class ScrapedItemIngestResponseDto {
+    private final long received; // 읽은 줄 수
+    private final long invalid; // JSON 형식 오류/필수 값 누락/길이 초과로 건너뛴 줄 수
+    private final long inserted; // 새로 저장된 상품 수
+    private final long duplicates; // 이미 있거나 입력 안에서 겹쳐 건너뛴 상품 수
+    private final long elapsedMillis;
+
+    public ScrapedItemIngestResponseDto(long received, long invalid, long inserted, long elapsedMillis) {
+        this.received = received;
+        this.invalid = invalid;
+        this.inserted = inserted;
+        this.duplicates = received - invalid - inserted;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
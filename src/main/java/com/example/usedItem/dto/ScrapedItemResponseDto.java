@@ -8,17 +8,17 @@ import com.example.usedItem.domain.ScrapedItem;
 
 @Getter
 public class ScrapedItemResponseDto {
-    private Long itemId;
-    private String sourceSiteCode;
-    private String itemSourceId;
-    private String title;
-    private Integer price;
-    private String itemUrl;
-    private String imageUrl;
-    private String location;
-    private LocalDateTime postedAtSource;
-    private LocalDateTime scrapedAt;
-    private boolean notified; // 알림 발송 여부 포함
+    private final Long itemId;
+    private final String sourceSiteCode;
+    private final String itemSourceId;
+    private final String title;
+    private final Integer price;
+    private final String itemUrl;
+    private final String imageUrl;
+    private final String location;
+    private final LocalDateTime postedAtSource;
+    private final LocalDateTime scrapedAt;
+    private final boolean notified; // 알림 발송 여부 포함
 
     public ScrapedItemResponseDto(ScrapedItem item) {
         this.itemId = item.getId();
@@ -34,6 +34,23 @@ public class ScrapedItemResponseDto {
         this.notified = item.isNotified(); // boolean getter는 isXXX
     }
 
+    // JPQL 생성자 표현식(select new ...)용 - 엔티티를 거치지 않고 필요한 컬럼만으로 생성
+    public ScrapedItemResponseDto(Long itemId, String sourceSiteCode, String itemSourceId, String title, Integer price,
+            String itemUrl, String imageUrl, String location, LocalDateTime postedAtSource, LocalDateTime scrapedAt,
+            boolean notified) {
+        this.itemId = itemId;
+        this.sourceSiteCode = sourceSiteCode;
+        this.itemSourceId = itemSourceId;
+        this.title = title;
+        this.price = price;
+        this.itemUrl = itemUrl;
+        this.imageUrl = imageUrl;
+        this.location = location;
+        this.postedAtSource = postedAtSource;
+        this.scrapedAt = scrapedAt;
+        this.notified = notified;
+    }
+
     public static ScrapedItemResponseDto fromEntity(ScrapedItem item) {
         return new ScrapedItemResponseDto(item);
     }
@@ -0,0 +1,26 @@
+package com.example.usedItem.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter // Controller 에서 쿼리 파라미터 바인딩 시 필요
+@NoArgsConstructor
+public class ScrapedItemSearchCondition {
+
+    private String sourceSiteCode; // 예: "BUNJANG", "JOONGGO"
+
+    private Integer minPrice;
+
+    private Integer maxPrice;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime scrapedFrom; // 포함
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime scrapedTo; // 미포함
+}
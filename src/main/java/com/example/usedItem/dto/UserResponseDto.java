@@ -10,13 +10,13 @@ import com.example.usedItem.domain.UserStatus;
 
 @Getter
 public class UserResponseDto {
-    private Long userId;
-    private String email;
-    private String nickname;
-    private UserRole role;
-    private UserStatus status;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    private final Long userId;
+    private final String email;
+    private final String nickname;
+    private final UserRole role;
+    private final UserStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
 
     public UserResponseDto(User user) {
         this.userId = user.getId();
@@ -28,6 +28,18 @@ public class UserResponseDto {
         this.updatedAt = user.getUpdatedAt();
     }
 
+    // JPQL 생성자 표현식(select new ...)용 - 엔티티를 거치지 않고 필요한 컬럼만으로 생성
+    public UserResponseDto(Long userId, String email, String nickname, UserRole role, UserStatus status,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.userId = userId;
+        this.email = email;
+        this.nickname = nickname;
+        this.role = role;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public static UserResponseDto fromEntity(User user) {
         return new UserResponseDto(user);
     }
@@ -0,0 +1,13 @@
+package com.example.usedItem.event;
+
+import com.example.usedItem.matching.KeywordMatchRule;
+
+/**
+ * 키워드가 등록/수정/삭제되었음을 알리는 이벤트입니다. 트랜잭션 커밋 후에 처리됩니다.
+ *
+ * @param userId    키워드 소유 사용자 ID
+ * @param keywordId 변경된 키워드 ID
+ * @param rule      변경 후 매칭 규칙, 삭제되었거나 비활성화된 경우 null
+ */
+public record KeywordChangedEvent(Long userId, Long keywordId, KeywordMatchRule rule) {
+}
@@ -0,0 +1,13 @@
+package com.example.usedItem.event;
+
+import java.util.List;
+
+import com.example.usedItem.matching.KeywordMatch;
+
+/**
+ * 새 알림이 저장되었음을 알리는 이벤트입니다. 트랜잭션 커밋 후에 처리됩니다.
+ *
+ * @param matches 새로 생성된 알림 (중복으로 무시된 매칭은 제외)
+ */
+public record NotificationsCreatedEvent(List<KeywordMatch> matches) {
+}
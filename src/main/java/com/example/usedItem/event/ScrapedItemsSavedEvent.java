@@ -0,0 +1,13 @@
+package com.example.usedItem.event;
+
+import java.util.List;
+
+import com.example.usedItem.domain.ScrapedItem;
+
+/**
+ * saveItemsIfNotExists 로 새 상품이 저장되었음을 알리는 이벤트입니다. 트랜잭션 커밋 후에 처리됩니다.
+ *
+ * @param items 새로 저장된 상품 (ID, 스크랩 시각 포함)
+ */
+public record ScrapedItemsSavedEvent(List<ScrapedItem> items) {
+}
@@ -0,0 +1,155 @@
+package com.example.usedItem.matching;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 여러 패턴을 한 번에 찾는 Aho-Corasick 오토마톤입니다. (불변 객체, 여러 스레드에서 동시에 사용 가능)
+ * 입력 문자열을 한 번만 훑으면서 포함된 모든 패턴의 인덱스를 찾으므로 비용이 패턴 수와 무관합니다.
+ */
+public final class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    // 노드별 전이: edgeChars[node] 는 정렬된 문자 배열, edgeTargets[node] 는 같은 위치의 다음 노드
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 노드에 도달했을 때 끝나는 패턴 인덱스 (실패 링크를 따라 끝나는 패턴까지 미리 합쳐 둠)
+    private final int[][] outputs;
+    private final int patternCount;
+
+    private AhoCorasickAutomaton(char[][] edgeChars, int[][] edgeTargets, int[] failure, int[][] outputs,
+            int patternCount) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+        this.patternCount = patternCount;
+    }
+
+    /**
+     * 패턴 목록으로 오토마톤을 만듭니다. 패턴의 리스트 인덱스가 매칭 결과로 반환됩니다.
+     * 빈 문자열 패턴은 무시합니다.
+     */
+    public static AhoCorasickAutomaton build(List<String> patterns) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        trie.add(new HashMap<>());
+        terminal.add(new ArrayList<>());
+
+        for (int patternIndex = 0; patternIndex < patterns.size(); patternIndex++) {
+            String pattern = patterns.get(patternIndex);
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(c, next);
+                    trie.add(new HashMap<>());
+                    terminal.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            terminal.get(node).add(patternIndex);
+        }
+
+        int nodeCount = trie.size();
+        char[][] edgeChars = new char[nodeCount][];
+        int[][] edgeTargets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            char[] chars = new char[edges.size()];
+            int i = 0;
+            for (char c : edges.keySet()) {
+                chars[i++] = c;
+            }
+            Arrays.sort(chars);
+            int[] targets = new int[chars.length];
+            for (int j = 0; j < chars.length; j++) {
+                targets[j] = edges.get(chars[j]);
+            }
+            edgeChars[node] = chars;
+            edgeTargets[node] = targets;
+        }
+
+        // BFS 순서로 실패 링크 계산 -> 부모보다 얕은 노드의 출력이 항상 먼저 확정됨
+        int[] failure = new int[nodeCount];
+        int[][] outputs = new int[nodeCount][];
+        outputs[ROOT] = NO_OUTPUT;
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[ROOT]) {
+            failure[target] = ROOT;
+            outputs[target] = toArray(terminal.get(target), NO_OUTPUT);
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            char[] chars = edgeChars[node];
+            int[] targets = edgeTargets[node];
+            for (int i = 0; i < chars.length; i++) {
+                int child = targets[i];
+                int fallback = failure[node];
+                int next;
+                while ((next = step(edgeChars, edgeTargets, fallback, chars[i])) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = next >= 0 ? next : ROOT;
+                outputs[child] = toArray(terminal.get(child), outputs[failure[child]]);
+                queue.add(child);
+            }
+        }
+        return new AhoCorasickAutomaton(edgeChars, edgeTargets, failure, outputs, patterns.size());
+    }
+
+    /**
+     * 텍스트에 포함된 모든 패턴의 인덱스를 중복 없이 반환합니다.
+     */
+    public BitSet match(CharSequence text) {
+        BitSet matched = new BitSet();
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(edgeChars, edgeTargets, node, c)) < 0 && node != ROOT) {
+                node = failure[node];
+            }
+            node = next >= 0 ? next : ROOT;
+            for (int patternIndex : outputs[node]) {
+                matched.set(patternIndex);
+            }
+        }
+        return matched;
+    }
+
+    public int patternCount() {
+        return patternCount;
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int i = 0; i < own.size(); i++) {
+            merged[inherited.length + i] = own.get(i);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.usedItem.matching;
+
+import com.example.usedItem.text.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 사이트의 활성 키워드를 컴파일한 불변 스냅샷입니다.
+ * 같은 문구를 여러 사용자가 등록해도 오토마톤에는 패턴 하나만 들어가고, 매칭 후 해당 키워드들로 펼칩니다.
+ * 패턴과 제목 모두 공백/기호를 뺀 정규화 형태라 "아이폰15프로" 키워드가 "아이폰 15 프로" 제목에도 걸립니다.
+ */
+final class CompiledSiteRules {
+
+    private final AhoCorasickAutomaton automaton;
+    // rulesByPattern[패턴 인덱스] = 그 문구를 등록한 키워드들
+    private final KeywordMatchRule[][] rulesByPattern;
+
+    private CompiledSiteRules(AhoCorasickAutomaton automaton, KeywordMatchRule[][] rulesByPattern) {
+        this.automaton = automaton;
+        this.rulesByPattern = rulesByPattern;
+    }
+
+    static CompiledSiteRules compile(Collection<KeywordMatchRule> rules) {
+        Map<String, List<KeywordMatchRule>> rulesByText = new LinkedHashMap<>();
+        for (KeywordMatchRule rule : rules) {
+            String pattern = rule.keywordTextNormalized();
+            if (pattern != null && !pattern.isEmpty()) {
+                rulesByText.computeIfAbsent(pattern, text -> new ArrayList<>()).add(rule);
+            }
+        }
+        List<String> patterns = new ArrayList<>(rulesByText.keySet());
+        KeywordMatchRule[][] rulesByPattern = new KeywordMatchRule[patterns.size()][];
+        for (int i = 0; i < patterns.size(); i++) {
+            rulesByPattern[i] = rulesByText.get(patterns.get(i)).toArray(new KeywordMatchRule[0]);
+        }
+        return new CompiledSiteRules(AhoCorasickAutomaton.build(patterns), rulesByPattern);
+    }
+
+    /**
+     * 제목에 포함된 키워드 중 가격 조건까지 만족하는 키워드를 반환합니다.
+     */
+    List<KeywordMatchRule> match(String title, Integer price) {
+        return matchNormalized(TextNormalizer.normalize(title), price);
+    }
+
+    /**
+     * 이미 정규화된 제목(ScrapedItem.titleNormalized)으로 매칭합니다.
+     */
+    List<KeywordMatchRule> matchNormalized(String normalizedTitle, Integer price) {
+        if (normalizedTitle == null || rulesByPattern.length == 0) {
+            return List.of();
+        }
+        BitSet matchedPatterns = automaton.match(normalizedTitle);
+        List<KeywordMatchRule> matched = new ArrayList<>();
+        for (int i = matchedPatterns.nextSetBit(0); i >= 0; i = matchedPatterns.nextSetBit(i + 1)) {
+            for (KeywordMatchRule rule : rulesByPattern[i]) {
+                if (rule.acceptsPrice(price)) {
+                    matched.add(rule);
+                }
+            }
+        }
+        return matched;
+    }
+
+    int patternCount() {
+        return rulesByPattern.length;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.usedItem.matching;
+
+/**
+ * 상품 하나가 특정 사용자의 키워드에 매칭되었다는 결과입니다. (알림 한 건에 대응)
+ *
+ * @param itemId    매칭된 상품 ID
+ * @param keywordId 매칭된 키워드 ID
+ * @param userId    키워드 소유 사용자 ID
+ */
+public record KeywordMatch(Long itemId, Long keywordId, Long userId) {
+}
@@ -0,0 +1,40 @@
+package com.example.usedItem.matching;
+
+import com.example.usedItem.domain.Keyword;
+import com.example.usedItem.text.TextNormalizer;
+
+/**
+ * 매칭 엔진이 사용하는 활성 키워드의 최소 정보입니다.
+ * Keyword 엔티티 대신 필요한 컬럼만 들고 있으므로 Keyword.user 지연 로딩 없이 사용자 ID 를 알 수 있습니다.
+ * keywordTextNormalized 는 DB 에 저장된 정규화 형태이며, 아직 채워지지 않은 예전 행이면 여기서 계산합니다.
+ */
+public record KeywordMatchRule(Long keywordId, Long userId, String targetSiteCode, String keywordText,
+        String keywordTextNormalized, Integer minPrice, Integer maxPrice) {
+
+    public KeywordMatchRule {
+        if (keywordTextNormalized == null) {
+            keywordTextNormalized = TextNormalizer.normalize(keywordText);
+        }
+    }
+
+    public KeywordMatchRule(Long keywordId, Long userId, String targetSiteCode, String keywordText, Integer minPrice,
+            Integer maxPrice) {
+        this(keywordId, userId, targetSiteCode, keywordText, null, minPrice, maxPrice);
+    }
+
+    public static KeywordMatchRule of(Keyword keyword, Long userId) {
+        return new KeywordMatchRule(keyword.getId(), userId, keyword.getTargetSiteCode(), keyword.getKeywordText(),
+                keyword.getKeywordTextNormalized(), keyword.getMinPrice(), keyword.getMaxPrice());
+    }
+
+    /**
+     * 상품 가격이 키워드의 가격 범위 안에 있는지 확인합니다.
+     * 가격 정보가 없는 상품은 가격 조건이 없는 키워드에만 해당됩니다.
+     */
+    public boolean acceptsPrice(Integer price) {
+        if (price == null) {
+            return minPrice == null && maxPrice == null;
+        }
+        return (minPrice == null || price >= minPrice) && (maxPrice == null || price <= maxPrice);
+    }
+}
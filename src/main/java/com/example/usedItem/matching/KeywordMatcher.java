@@ -0,0 +1,167 @@
+package com.example.usedItem.matching;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.event.KeywordChangedEvent;
+import com.example.usedItem.metrics.PipelineMetrics;
+import com.example.usedItem.repository.KeywordRepository;
+import com.example.usedItem.text.TextNormalizer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 새로 스크랩된 상품 제목에 걸리는 활성 키워드를 찾는 매칭 엔진입니다.
+ *
+ * 사이트(targetSiteCode)별로 모든 활성 키워드를 Aho-Corasick 오토마톤 하나로 컴파일해 두고,
+ * 제목을 한 번 훑어 매칭된 키워드를 찾은 뒤 minPrice/maxPrice 를 적용합니다.
+ * 키워드가 바뀌면 해당 사이트만 백그라운드에서 다시 컴파일해 스냅샷을 통째로 교체(copy-on-write)하므로
+ * 매칭 쪽은 어떤 락도 잡지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordMatcher {
+
+    private final KeywordRepository keywordRepository;
+    private final PipelineMetrics metrics;
+
+    // 편집용 원본 상태 (lock 으로 보호)
+    private final Object lock = new Object();
+    private final Map<String, Map<Long, KeywordMatchRule>> rulesBySite = new HashMap<>();
+    private final Map<Long, String> siteByKeywordId = new HashMap<>();
+    private long reloadGeneration;
+
+    // 다시 컴파일해야 하는 사이트 (짧은 시간에 여러 번 바뀌어도 한 번만 컴파일)
+    private final Set<String> dirtySites = ConcurrentHashMap.newKeySet();
+    private final ExecutorService compileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "keyword-matcher-compile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 매칭에 사용하는 읽기 전용 스냅샷
+    private volatile Map<String, CompiledSiteRules> snapshots = Map.of();
+
+    /**
+     * 상품 제목과 가격에 걸리는 키워드를 찾습니다.
+     *
+     * @return 매칭된 키워드 규칙 (키워드 ID, 사용자 ID 포함)
+     */
+    public List<KeywordMatchRule> match(ScrapedItem item) {
+        // 저장 시 계산해 둔 정규화 제목 사용 (정규화 컬럼 도입 전 행이면 여기서 계산)
+        String normalizedTitle = item.getTitleNormalized() != null
+                ? item.getTitleNormalized()
+                : TextNormalizer.normalize(item.getTitle());
+        return matchNormalized(item.getSourceSiteCode(), normalizedTitle, item.getPrice());
+    }
+
+    public List<KeywordMatchRule> match(String siteCode, String title, Integer price) {
+        return matchNormalized(siteCode, TextNormalizer.normalize(title), price);
+    }
+
+    private List<KeywordMatchRule> matchNormalized(String siteCode, String normalizedTitle, Integer price) {
+        long startedAt = System.nanoTime();
+        CompiledSiteRules compiled = snapshots.get(siteCode);
+        List<KeywordMatchRule> matched = compiled == null ? List.of() : compiled.matchNormalized(normalizedTitle, price);
+        metrics.recordMatch(matched.size(), startedAt);
+        return matched;
+    }
+
+    /**
+     * DB 의 활성 키워드 전체로 모든 사이트의 스냅샷을 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        long startedAt = System.nanoTime();
+        synchronized (lock) {
+            List<KeywordMatchRule> rules = keywordRepository.findAllActiveMatchRules();
+            rulesBySite.clear();
+            siteByKeywordId.clear();
+            for (KeywordMatchRule rule : rules) {
+                putRule(rule);
+            }
+            Map<String, CompiledSiteRules> compiled = new HashMap<>();
+            rulesBySite.forEach((site, siteRules) -> compiled.put(site, CompiledSiteRules.compile(siteRules.values())));
+            reloadGeneration++;
+            snapshots = Map.copyOf(compiled);
+            log.info("키워드 매칭 엔진 로드 완료: 키워드 {}개, 사이트 {}개, {}ms", rules.size(), compiled.size(),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    /**
+     * 키워드 등록/수정/삭제가 커밋된 뒤 해당 사이트의 스냅샷을 갱신합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onKeywordChanged(KeywordChangedEvent event) {
+        synchronized (lock) {
+            String previousSite = siteByKeywordId.remove(event.keywordId());
+            if (previousSite != null) {
+                Map<Long, KeywordMatchRule> siteRules = rulesBySite.get(previousSite);
+                siteRules.remove(event.keywordId());
+                if (siteRules.isEmpty()) {
+                    rulesBySite.remove(previousSite);
+                }
+                markDirty(previousSite);
+            }
+            if (event.rule() != null) {
+                putRule(event.rule());
+                markDirty(event.rule().targetSiteCode());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compileExecutor.shutdownNow();
+    }
+
+    private void putRule(KeywordMatchRule rule) {
+        rulesBySite.computeIfAbsent(rule.targetSiteCode(), site -> new HashMap<>()).put(rule.keywordId(), rule);
+        siteByKeywordId.put(rule.keywordId(), rule.targetSiteCode());
+    }
+
+    private void markDirty(String site) {
+        if (dirtySites.add(site)) {
+            compileExecutor.execute(() -> recompile(site));
+        }
+    }
+
+    private void recompile(String site) {
+        dirtySites.remove(site);
+        List<KeywordMatchRule> siteRules;
+        long generation;
+        synchronized (lock) {
+            siteRules = List.copyOf(rulesBySite.getOrDefault(site, Map.of()).values());
+            generation = reloadGeneration;
+        }
+        // 컴파일은 락 밖에서 수행 -> 컴파일 중에도 키워드 편집과 매칭이 막히지 않음
+        CompiledSiteRules compiled = siteRules.isEmpty() ? null : CompiledSiteRules.compile(siteRules);
+        synchronized (lock) {
+            if (generation != reloadGeneration) {
+                return; // 그 사이 전체 reload 가 최신 상태를 반영함
+            }
+            Map<String, CompiledSiteRules> next = new HashMap<>(snapshots);
+            if (compiled == null) {
+                next.remove(site);
+            } else {
+                next.put(site, compiled);
+            }
+            snapshots = Map.copyOf(next);
+        }
+        log.debug("키워드 매칭 스냅샷 갱신: site={}, 키워드 {}개", site, siteRules.size());
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.usedItem.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 스크랩 → 중복 확인 → 키워드 매칭 → 알림 생성/발송 파이프라인 메트릭입니다.
+ * 지연 시간 메트릭은 percentile histogram 을 함께 내보내므로 Prometheus 에서 histogram_quantile 로 p95/p99 를 계산할 수 있습니다.
+ */
+@Component
+public class PipelineMetrics {
+
+    // 스크랩 상품 저장
+    private final DistributionSummary scrapeBatchSize;
+    private final Counter savedItems;
+    private final Counter duplicateItems;
+    private final Timer saveTimer;
+    private final Timer dedupQueryTimer;
+    private final Timer insertTimer;
+
+    // 키워드 매칭
+    private final Counter matchedTitles;
+    private final DistributionSummary matchesPerItem;
+    private final Timer matchTimer;
+
+    // 알림 생성/발송
+    private final Counter createdNotifications;
+    private final Timer notificationCreateTimer;
+    private final Counter sentNotifications;
+    private final Counter failedNotifications;
+    private final Timer notificationLag;
+    private final AtomicLong pendingNotifications = new AtomicLong();
+    private final AtomicLong failedNotificationsWaiting = new AtomicLong();
+
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.scrapeBatchSize = DistributionSummary.builder("useditem.scrape.batch.size")
+                .description("saveItemsIfNotExists 한 번에 들어온 상품 수")
+                .baseUnit("items")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(meterRegistry);
+        this.savedItems = Counter.builder("useditem.scrape.items")
+                .description("스크랩 상품 저장 결과 (duplicate / (saved + duplicate) = 중복 비율)")
+                .tag("result", "saved")
+                .register(meterRegistry);
+        this.duplicateItems = Counter.builder("useditem.scrape.items")
+                .description("스크랩 상품 저장 결과 (duplicate / (saved + duplicate) = 중복 비율)")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        this.saveTimer = latencyTimer(meterRegistry, "useditem.scrape.save", "saveItemsIfNotExists 전체 소요 시간");
+        this.dedupQueryTimer = latencyTimer(meterRegistry, "useditem.scrape.dedup.query", "기존 상품 확인 쿼리 소요 시간");
+        this.insertTimer = latencyTimer(meterRegistry, "useditem.scrape.insert", "상품 INSERT 소요 시간");
+
+        this.matchedTitles = Counter.builder("useditem.matching.titles")
+                .description("키워드 매칭을 수행한 상품 제목 수")
+                .register(meterRegistry);
+        this.matchesPerItem = DistributionSummary.builder("useditem.matching.matches.per.item")
+                .description("상품 하나에 매칭된 키워드 수")
+                .baseUnit("keywords")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(meterRegistry);
+        this.matchTimer = latencyTimer(meterRegistry, "useditem.matching.match", "상품 제목 하나의 키워드 매칭 소요 시간");
+
+        this.createdNotifications = Counter.builder("useditem.notification.created")
+                .description("새로 생성된 알림 수")
+                .register(meterRegistry);
+        this.notificationCreateTimer = latencyTimer(meterRegistry, "useditem.notification.create",
+                "매칭 결과로 알림을 일괄 생성하는 데 걸린 시간");
+        this.sentNotifications = Counter.builder("useditem.notification.dispatched")
+                .description("발송 처리된 알림 수")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.failedNotifications = Counter.builder("useditem.notification.dispatched")
+                .description("발송 처리된 알림 수")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.notificationLag = Timer.builder("useditem.notification.lag")
+                .description("상품 스크랩 시각(scrapedAt)부터 알림 발송 시각(sentAt)까지의 지연")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(100))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(meterRegistry);
+        Gauge.builder("useditem.notification.queue.depth", pendingNotifications, AtomicLong::get)
+                .description("발송 대기 중인 알림 수")
+                .tag("status", "pending")
+                .register(meterRegistry);
+        Gauge.builder("useditem.notification.queue.depth", failedNotificationsWaiting, AtomicLong::get)
+                .description("발송 대기 중인 알림 수")
+                .tag("status", "failed")
+                .register(meterRegistry);
+    }
+
+    public void recordSave(int batchSize, int savedCount, long startedAtNanos) {
+        scrapeBatchSize.record(batchSize);
+        savedItems.increment(savedCount);
+        duplicateItems.increment(batchSize - savedCount);
+        saveTimer.record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> T timeDedupQuery(Supplier<T> query) {
+        return dedupQueryTimer.record(query);
+    }
+
+    public <T> T timeInsert(Supplier<T> insert) {
+        return insertTimer.record(insert);
+    }
+
+    public void recordMatch(int matchCount, long startedAtNanos) {
+        matchTimer.record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+        matchedTitles.increment();
+        matchesPerItem.record(matchCount);
+    }
+
+    public void recordNotificationsCreated(int createdCount, long startedAtNanos) {
+        createdNotifications.increment(createdCount);
+        notificationCreateTimer.record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param itemScrapedAts 발송된 알림 각각의 상품 스크랩 시각 (null 이면 발송 수만 세고 지연은 기록하지 않음)
+     * @param sentAt         발송 시각
+     */
+    public void recordSent(Collection<LocalDateTime> itemScrapedAts, LocalDateTime sentAt) {
+        sentNotifications.increment(itemScrapedAts.size());
+        for (LocalDateTime scrapedAt : itemScrapedAts) {
+            if (scrapedAt != null) {
+                notificationLag.record(Duration.between(scrapedAt, sentAt));
+            }
+        }
+    }
+
+    public void recordFailed(int failedCount) {
+        failedNotifications.increment(failedCount);
+    }
+
+    public void updateQueueDepth(long pending, long failed) {
+        pendingNotifications.set(pending);
+        failedNotificationsWaiting.set(failed);
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.usedItem.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * scraped_at 기준 월 단위 파티션(scraped_items_pYYYYMM)을 관리합니다.
+ * sql/scraped_items_partitioning.sql 로 테이블을 전환한 뒤 used-item.partitioning.enabled=true 일 때만 동작합니다.
+ *
+ * - 이번 달부터 months-ahead 개월 뒤까지의 파티션을 미리 만들어 기본 파티션으로 행이 들어가지 않게 합니다.
+ * - retention-months 보다 오래된 중복 방지 키(scraped_item_keys)를 지운 뒤 해당 파티션을 분리(DETACH)합니다.
+ *   키를 지우면 외래 키(ON DELETE CASCADE)로 해당 상품의 알림도 함께 삭제됩니다.
+ *   키 삭제는 분리 여부와 관계없이 보관 기간 기준으로 매번 실행하므로, 분리 후 중단되었거나 삭제가 실패해도
+ *   다음 실행에서 마저 지워집니다.
+ *   drop-expired=true 면 분리한 파티션을 바로 DROP 하고, false 면 보관/백업용으로 남겨 둡니다.
+ *   분리는 scraped_items 에 ACCESS EXCLUSIVE 잠금을 잡으므로 lock-timeout 안에 잠금을 못 얻으면 포기하고
+ *   다음 실행에서 다시 시도합니다. (removePartition 참고)
+ *
+ * 파티션 생성은 기동 후 initial-delay 부터 maintenance-interval 마다, 보관 기간 정리는 트래픽이 적은 시간대에
+ * retention-cron 으로 실행합니다.
+ */
+@Slf4j
+@Component
+public class ScrapedItemPartitionManager {
+
+    private static final String PARTITION_PREFIX = "scraped_items_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+              FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+             WHERE i.inhparent = 'scraped_items'::regclass
+            """;
+
+    // 이전 실행에서 분리만 되고 DROP 되지 않은 파티션 (drop-expired=true 일 때 마저 삭제)
+    private static final String LIST_DETACHED_PARTITIONS_SQL = """
+            SELECT c.relname
+              FROM pg_class c
+             WHERE c.relkind = 'r'
+               AND c.relnamespace = (SELECT oid FROM pg_namespace WHERE nspname = current_schema())
+               AND c.relname LIKE 'scraped\\_items\\_p%'
+               AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)
+            """;
+
+    // 한 번에 너무 많은 행(및 연쇄 삭제되는 알림)을 지워 잠금이 길어지지 않도록 나눠서 삭제
+    private static final String DELETE_EXPIRED_KEYS_SQL = """
+            DELETE FROM scraped_item_keys
+             WHERE item_id IN (SELECT item_id
+                                 FROM scraped_item_keys
+                                WHERE scraped_at < ?
+                                LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+    private final int deleteBatchSize;
+    private final long lockTimeoutMillis;
+
+    public ScrapedItemPartitionManager(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${used-item.partitioning.enabled:false}") boolean enabled,
+            @Value("${used-item.partitioning.months-ahead:2}") int monthsAhead,
+            @Value("${used-item.partitioning.retention-months:12}") int retentionMonths,
+            @Value("${used-item.partitioning.drop-expired:false}") boolean dropExpired,
+            @Value("${used-item.partitioning.delete-batch-size:10000}") int deleteBatchSize,
+            @Value("${used-item.partitioning.lock-timeout:PT5S}") Duration lockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = dropExpired;
+        this.deleteBatchSize = deleteBatchSize;
+        this.lockTimeoutMillis = Math.max(1, lockTimeout.toMillis());
+    }
+
+    @Scheduled(initialDelayString = "${used-item.partitioning.initial-delay:PT0S}",
+            fixedDelayString = "${used-item.partitioning.maintenance-interval:PT6H}")
+    public void scheduledPartitionCreation() {
+        if (enabled) {
+            createUpcomingPartitions(YearMonth.now());
+        }
+    }
+
+    @Scheduled(cron = "${used-item.partitioning.retention-cron:0 30 4 * * *}")
+    public void scheduledRetention() {
+        if (enabled) {
+            removeExpired(YearMonth.now());
+        }
+    }
+
+    /**
+     * 기준 월에 대해 미래 파티션 생성과 만료 파티션 정리를 수행합니다.
+     */
+    public void maintain(YearMonth currentMonth) {
+        createUpcomingPartitions(currentMonth);
+        removeExpired(currentMonth);
+    }
+
+    private synchronized void createUpcomingPartitions(YearMonth currentMonth) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(currentMonth.plusMonths(i));
+        }
+    }
+
+    private synchronized void removeExpired(YearMonth currentMonth) {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        // 기준 월 포함 retention-months 개월만 보관
+        YearMonth oldestRetained = currentMonth.minusMonths(retentionMonths - 1L);
+        // 키를 먼저 지움: 분리 후 중단/실패해도 분리된 달의 키가 남지 않고, 남았더라도 다음 실행에서 지워짐
+        long deletedKeys;
+        try {
+            deletedKeys = deleteKeysBefore(oldestRetained);
+        } catch (DataAccessException e) {
+            log.error("보관 기간 지난 중복 방지 키 삭제 실패. 다음 실행에서 다시 시도합니다.", e);
+            return;
+        }
+        if (deletedKeys > 0) {
+            log.info("보관 기간 지난 중복 방지 키 {}건 삭제 ({} 이전)", deletedKeys, oldestRetained);
+        }
+        for (YearMonth month : attachedPartitionMonths()) {
+            if (month.isBefore(oldestRetained)) {
+                removePartition(month);
+            }
+        }
+        if (dropExpired) {
+            for (String name : jdbcTemplate.queryForList(LIST_DETACHED_PARTITIONS_SQL, String.class)) {
+                Matcher matcher = PARTITION_NAME.matcher(name);
+                if (matcher.matches() && YearMonth.parse(matcher.group(1), SUFFIX_FORMAT).isBefore(oldestRetained)) {
+                    dropDetached(name);
+                }
+            }
+        }
+    }
+
+    private long deleteKeysBefore(YearMonth oldestRetained) {
+        Timestamp before = Timestamp.valueOf(oldestRetained.atDay(1).atStartOfDay());
+        long deletedKeys = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED_KEYS_SQL, before, deleteBatchSize);
+            deletedKeys += deleted;
+        } while (deleted > 0);
+        return deletedKeys;
+    }
+
+    private void createPartition(YearMonth month) {
+        try {
+            // DDL 은 바인드 파라미터를 쓸 수 없음, 이름과 경계 모두 날짜에서 만든 값
+            // 새 파티션 생성도 scraped_items 에 ACCESS EXCLUSIVE 잠금을 잡으므로 잠금 대기 시간을 제한
+            executeWithLockTimeout("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                    + " PARTITION OF scraped_items FOR VALUES FROM ('" + month.atDay(1) + "') TO ('"
+                    + month.plusMonths(1).atDay(1) + "')");
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("스크랩 상품 파티션 생성 잠금 대기 시간 초과, 다음 실행에서 다시 시도합니다: {}", partitionName(month));
+        } catch (DataAccessException e) {
+            // 기본 파티션에 이미 해당 기간 행이 있으면 실패 -> 행을 옮기기 전까지 매 주기 경고
+            log.error("스크랩 상품 파티션 생성 실패: {}", partitionName(month), e);
+        }
+    }
+
+    private List<YearMonth> attachedPartitionMonths() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class).stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> YearMonth.parse(matcher.group(1), SUFFIX_FORMAT))
+                .sorted()
+                .toList();
+    }
+
+    private void removePartition(YearMonth month) {
+        String name = partitionName(month);
+        try {
+            // DETACH PARTITION 은 scraped_items 전체에 ACCESS EXCLUSIVE 잠금을 잡음: 잠금을 기다리는 동안 뒤따르는 조회/저장도
+            // 모두 막히므로 (긴 내보내기/색인 재구성 조회 중이면 그 시간 내내) lock-timeout 안에 못 얻으면 포기하고 다음 실행에서 재시도.
+            // DETACH ... CONCURRENTLY 는 기본 파티션(scraped_items_default)이 있는 테이블에는 쓸 수 없어 사용하지 않음
+            executeWithLockTimeout("ALTER TABLE scraped_items DETACH PARTITION " + name);
+            if (dropExpired) {
+                jdbcTemplate.execute("DROP TABLE " + name);
+            }
+            log.info("보관 기간 지난 스크랩 상품 파티션 정리: {} ({})", name, dropExpired ? "삭제" : "분리");
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("스크랩 상품 파티션 분리 잠금 대기 시간 초과, 다음 실행에서 다시 시도합니다: {}", name);
+        } catch (DataAccessException e) {
+            log.error("스크랩 상품 파티션 정리 실패: {}", name, e);
+        }
+    }
+
+    private void dropDetached(String name) {
+        try {
+            jdbcTemplate.execute("DROP TABLE " + name);
+            log.info("분리된 채 남아 있던 스크랩 상품 파티션 삭제: {}", name);
+        } catch (DataAccessException e) {
+            log.error("분리된 스크랩 상품 파티션 삭제 실패: {}", name, e);
+        }
+    }
+
+    // SET LOCAL 은 트랜잭션 안에서만 유지되므로 DDL 과 같은 트랜잭션에서 실행
+    private void executeWithLockTimeout(String ddl) {
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMillis);
+            jdbcTemplate.execute(ddl);
+        });
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.usedItem.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(IP, 사용자 ID)별 토큰 버킷을 GCRA(Generic Cell Rate Algorithm)로 구현합니다.
+ *
+ * 키마다 "다음 요청이 이론상 도착할 시각"(TAT) 하나만 AtomicLong 으로 두고 CAS 로 갱신하므로 락이 없고,
+ * 토큰 수를 주기적으로 채우는 작업도 필요 없습니다. 요청이 허용되면 TAT 를 한 간격만큼 미루고, TAT 가 현재보다
+ * burst 간격 이상 앞서 있으면 거절합니다. 키는 Caffeine 캐시에 최대 maxKeys 개까지 두고, 버킷이 다시 가득 찰
+ * 시간 동안 쓰이지 않으면 제거합니다. (제거된 키는 가득 찬 버킷과 같으므로 결과가 달라지지 않음)
+ */
+final class GcraRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Cache<String, AtomicLong> theoreticalArrivals;
+
+    GcraRateLimiter(double requestsPerSecond, int burst, int maxKeys) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requests-per-second 는 0 보다 커야 합니다: " + requestsPerSecond);
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.theoreticalArrivals = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstToleranceNanos))
+                .build();
+    }
+
+    /**
+     * 요청 하나를 허용할지 판단합니다.
+     *
+     * @param key        제한 기준 키
+     * @param nowNanos   현재 시각 (System.nanoTime)
+     * @return 허용이면 0, 거절이면 다음 요청이 허용될 때까지 남은 나노초
+     */
+    long tryAcquire(String key, long nowNanos) {
+        AtomicLong tat = theoreticalArrivals.get(key, k -> new AtomicLong(nowNanos));
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long allowAt = next - burstToleranceNanos;
+            if (allowAt > nowNanos) {
+                return allowAt - nowNanos;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 소비하지 않고 지금 요청하면 기다려야 할 시간만 확인합니다. (처음 보는 키는 가득 찬 버킷)
+     *
+     * @return 허용이면 0, 거절이면 다음 요청이 허용될 때까지 남은 나노초
+     */
+    long waitNanos(String key, long nowNanos) {
+        AtomicLong tat = theoreticalArrivals.getIfPresent(key);
+        if (tat == null) {
+            return 0;
+        }
+        long allowAt = Math.max(tat.get(), nowNanos) + emissionIntervalNanos - burstToleranceNanos;
+        return Math.max(0, allowAt - nowNanos);
+    }
+
+    long estimatedKeyCount() {
+        return theoreticalArrivals.estimatedSize();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.usedItem.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 규칙별 IP / 사용자 요청 수를 제한하는 서블릿 필터입니다. 한도를 넘으면 429 와 Retry-After(초)를 응답하고
+ * 요청을 컨트롤러로 넘기지 않으므로, 한 클라이언트가 DB 커넥션 풀을 독점하지 못합니다.
+ * 사용자별 한도가 걸린 경로의 사용자 ID 가 숫자가 아니면 400 으로 거절합니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String TOO_MANY_REQUESTS_BODY = "{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}";
+    private static final String INVALID_USER_ID_BODY = "{\"message\":\"사용자 ID 가 올바르지 않습니다.\"}";
+
+    private final RateLimitRules rules;
+    private final Counter rejectedRequests;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rules = new RateLimitRules(properties);
+        this.rejectedRequests = Counter.builder("useditem.ratelimit.rejected")
+                .description("요청 수 제한으로 429 응답한 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        long waitNanos = rules.check(path, request.getRemoteAddr(), System.nanoTime());
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (waitNanos == RateLimitRules.INVALID_USER_ID) {
+            writeJson(response, HttpStatus.BAD_REQUEST, INVALID_USER_ID_BODY);
+            return;
+        }
+        rejectedRequests.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)); // 올림
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        writeJson(response, HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_REQUESTS_BODY);
+    }
+
+    private static void writeJson(HttpServletResponse response, HttpStatus status, String body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(body);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.usedItem.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * API 요청 수 제한 설정입니다. (used-item.rate-limit.*)
+ * 경로 패턴별로 클라이언트 IP 기준, 경로의 {userId} 기준 한도를 각각 지정할 수 있고, 요청 경로에 처음 맞는 규칙
+ * 하나만 적용됩니다. 프록시 뒤에서는 server.forward-headers-strategy 로 실제 클라이언트 IP 를 받아야 합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "used-item.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 규칙/기준별로 기억하는 최대 키(IP, 사용자) 수, 넘으면 오래 쓰이지 않은 키부터 제거
+    private int maxKeys = 100_000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        // Spring PathPattern. 예: /api/users/{userId}/keywords/**
+        private String pattern;
+
+        // 클라이언트 IP 기준 한도, 지정하지 않으면 제한 없음
+        private Limit perIp;
+
+        // 경로의 {userId} 기준 한도, 지정하지 않거나 패턴에 {userId} 가 없으면 제한 없음
+        private Limit perUser;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        // 평균 초당 요청 수
+        private double requestsPerSecond;
+
+        // 한 번에 몰려도 허용하는 요청 수
+        private int burst = 1;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.usedItem.ratelimit;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 설정된 경로 규칙을 파싱해 두고, 요청 경로에 맞는 규칙의 IP / 사용자 한도를 차례로 확인합니다.
+ * 요청마다 하는 일은 경로 매칭과 키별 CAS 한두 번뿐입니다. (RateLimitBenchmark 참고)
+ * IP 와 사용자 한도가 함께 걸린 경로는 두 버킷을 모두 확인한 뒤에 소비하므로, 한쪽 한도로 거절된 요청이
+ * 다른 쪽 버킷을 깎지 않습니다.
+ */
+final class RateLimitRules {
+
+    /** 경로의 사용자 ID 가 숫자가 아니어서 요청을 거절함 (check 의 반환값) */
+    static final long INVALID_USER_ID = -1;
+
+    private static final String USER_ID_VARIABLE = "userId";
+
+    private final List<CompiledRoute> routes;
+
+    RateLimitRules(RateLimitProperties properties) {
+        PathPatternParser parser = new PathPatternParser();
+        List<CompiledRoute> compiled = new ArrayList<>();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            PathPattern pattern = parser.parse(route.getPattern());
+            GcraRateLimiter perUser = route.getPerUser() != null
+                    && pattern.getPatternString().contains("{" + USER_ID_VARIABLE + "}")
+                            ? limiter(route.getPerUser(), properties.getMaxKeys())
+                            : null;
+            GcraRateLimiter perIp = route.getPerIp() != null ? limiter(route.getPerIp(), properties.getMaxKeys())
+                    : null;
+            compiled.add(new CompiledRoute(pattern, perIp, perUser));
+        }
+        this.routes = List.copyOf(compiled);
+    }
+
+    /**
+     * @param path     컨텍스트 경로를 뺀 요청 경로
+     * @param clientIp 클라이언트 IP
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 나노초,
+     *         사용자 ID 가 올바르지 않으면 INVALID_USER_ID
+     */
+    long check(String path, String clientIp, long nowNanos) {
+        if (routes.isEmpty()) {
+            return 0;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (CompiledRoute route : routes) {
+            if (route.perUser != null) {
+                PathPattern.PathMatchInfo match = route.pattern.matchAndExtract(container);
+                if (match == null) {
+                    continue;
+                }
+                String userKey = canonicalUserId(match.getUriVariables().get(USER_ID_VARIABLE));
+                if (userKey == null) {
+                    return INVALID_USER_ID;
+                }
+                long wait = Math.max(route.perIp != null ? route.perIp.waitNanos(clientIp, nowNanos) : 0,
+                        route.perUser.waitNanos(userKey, nowNanos));
+                if (wait > 0) {
+                    return wait;
+                }
+                // 확인과 소비 사이에 같은 키의 다른 요청이 먼저 소비한 경우에만 아래에서 거절됨
+                wait = route.perIp != null ? route.perIp.tryAcquire(clientIp, nowNanos) : 0;
+                if (wait > 0) {
+                    return wait;
+                }
+                return route.perUser.tryAcquire(userKey, nowNanos);
+            }
+            if (route.pattern.matches(container)) {
+                return route.perIp != null ? route.perIp.tryAcquire(clientIp, nowNanos) : 0;
+            }
+        }
+        return 0;
+    }
+
+    // "007", "+7" 처럼 표기만 다른 ID 가 서로 다른 버킷을 쓰지 않도록 숫자로 바꿔 다시 문자열로 만듦
+    private static String canonicalUserId(String userId) {
+        try {
+            return Long.toString(Long.parseLong(userId));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static GcraRateLimiter limiter(RateLimitProperties.Limit limit, int maxKeys) {
+        return new GcraRateLimiter(limit.getRequestsPerSecond(), limit.getBurst(), maxKeys);
+    }
+
+    private record CompiledRoute(PathPattern pattern, GcraRateLimiter perIp, GcraRateLimiter perUser) {
+    }
+}
@@ -1,22 +1,70 @@
 package com.example.usedItem.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.usedItem.crawl.CrawlTarget;
 import com.example.usedItem.domain.Keyword;
+import com.example.usedItem.dto.KeywordResponseDto;
+import com.example.usedItem.matching.KeywordMatchRule;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface KeywordRepository extends JpaRepository<Keyword, Long> {
+public interface KeywordRepository extends JpaRepository<Keyword, Long>, KeywordRepositoryCustom {
 
     // 특정 사용자의 모든 키워드 조회 (생성 시간 역순 정렬)
     List<Keyword> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 키워드 목록 API 용: 응답 DTO 로 바로 조회 (엔티티/영속성 컨텍스트를 거치지 않음)
+    @Query("select new com.example.usedItem.dto.KeywordResponseDto(k.id, k.keywordText, k.targetSiteCode, "
+            + "k.active, k.minPrice, k.maxPrice, k.createdAt, k.updatedAt) from Keyword k "
+            + "where k.user.id = :userId order by k.createdAt desc")
+    List<KeywordResponseDto> findResponsesByUserId(@Param("userId") Long userId);
+
     // 특정 사용자의 특정 키워드 조회 (수정/삭제 시 사용)
     Optional<Keyword> findByIdAndUserId(Long id, Long userId);
 
     // 특정 사용자의 특정 키워드 텍스트와 사이트 코드로 키워드 존재 여부 확인 (중복 등록 방지용)
     boolean existsByUserIdAndKeywordTextAndTargetSiteCode(Long userId, String keywordText, String targetSiteCode);
-}
\ No newline at end of file
+
+    // 정규화 형태 기준 중복 확인 ("아이폰15" 와 "아이폰 15" 는 같은 키워드로 매칭되므로 함께 막음)
+    boolean existsByUserIdAndKeywordTextNormalizedAndTargetSiteCode(Long userId, String keywordTextNormalized,
+            String targetSiteCode);
+
+    // 특정 사용자의 키워드 ID 목록 (사용자 삭제 시 매칭 엔진 정리용)
+    @Query("select k.id from Keyword k where k.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    // 매칭 엔진 로드용: 활성 키워드의 필요한 컬럼만 조회 (Keyword.user 지연 로딩 없이 user_id 사용)
+    @Query("select new com.example.usedItem.matching.KeywordMatchRule(k.id, k.user.id, k.targetSiteCode, "
+            + "k.keywordText, k.keywordTextNormalized, k.minPrice, k.maxPrice) from Keyword k where k.active = true")
+    List<KeywordMatchRule> findAllActiveMatchRules();
+
+    // 크롤링 대상 묶음 조회용: (사이트, 정규화 검색어) 별 활성 키워드 요약
+    String SELECT_CRAWL_TARGET_JPQL = "select new com.example.usedItem.crawl.CrawlTarget(k.targetSiteCode, "
+            + "coalesce(k.keywordTextNormalized, k.keywordText), min(k.keywordText), count(k), max(k.lastCheckedAt), "
+            + "max(k.newItemRate)) from Keyword k where k.active = true ";
+    String GROUP_BY_CRAWL_QUERY_JPQL = "group by k.targetSiteCode, coalesce(k.keywordTextNormalized, k.keywordText) ";
+
+    // 크롤링 대상: 특정 사이트에서 확인 예정 시각이 지난 키워드가 있는 검색어 묶음 (묶음 전체의 요약)
+    // (확인한 적 없는 키워드가 있는 묶음 우선, 그다음 예정 시각이 가장 이른 묶음 순서)
+    @Query(SELECT_CRAWL_TARGET_JPQL + "and k.targetSiteCode = :siteCode "
+            + "and coalesce(k.keywordTextNormalized, k.keywordText) in ("
+            + "select coalesce(d.keywordTextNormalized, d.keywordText) from Keyword d "
+            + "where d.active = true and d.targetSiteCode = :siteCode "
+            + "and (d.nextCheckAt is null or d.nextCheckAt <= :now)) "
+            + GROUP_BY_CRAWL_QUERY_JPQL
+            + "order by max(case when k.nextCheckAt is null then 1 else 0 end) desc, min(k.nextCheckAt) asc")
+    List<CrawlTarget> findDueCrawlTargets(@Param("siteCode") String siteCode, @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    // 관리자 화면용: 모든 사이트의 검색어 묶음 요약 (크롤링 주기 구간 분포)
+    @Query(SELECT_CRAWL_TARGET_JPQL + GROUP_BY_CRAWL_QUERY_JPQL)
+    List<CrawlTarget> findAllCrawlTargets();
+}
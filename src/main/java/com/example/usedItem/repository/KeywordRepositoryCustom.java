@@ -0,0 +1,33 @@
+package com.example.usedItem.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.usedItem.crawl.CrawlSchedule;
+
+/**
+ * 크롤링 일정 일괄 갱신용 커스텀 Repository 메소드입니다.
+ * 구현체는 {@link KeywordRepositoryCustomImpl} 이며 JdbcTemplate 으로 PostgreSQL 전용 SQL 을 실행합니다.
+ */
+public interface KeywordRepositoryCustom {
+
+    /**
+     * 검색을 마친 묶음마다 해당 사이트의 같은 검색어 활성 키워드 전체에 확인 시각과 다음 일정을 기록합니다.
+     * 묶음마다 값이 달라도 배열 파라미터로 한 문장에 갱신하며, updatedAt 은 변경하지 않습니다.
+     *
+     * @param siteCode  사이트 코드
+     * @param schedules 묶음별 새 상품 속도와 다음 확인 예정 시각
+     * @param checkedAt 확인 시각
+     * @return 갱신된 키워드 수
+     */
+    int updateCrawlSchedules(String siteCode, List<CrawlSchedule> schedules, LocalDateTime checkedAt);
+
+    /**
+     * 검색이나 결과 저장에 실패한 묶음의 다음 확인 시각만 미룹니다. 확인하지 못했으므로 확인 시각과 새 상품 속도는 그대로 둡니다.
+     *
+     * @param siteCode  사이트 코드
+     * @param schedules 묶음별 다음 확인 예정 시각 (newItemRate 는 사용하지 않음)
+     * @return 갱신된 키워드 수
+     */
+    int postponeCrawlSchedules(String siteCode, List<CrawlSchedule> schedules);
+}
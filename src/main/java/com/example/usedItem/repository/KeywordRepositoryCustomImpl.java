@@ -0,0 +1,83 @@
+package com.example.usedItem.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.usedItem.crawl.CrawlSchedule;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class KeywordRepositoryCustomImpl implements KeywordRepositoryCustom {
+
+    // 정규화 값이 아직 없는 행은 원문으로 묶이므로 (findDueCrawlTargets 와 같은 기준) 원문도 함께 비교
+    private static final String UPDATE_CRAWL_SCHEDULES_SQL = """
+            UPDATE keywords k
+               SET last_checked_at = ?, new_item_rate = s.new_item_rate, next_check_at = s.next_check_at
+              FROM unnest(?::varchar[], ?::float8[], ?::timestamp[]) AS s(query, new_item_rate, next_check_at)
+             WHERE k.target_site_code = ?
+               AND k.is_active
+               AND (k.keyword_text_normalized = s.query
+                    OR (k.keyword_text_normalized IS NULL AND k.keyword_text = s.query))
+            """;
+
+    private static final String POSTPONE_CRAWL_SCHEDULES_SQL = """
+            UPDATE keywords k
+               SET next_check_at = s.next_check_at
+              FROM unnest(?::varchar[], ?::timestamp[]) AS s(query, next_check_at)
+             WHERE k.target_site_code = ?
+               AND k.is_active
+               AND (k.keyword_text_normalized = s.query
+                    OR (k.keyword_text_normalized IS NULL AND k.keyword_text = s.query))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int updateCrawlSchedules(String siteCode, List<CrawlSchedule> schedules, LocalDateTime checkedAt) {
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+        String[] queries = new String[schedules.size()];
+        Double[] rates = new Double[schedules.size()];
+        Timestamp[] nextCheckAts = new Timestamp[schedules.size()];
+        for (int i = 0; i < schedules.size(); i++) {
+            CrawlSchedule schedule = schedules.get(i);
+            queries[i] = schedule.query();
+            rates[i] = schedule.newItemRate();
+            nextCheckAts[i] = Timestamp.valueOf(schedule.nextCheckAt());
+        }
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPDATE_CRAWL_SCHEDULES_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(checkedAt));
+            ps.setArray(2, con.createArrayOf("varchar", queries));
+            ps.setArray(3, con.createArrayOf("float8", rates));
+            ps.setArray(4, con.createArrayOf("timestamp", nextCheckAts));
+            ps.setString(5, siteCode);
+            return ps;
+        });
+    }
+
+    @Override
+    public int postponeCrawlSchedules(String siteCode, List<CrawlSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+        String[] queries = new String[schedules.size()];
+        Timestamp[] nextCheckAts = new Timestamp[schedules.size()];
+        for (int i = 0; i < schedules.size(); i++) {
+            queries[i] = schedules.get(i).query();
+            nextCheckAts[i] = Timestamp.valueOf(schedules.get(i).nextCheckAt());
+        }
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(POSTPONE_CRAWL_SCHEDULES_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", queries));
+            ps.setArray(2, con.createArrayOf("timestamp", nextCheckAts));
+            ps.setString(3, siteCode);
+            return ps;
+        });
+    }
+}
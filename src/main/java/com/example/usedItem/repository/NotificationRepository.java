@@ -0,0 +1,14 @@
+package com.example.usedItem.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.usedItem.domain.Notification;
+import com.example.usedItem.domain.NotificationStatus;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
+
+    // 상태별 알림 수 (발송 대기열 깊이 메트릭용, idx_notification_status 사용)
+    long countByStatus(NotificationStatus status);
+}
@@ -0,0 +1,90 @@
+package com.example.usedItem.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.example.usedItem.domain.NotificationType;
+import com.example.usedItem.dto.KeysetCursor;
+import com.example.usedItem.dto.NotificationResponseDto;
+import com.example.usedItem.matching.KeywordMatch;
+
+/**
+ * 알림 대량 생성/상태 변경용 커스텀 Repository 메소드입니다.
+ * 구현체는 {@link NotificationRepositoryCustomImpl} 이며 JdbcTemplate 으로 PostgreSQL 전용 SQL 을 실행합니다.
+ */
+public interface NotificationRepositoryCustom {
+
+    /**
+     * 매칭 결과를 PENDING 상태 알림으로 일괄 저장합니다.
+     * 이미 같은 (user_id, item_id, keyword_id) 알림이 있으면 uk_notification_user_item_keyword 에 의해 건너뜁니다.
+     * 그사이 삭제되었거나 비활성화된 키워드, 삭제된 사용자의 매칭 결과도 예외 없이 건너뜁니다.
+     * 새로 저장된 알림 수만큼 같은 문장에서 사용자별 읽지 않은 알림 수를 늘립니다.
+     *
+     * @param matches          저장할 매칭 결과
+     * @param notificationType 알림 유형
+     * @return 실제로 새로 저장된 매칭 결과
+     */
+    List<KeywordMatch> insertAllIgnoringConflicts(List<KeywordMatch> matches, NotificationType notificationType);
+
+    /**
+     * PENDING/FAILED 상태인 알림을 SENT 로 일괄 변경합니다. (Notification.markAsSent 와 같은 규칙)
+     * 이미 SENT/READ 인 알림은 건너뜁니다.
+     *
+     * @param notificationIds 발송 완료된 알림 ID 목록
+     * @param sentAt          발송 시각
+     * @return 실제로 상태가 바뀐 알림과 해당 상품의 스크랩 시각 (발송 지연 측정용, 상품이 지워졌으면 null)
+     */
+    List<SentNotification> markAllAsSent(Collection<Long> notificationIds, LocalDateTime sentAt);
+
+    /**
+     * PENDING/FAILED 상태인 알림을 FAILED 로 일괄 변경하고 시도 횟수를 1 증가시킵니다.
+     * (Notification.markAsFailed 와 같은 규칙) 이미 SENT/READ 인 알림은 건너뜁니다.
+     *
+     * @param notificationIds 발송 실패한 알림 ID 목록
+     * @param errorMessage    실패 사유
+     * @return 실제로 상태가 바뀐 알림 ID 목록
+     */
+    List<Long> markAllAsFailed(Collection<Long> notificationIds, String errorMessage);
+
+    /**
+     * 사용자 알림함을 (created_at desc, notification_id desc) 순서로 커서 다음부터 limit 건 조회합니다.
+     * 상품/키워드 요약을 조인해 DTO 로 바로 만들므로 행마다 item/keyword 를 지연 로딩하지 않습니다.
+     *
+     * @param userId     사용자 ID
+     * @param cursor     이전 페이지 마지막 행 커서, 첫 페이지면 null
+     * @param unreadOnly true 면 READ 가 아닌 알림만
+     * @param limit      최대 조회 건수
+     */
+    List<NotificationResponseDto> findInboxPage(Long userId, KeysetCursor cursor, boolean unreadOnly, int limit);
+
+    /**
+     * 사용자의 발송된(SENT) 알림을 읽음(READ)으로 일괄 변경하고, 바뀐 수만큼 읽지 않은 알림 수를 줄입니다.
+     * 다른 사용자의 알림 ID 나 이미 읽은 알림은 무시합니다. 아직 발송 전(PENDING/FAILED)인 알림도 발송이 취소되지 않도록
+     * 건너뛰며, 발송될 때까지 읽지 않은 알림으로 남습니다.
+     *
+     * @param userId          사용자 ID
+     * @param notificationIds 읽음 처리할 알림 ID 목록, null 이면 해당 사용자의 모든 알림
+     * @return 실제로 READ 로 바뀐 알림 수
+     */
+    int markAllAsRead(Long userId, Collection<Long> notificationIds);
+
+    /**
+     * 유지 중인 카운터로 읽지 않은 알림 수를 조회합니다. (알림 테이블을 세지 않음)
+     */
+    long findUnreadCount(Long userId);
+
+    /**
+     * 모든 사용자의 읽지 않은 알림 수를 알림 테이블 기준으로 다시 계산합니다.
+     * 보관 기간 정리로 알림이 외래 키 CASCADE 로 지워지면 카운터가 어긋나므로 주기적으로 맞춥니다.
+     *
+     * @return 값이 바뀐 카운터 수
+     */
+    int reconcileUnreadCounts();
+
+    /**
+     * SENT 로 바뀐 알림 ID 와 그 알림 상품의 스크랩 시각(상품이 이미 지워졌으면 null)입니다.
+     */
+    record SentNotification(Long notificationId, LocalDateTime itemScrapedAt) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.usedItem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.usedItem.domain.NotificationStatus;
+import com.example.usedItem.domain.NotificationType;
+import com.example.usedItem.dto.KeysetCursor;
+import com.example.usedItem.dto.NotificationResponseDto;
+import com.example.usedItem.matching.KeywordMatch;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+    // IDENTITY 키라 Hibernate 배치 INSERT 가 불가능하므로 배열 파라미터로 여러 행을 한 문장에 저장
+    // 매칭 엔진 스냅샷은 비동기로 다시 만들어지므로 그 사이 삭제/비활성화된 키워드나 삭제된 사용자가 남아 있을 수 있음
+    // -> 현재 활성 키워드/사용자와 조인해 걸러 냄 (외래 키 위반으로 묶음 전체가 실패하지 않도록).
+    //    FOR KEY SHARE 로 커밋까지 해당 키워드/사용자 삭제를 막아 조인 후 삭제되는 경우도 막음
+    // 새로 들어간 알림 수만큼 같은 문장에서 읽지 않은 알림 카운터 증가 (user_id 순으로 잠가 교착 방지)
+    private static final String INSERT_IGNORING_CONFLICTS_SQL = """
+            WITH inserted AS (
+                INSERT INTO notifications (user_id, item_id, keyword_id, notification_type, status, attempt_count,
+                                           created_at)
+                SELECT t.user_id, t.item_id, t.keyword_id, ?, ?, 0, ?
+                  FROM unnest(?::int8[], ?::int8[], ?::int8[]) AS t(user_id, item_id, keyword_id)
+                  JOIN keywords k ON k.keyword_id = t.keyword_id AND k.user_id = t.user_id AND k.is_active
+                  JOIN users u ON u.user_id = t.user_id
+                   FOR KEY SHARE OF k, u
+                ON CONFLICT (user_id, item_id, keyword_id) DO NOTHING
+                RETURNING user_id, item_id, keyword_id
+            ), counted AS (
+                INSERT INTO user_notification_counters AS c (user_id, unread_count)
+                SELECT user_id, count(*) FROM inserted GROUP BY user_id ORDER BY user_id
+                ON CONFLICT (user_id) DO UPDATE SET unread_count = c.unread_count + EXCLUDED.unread_count
+            )
+            SELECT user_id, item_id, keyword_id FROM inserted
+            """;
+
+    // %s: 알림 ID 조건 (전체 읽음이면 빈 문자열)
+    // 발송된(SENT) 알림만 읽음 처리: PENDING/FAILED 를 READ 로 바꾸면 발송 대상에서 빠져 발송이 취소됨
+    // -> 아직 발송 전인 알림은 읽지 않은 상태로 남았다가 발송된 뒤에 읽음 처리됨
+    private static final String MARK_READ_SQL = """
+            WITH updated AS (
+                UPDATE notifications
+                   SET status = 'READ'
+                 WHERE user_id = ?
+                   AND status = 'SENT'
+                   %s
+                RETURNING notification_id
+            ), counted AS (
+                UPDATE user_notification_counters
+                   SET unread_count = greatest(unread_count - (SELECT count(*) FROM updated), 0)
+                 WHERE user_id = ?
+            )
+            SELECT count(*) FROM updated
+            """;
+
+    private static final String SELECT_UNREAD_COUNT_SQL =
+            "SELECT unread_count FROM user_notification_counters WHERE user_id = ?";
+
+    // 읽지 않은 알림 = READ 가 아닌 모든 알림 (PENDING/FAILED/SENT): 생성 시 증가, SENT -> READ 에서만 감소하는 카운터와 같은 기준
+    // 실제 값과 다른 카운터만 갱신 (알림이 모두 지워진 사용자는 0 으로)
+    private static final String RECONCILE_UNREAD_COUNTS_SQL = """
+            WITH actual AS (
+                SELECT user_id, count(*) AS unread_count
+                  FROM notifications
+                 WHERE status <> 'READ'
+                 GROUP BY user_id
+            ), drifted AS (
+                SELECT coalesce(a.user_id, c.user_id) AS user_id, coalesce(a.unread_count, 0) AS unread_count
+                  FROM actual a
+                  FULL JOIN user_notification_counters c ON c.user_id = a.user_id
+                 WHERE c.user_id IS NULL OR c.unread_count <> coalesce(a.unread_count, 0)
+            )
+            INSERT INTO user_notification_counters AS c (user_id, unread_count)
+            SELECT user_id, unread_count FROM drifted ORDER BY user_id
+            ON CONFLICT (user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count
+            """;
+
+    private static final String SELECT_INBOX_JPQL = "select new com.example.usedItem.dto.NotificationResponseDto("
+            + "n.id, n.notificationType, n.status, n.createdAt, n.sentAt, i.id, i.sourceSiteCode, i.title, i.price, "
+            + "i.itemUrl, i.imageUrl, k.id, k.keywordText) "
+            + "from Notification n join n.item i join n.keyword k where n.user.id = :userId";
+
+    // 상태 전이는 PENDING/FAILED 에서만 허용 -> 동시에 다른 워커가 SENT 로 바꾼 알림을 되돌리지 않음
+    // 스크랩 시각은 스칼라 서브쿼리로 읽음: 상품이 보관 기간 정리로 먼저 지워졌어도 알림은 SENT 로 바뀌어야 함
+    // (FROM 조인이면 그런 알림이 갱신되지 않아 계속 재발송됨)
+    private static final String MARK_SENT_SQL = """
+            UPDATE notifications n
+               SET status = 'SENT', sent_at = ?, error_message = NULL
+             WHERE n.notification_id = ANY(?::int8[])
+               AND n.status IN ('PENDING', 'FAILED')
+            RETURNING n.notification_id, (SELECT s.scraped_at FROM scraped_items s WHERE s.item_id = n.item_id)
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE notifications
+               SET status = 'FAILED', attempt_count = attempt_count + 1, error_message = ?
+             WHERE notification_id = ANY(?::int8[])
+               AND status IN ('PENDING', 'FAILED')
+            RETURNING notification_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public NotificationRepositoryCustomImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+            @Value("${used-item.notification.insert-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<KeywordMatch> insertAllIgnoringConflicts(List<KeywordMatch> matches,
+            NotificationType notificationType) {
+        List<KeywordMatch> inserted = new ArrayList<>();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < matches.size(); from += batchSize) {
+            List<KeywordMatch> chunk = matches.subList(from, Math.min(from + batchSize, matches.size()));
+            Long[] userIds = new Long[chunk.size()];
+            Long[] itemIds = new Long[chunk.size()];
+            Long[] keywordIds = new Long[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                KeywordMatch match = chunk.get(i);
+                userIds[i] = match.userId();
+                itemIds[i] = match.itemId();
+                keywordIds[i] = match.keywordId();
+            }
+            inserted.addAll(jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_IGNORING_CONFLICTS_SQL);
+                ps.setString(1, notificationType.name());
+                ps.setString(2, NotificationStatus.PENDING.name());
+                ps.setTimestamp(3, createdAt);
+                ps.setArray(4, con.createArrayOf("int8", userIds));
+                ps.setArray(5, con.createArrayOf("int8", itemIds));
+                ps.setArray(6, con.createArrayOf("int8", keywordIds));
+                return ps;
+            }, (rs, rowNum) -> new KeywordMatch(rs.getLong(2), rs.getLong(3), rs.getLong(1))));
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<SentNotification> markAllAsSent(Collection<Long> notificationIds, LocalDateTime sentAt) {
+        if (notificationIds.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = notificationIds.toArray(Long[]::new);
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(MARK_SENT_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(sentAt));
+            ps.setArray(2, con.createArrayOf("int8", ids));
+            return ps;
+        }, (rs, rowNum) -> {
+            Timestamp itemScrapedAt = rs.getTimestamp(2);
+            return new SentNotification(rs.getLong(1), itemScrapedAt != null ? itemScrapedAt.toLocalDateTime() : null);
+        });
+    }
+
+    @Override
+    public List<Long> markAllAsFailed(Collection<Long> notificationIds, String errorMessage) {
+        if (notificationIds.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = notificationIds.toArray(Long[]::new);
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(MARK_FAILED_SQL);
+            ps.setString(1, errorMessage);
+            ps.setArray(2, con.createArrayOf("int8", ids));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    @Override
+    public List<NotificationResponseDto> findInboxPage(Long userId, KeysetCursor cursor, boolean unreadOnly,
+            int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT_INBOX_JPQL);
+        if (unreadOnly) {
+            jpql.append(" and n.status <> :read");
+        }
+        if (cursor != null) {
+            // idx_notification_user_created_at 범위 스캔으로 다음 페이지 바로 시작
+            jpql.append(" and (n.createdAt < :cursorAt or (n.createdAt = :cursorAt and n.id < :cursorId))");
+        }
+        jpql.append(" order by n.createdAt desc, n.id desc");
+
+        TypedQuery<NotificationResponseDto> query = entityManager.createQuery(jpql.toString(),
+                NotificationResponseDto.class);
+        query.setParameter("userId", userId);
+        if (unreadOnly) {
+            query.setParameter("read", NotificationStatus.READ);
+        }
+        if (cursor != null) {
+            query.setParameter("cursorAt", cursor.at());
+            query.setParameter("cursorId", cursor.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public int markAllAsRead(Long userId, Collection<Long> notificationIds) {
+        if (notificationIds != null && notificationIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = notificationIds != null ? notificationIds.toArray(Long[]::new) : null;
+        String sql = MARK_READ_SQL.formatted(ids != null ? "AND notification_id = ANY(?::int8[])" : "");
+        Integer updated = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            int index = 1;
+            ps.setLong(index++, userId);
+            if (ids != null) {
+                ps.setArray(index++, con.createArrayOf("int8", ids));
+            }
+            ps.setLong(index, userId);
+            return ps;
+        }, rs -> rs.next() ? rs.getInt(1) : 0);
+        return updated != null ? updated : 0;
+    }
+
+    @Override
+    public long findUnreadCount(Long userId) {
+        List<Long> counts = jdbcTemplate.queryForList(SELECT_UNREAD_COUNT_SQL, Long.class, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    @Override
+    public int reconcileUnreadCounts() {
+        return jdbcTemplate.update(RECONCILE_UNREAD_COUNTS_SQL);
+    }
+}
@@ -1,16 +1,20 @@
 package com.example.usedItem.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.ScrapedItemResponseDto;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ScrapedItemRepository extends JpaRepository<ScrapedItem, Long> {
+public interface ScrapedItemRepository extends JpaRepository<ScrapedItem, Long>, ScrapedItemRepositoryCustom {
 
     // 특정 사이트의 특정 상품 ID로 조회 (중복 확인용)
     Optional<ScrapedItem> findBySourceSiteCodeAndItemSourceId(String sourceSiteCode, String itemSourceId);
@@ -25,9 +29,22 @@ public interface ScrapedItemRepository extends JpaRepository<ScrapedItem, Long>
     boolean existsByItemUrl(String itemUrl);
 
     // 알림이 발송되지 않았고, 특정 시간 이후에 스크랩된 상품 조회 (알림 대상 찾기 예시)
+    // 파티셔닝 사용 시 scraped_at 조건으로 최근 파티션만 조회됨
     List<ScrapedItem> findByNotifiedFalseAndScrapedAtAfter(LocalDateTime scrapedAfter);
 
     // 특정 사이트 코드별 상품 조회 (필요 시)
     List<ScrapedItem> findBySourceSiteCodeOrderByScrapedAtDesc(String sourceSiteCode);
 
+    // 단건 조회 API 용: 응답 DTO 로 바로 조회
+    @Query("select new com.example.usedItem.dto.ScrapedItemResponseDto(i.id, i.sourceSiteCode, i.itemSourceId, "
+            + "i.title, i.price, i.itemUrl, i.imageUrl, i.location, i.postedAtSource, i.scrapedAt, i.notified) "
+            + "from ScrapedItem i where i.id = :id")
+    Optional<ScrapedItemResponseDto> findResponseById(@Param("id") Long id);
+
+    // ID 목록으로 응답 DTO 만 바로 조회 (제목 검색 결과 등)
+    @Query("select new com.example.usedItem.dto.ScrapedItemResponseDto(i.id, i.sourceSiteCode, i.itemSourceId, "
+            + "i.title, i.price, i.itemUrl, i.imageUrl, i.location, i.postedAtSource, i.scrapedAt, i.notified) "
+            + "from ScrapedItem i where i.id in :ids")
+    List<ScrapedItemResponseDto> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
 }
\ No newline at end of file
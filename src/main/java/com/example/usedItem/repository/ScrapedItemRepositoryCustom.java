@@ -0,0 +1,66 @@
+package com.example.usedItem.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.KeysetCursor;
+import com.example.usedItem.dto.ScrapedItemResponseDto;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+
+/**
+ * Spring Data 파생 쿼리로 표현하기 어려운 대량 처리/동적 조회용 커스텀 Repository 메소드입니다.
+ * 구현체는 {@link ScrapedItemRepositoryCustomImpl} 입니다.
+ */
+public interface ScrapedItemRepositoryCustom {
+
+    /**
+     * 후보 목록 중 이미 저장된 상품(사이트코드+상품ID 또는 URL 기준)을 한 번의 쿼리로 걸러냅니다.
+     *
+     * @param candidates 중복 확인할 상품 목록
+     * @return DB 에 아직 없는 상품만 담은 리스트 (입력 순서 유지)
+     */
+    List<ScrapedItem> excludeExisting(List<ScrapedItem> candidates);
+
+    /**
+     * 상품 목록을 하나의 INSERT 문으로 저장합니다.
+     * uk_scraped_item_source / uk_scraped_item_url 에 걸리는 행은 ON CONFLICT DO NOTHING 으로 건너뜁니다.
+     * 파티셔닝 사용 시 두 유니크 키는 scraped_item_keys 에 있으므로 키를 먼저 넣고 성공한 상품만 저장합니다.
+     *
+     * @param items 저장할 상품 목록 (ID는 null이어야 함)
+     * @return 실제로 INSERT 된 행의 item_id 목록
+     */
+    List<Long> insertAllIgnoringConflicts(List<ScrapedItem> items);
+
+    /**
+     * 대량 적재용: 상품들을 COPY 로 UNLOGGED 스테이징 테이블에 보낸 뒤, 한 번의 INSERT ... SELECT 로
+     * scraped_items 에 병합합니다. 두 유니크 키에 걸리는 행(입력 안의 중복 포함)은 insertAllIgnoringConflicts 와
+     * 같은 방식으로 건너뛰고, 먼저 나온 행이 저장됩니다. 스테이징 행은 같은 트랜잭션에서 지웁니다.
+     * COPY 와 병합이 같은 커넥션을 써야 하므로 트랜잭션 안에서 호출해야 합니다.
+     * 문자열 안의 NUL 문자는 PostgreSQL 텍스트에 넣을 수 없으므로 지우고 저장합니다.
+     * 저장된 상품에는 ID 와 저장 시각을 채워 돌려주므로 다시 조회할 필요가 없습니다 (영속성 컨텍스트에는 없음).
+     *
+     * @param items 저장할 상품 (한 묶음)
+     * @return 실제로 INSERT 된 입력 상품 (입력 순서)
+     */
+    List<ScrapedItem> insertAllViaStaging(List<ScrapedItem> items);
+
+    /**
+     * 상품들을 하나의 UPDATE 문으로 알림 발송 완료 처리합니다. 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     * 이미 알림 완료된 상품은 다시 갱신하지 않습니다.
+     *
+     * @param itemIds 알림 완료 처리할 상품 ID 목록
+     * @return 실제로 상태가 바뀐 행 수
+     */
+    int markAllAsNotified(Collection<Long> itemIds);
+
+    /**
+     * 조건에 맞는 상품을 (scraped_at desc, item_id desc) 순서로 커서 다음부터 limit 건 조회합니다.
+     * 엔티티 대신 DTO 로 바로 조회하므로 영속성 컨텍스트와 notifications 지연 로딩을 거치지 않습니다.
+     *
+     * @param condition 사이트/가격/기간 필터
+     * @param cursor    이전 페이지 마지막 행 커서, 첫 페이지면 null
+     * @param limit     최대 조회 건수
+     */
+    List<ScrapedItemResponseDto> findPage(ScrapedItemSearchCondition condition, KeysetCursor cursor, int limit);
+}
@@ -0,0 +1,451 @@
+package com.example.usedItem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.KeysetCursor;
+import com.example.usedItem.dto.ScrapedItemResponseDto;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ScrapedItemRepositoryCustomImpl implements ScrapedItemRepositoryCustom {
+
+    // 두 유니크 키를 각각 인덱스로 조회할 수 있도록 OR 대신 UNION 으로 나눔
+    // %s: 유니크 키가 있는 테이블 (파티셔닝 시 scraped_item_keys)
+    private static final String SELECT_EXISTING_KEYS_SQL = """
+            SELECT s.source_site_code, s.item_source_id, s.item_url
+              FROM %s s
+              JOIN unnest(?::varchar[], ?::varchar[]) AS k(source_site_code, item_source_id)
+                ON s.source_site_code = k.source_site_code AND s.item_source_id = k.item_source_id
+            UNION
+            SELECT s.source_site_code, s.item_source_id, s.item_url
+              FROM %s s
+             WHERE s.item_url = ANY(?::varchar[])
+            """;
+
+    // ON CONFLICT 대상 미지정 -> uk_scraped_item_source, uk_scraped_item_url 모두에 대해 충돌 행을 건너뜀
+    private static final String INSERT_IGNORING_CONFLICTS_SQL = """
+            INSERT INTO scraped_items (source_site_code, item_source_id, title, title_normalized, price, item_url,
+                                       image_url, location, posted_at_source, seller_id, fingerprint,
+                                       relist_of_item_id, scraped_at, is_notified)
+            SELECT t.source_site_code, t.item_source_id, t.title, t.title_normalized, t.price, t.item_url,
+                   t.image_url, t.location, t.posted_at_source, t.seller_id, t.fingerprint, t.relist_of_item_id, ?,
+                   false
+              FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::int4[], ?::varchar[],
+                          ?::varchar[], ?::varchar[], ?::timestamp[], ?::varchar[], ?::int8[], ?::int8[])
+                AS t(source_site_code, item_source_id, title, title_normalized, price, item_url, image_url, location,
+                     posted_at_source, seller_id, fingerprint, relist_of_item_id)
+            ON CONFLICT DO NOTHING
+            RETURNING item_id
+            """;
+
+    // 파티션 테이블에는 파티션 키 없는 유니크 제약을 둘 수 없으므로 scraped_item_keys 에 먼저 키를 넣고,
+    // 충돌 없이 들어간 키의 상품만 파티션 테이블에 저장 (sql/scraped_items_partitioning.sql 참고)
+    private static final String INSERT_PARTITIONED_IGNORING_CONFLICTS_SQL = """
+            WITH input AS (
+                SELECT nextval(pg_get_serial_sequence('scraped_items', 'item_id')) AS item_id, t.*
+                  FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::int4[], ?::varchar[],
+                              ?::varchar[], ?::varchar[], ?::timestamp[], ?::varchar[], ?::int8[], ?::int8[])
+                    AS t(source_site_code, item_source_id, title, title_normalized, price, item_url, image_url,
+                         location, posted_at_source, seller_id, fingerprint, relist_of_item_id)
+            ), new_keys AS (
+                INSERT INTO scraped_item_keys (item_id, source_site_code, item_source_id, item_url, scraped_at)
+                SELECT i.item_id, i.source_site_code, i.item_source_id, i.item_url, ?
+                  FROM input i
+                ON CONFLICT DO NOTHING
+                RETURNING item_id
+            )
+            INSERT INTO scraped_items (item_id, source_site_code, item_source_id, title, title_normalized, price,
+                                       item_url, image_url, location, posted_at_source, seller_id, fingerprint,
+                                       relist_of_item_id, scraped_at, is_notified)
+            SELECT i.item_id, i.source_site_code, i.item_source_id, i.title, i.title_normalized, i.price,
+                   i.item_url, i.image_url, i.location, i.posted_at_source, i.seller_id, i.fingerprint,
+                   i.relist_of_item_id, ?, false
+              FROM input i
+              JOIN new_keys k ON k.item_id = i.item_id
+            RETURNING item_id
+            """;
+
+    // 대량 적재용 스테이징 테이블. WAL 을 남기지 않는 UNLOGGED 라 COPY 가 빠르고, 장애 시 내용이 사라져도
+    // 병합 전 데이터뿐이라 문제없음. 동시 적재는 ingest_id 로 구분하고 병합 후 같은 트랜잭션에서 지움
+    private static final String CREATE_STAGING_TABLE_SQL = """
+            CREATE UNLOGGED TABLE IF NOT EXISTS scraped_items_ingest_staging (
+                ingest_id         bigint        NOT NULL,
+                seq               integer       NOT NULL,
+                source_site_code  varchar(20)   NOT NULL,
+                item_source_id    varchar(100)  NOT NULL,
+                title             varchar(500)  NOT NULL,
+                title_normalized  varchar(500),
+                price             integer,
+                item_url          varchar(2048) NOT NULL,
+                image_url         varchar(2048),
+                location          varchar(100),
+                posted_at_source  timestamp(6),
+                seller_id         varchar(100),
+                fingerprint       bigint,
+                relist_of_item_id bigint
+            )
+            """;
+
+    private static final String COPY_INTO_STAGING_SQL = """
+            COPY scraped_items_ingest_staging (ingest_id, seq, source_site_code, item_source_id, title,
+                                               title_normalized, price, item_url, image_url, location,
+                                               posted_at_source, seller_id, fingerprint, relist_of_item_id)
+            FROM STDIN
+            """;
+
+    // 병합 때마다 ingest_id 로 거르고 지우므로, 다른 적재가 남긴 행이 쌓여도 전체를 훑지 않도록 인덱스를 둠
+    private static final String CREATE_STAGING_INDEX_SQL = """
+            CREATE INDEX IF NOT EXISTS idx_scraped_items_ingest_staging_ingest_id
+                ON scraped_items_ingest_staging (ingest_id)
+            """;
+
+    // 입력 순서(seq)대로 넣어 같은 키가 여러 번 있으면 먼저 나온 행이 저장됨
+    // item_id 를 미리 받아 두고 저장된 행의 (seq, item_id) 를 돌려줌 -> 호출자가 입력 엔티티에 ID 를 채울 수 있음
+    private static final String MERGE_STAGING_SQL = """
+            WITH input AS (
+                SELECT nextval(pg_get_serial_sequence('scraped_items', 'item_id')) AS item_id, s.*
+                  FROM (SELECT * FROM scraped_items_ingest_staging WHERE ingest_id = ? ORDER BY seq) s
+            ), inserted AS (
+                INSERT INTO scraped_items (item_id, source_site_code, item_source_id, title, title_normalized, price,
+                                           item_url, image_url, location, posted_at_source, seller_id, fingerprint,
+                                           relist_of_item_id, scraped_at, is_notified)
+                SELECT i.item_id, i.source_site_code, i.item_source_id, i.title, i.title_normalized, i.price,
+                       i.item_url, i.image_url, i.location, i.posted_at_source, i.seller_id, i.fingerprint,
+                       i.relist_of_item_id, ?, false
+                  FROM input i
+                 ORDER BY i.seq
+                ON CONFLICT DO NOTHING
+                RETURNING item_id
+            )
+            SELECT i.seq, i.item_id
+              FROM input i
+              JOIN inserted n ON n.item_id = i.item_id
+             ORDER BY i.seq
+            """;
+
+    private static final String MERGE_STAGING_PARTITIONED_SQL = """
+            WITH input AS (
+                SELECT nextval(pg_get_serial_sequence('scraped_items', 'item_id')) AS item_id, s.*
+                  FROM (SELECT * FROM scraped_items_ingest_staging WHERE ingest_id = ? ORDER BY seq) s
+            ), new_keys AS (
+                INSERT INTO scraped_item_keys (item_id, source_site_code, item_source_id, item_url, scraped_at)
+                SELECT i.item_id, i.source_site_code, i.item_source_id, i.item_url, ?
+                  FROM input i
+                 ORDER BY i.seq
+                ON CONFLICT DO NOTHING
+                RETURNING item_id
+            ), inserted AS (
+                INSERT INTO scraped_items (item_id, source_site_code, item_source_id, title, title_normalized, price,
+                                           item_url, image_url, location, posted_at_source, seller_id, fingerprint,
+                                           relist_of_item_id, scraped_at, is_notified)
+                SELECT i.item_id, i.source_site_code, i.item_source_id, i.title, i.title_normalized, i.price,
+                       i.item_url, i.image_url, i.location, i.posted_at_source, i.seller_id, i.fingerprint,
+                       i.relist_of_item_id, ?, false
+                  FROM input i
+                  JOIN new_keys k ON k.item_id = i.item_id
+                RETURNING item_id
+            )
+            SELECT i.seq, i.item_id
+              FROM input i
+              JOIN inserted n ON n.item_id = i.item_id
+             ORDER BY i.seq
+            """;
+
+    private static final String DELETE_STAGING_SQL = "DELETE FROM scraped_items_ingest_staging WHERE ingest_id = ?";
+
+    // IN (?, ?, ...) 대신 배열 하나로 바인딩 -> 건수와 상관없이 같은 문장, 바인드 파라미터 수 제한도 없음
+    private static final String MARK_NOTIFIED_SQL = """
+            UPDATE scraped_items
+               SET is_notified = true
+             WHERE item_id = ANY(?::int8[])
+               AND is_notified = false
+            """;
+
+    private static final String SELECT_RESPONSE_DTO_JPQL = "select new com.example.usedItem.dto.ScrapedItemResponseDto("
+            + "i.id, i.sourceSiteCode, i.itemSourceId, i.title, i.price, i.itemUrl, i.imageUrl, i.location, "
+            + "i.postedAtSource, i.scrapedAt, i.notified) from ScrapedItem i where 1 = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final boolean partitioned;
+    private final String selectExistingKeysSql;
+    private volatile boolean stagingTableReady;
+
+    public ScrapedItemRepositoryCustomImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+            @Value("${used-item.partitioning.enabled:false}") boolean partitioned) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.partitioned = partitioned;
+        String keysTable = partitioned ? "scraped_item_keys" : "scraped_items";
+        this.selectExistingKeysSql = SELECT_EXISTING_KEYS_SQL.formatted(keysTable, keysTable);
+    }
+
+    @Override
+    public List<ScrapedItem> excludeExisting(List<ScrapedItem> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        int size = candidates.size();
+        String[] siteCodes = new String[size];
+        String[] sourceIds = new String[size];
+        String[] urls = new String[size];
+        for (int i = 0; i < size; i++) {
+            ScrapedItem item = candidates.get(i);
+            siteCodes[i] = item.getSourceSiteCode();
+            sourceIds[i] = item.getItemSourceId();
+            urls[i] = item.getItemUrl();
+        }
+
+        Set<String> existingSourceKeys = new HashSet<>();
+        Set<String> existingUrls = new HashSet<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(selectExistingKeysSql);
+            ps.setArray(1, varcharArray(con, siteCodes));
+            ps.setArray(2, varcharArray(con, sourceIds));
+            ps.setArray(3, varcharArray(con, urls));
+            return ps;
+        }, rs -> {
+            existingSourceKeys.add(sourceKey(rs.getString(1), rs.getString(2)));
+            existingUrls.add(rs.getString(3));
+        });
+
+        List<ScrapedItem> notExisting = new ArrayList<>(size);
+        for (ScrapedItem item : candidates) {
+            if (!existingUrls.contains(item.getItemUrl())
+                    && !existingSourceKeys.contains(sourceKey(item.getSourceSiteCode(), item.getItemSourceId()))) {
+                notExisting.add(item);
+            }
+        }
+        return notExisting;
+    }
+
+    @Override
+    public List<Long> insertAllIgnoringConflicts(List<ScrapedItem> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        int size = items.size();
+        String[] siteCodes = new String[size];
+        String[] sourceIds = new String[size];
+        String[] titles = new String[size];
+        String[] normalizedTitles = new String[size];
+        Integer[] prices = new Integer[size];
+        String[] urls = new String[size];
+        String[] imageUrls = new String[size];
+        String[] locations = new String[size];
+        Timestamp[] postedAts = new Timestamp[size];
+        String[] sellerIds = new String[size];
+        Long[] fingerprints = new Long[size];
+        Long[] relistOfItemIds = new Long[size];
+        for (int i = 0; i < size; i++) {
+            ScrapedItem item = items.get(i);
+            siteCodes[i] = item.getSourceSiteCode();
+            sourceIds[i] = item.getItemSourceId();
+            titles[i] = item.getTitle();
+            normalizedTitles[i] = item.getTitleNormalized();
+            prices[i] = item.getPrice();
+            urls[i] = item.getItemUrl();
+            imageUrls[i] = item.getImageUrl();
+            locations[i] = item.getLocation();
+            postedAts[i] = item.getPostedAtSource() != null ? Timestamp.valueOf(item.getPostedAtSource()) : null;
+            sellerIds[i] = item.getSellerId();
+            fingerprints[i] = item.getFingerprint();
+            relistOfItemIds[i] = item.getRelistOfItemId();
+        }
+        // @CreationTimestamp 와 동일하게 애플리케이션 시간 기준으로 스크랩 시각 기록
+        Timestamp scrapedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(partitioned
+                    ? INSERT_PARTITIONED_IGNORING_CONFLICTS_SQL
+                    : INSERT_IGNORING_CONFLICTS_SQL);
+            int index = 1;
+            if (!partitioned) {
+                ps.setTimestamp(index++, scrapedAt);
+            }
+            ps.setArray(index++, varcharArray(con, siteCodes));
+            ps.setArray(index++, varcharArray(con, sourceIds));
+            ps.setArray(index++, varcharArray(con, titles));
+            ps.setArray(index++, varcharArray(con, normalizedTitles));
+            ps.setArray(index++, con.createArrayOf("int4", prices));
+            ps.setArray(index++, varcharArray(con, urls));
+            ps.setArray(index++, varcharArray(con, imageUrls));
+            ps.setArray(index++, varcharArray(con, locations));
+            ps.setArray(index++, con.createArrayOf("timestamp", postedAts));
+            ps.setArray(index++, varcharArray(con, sellerIds));
+            ps.setArray(index++, con.createArrayOf("int8", fingerprints));
+            ps.setArray(index++, con.createArrayOf("int8", relistOfItemIds));
+            if (partitioned) {
+                ps.setTimestamp(index++, scrapedAt); // scraped_item_keys
+                ps.setTimestamp(index, scrapedAt); // scraped_items
+            }
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    @Override
+    public List<ScrapedItem> insertAllViaStaging(List<ScrapedItem> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        if (!stagingTableReady) {
+            jdbcTemplate.execute(CREATE_STAGING_TABLE_SQL);
+            jdbcTemplate.execute(CREATE_STAGING_INDEX_SQL);
+            stagingTableReady = true;
+        }
+        long ingestId = ThreadLocalRandom.current().nextLong();
+        StringBuilder rows = new StringBuilder(items.size() * 256);
+        for (int seq = 0; seq < items.size(); seq++) {
+            appendCopyRow(rows, ingestId, seq, items.get(seq));
+        }
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            CopyIn copy = con.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING_SQL);
+            try {
+                copy.writeToCopy(bytes, 0, bytes.length);
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy(); // 전송 실패 -> 트랜잭션과 함께 롤백
+                }
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS); // timestamp(6) 와 같은 정밀도
+        Timestamp scrapedAt = Timestamp.valueOf(now);
+        RowMapper<ScrapedItem> toSavedItem = (rs, rowNum) -> {
+            ScrapedItem item = items.get(rs.getInt("seq"));
+            item.markAsSaved(rs.getLong("item_id"), now);
+            return item;
+        };
+        List<ScrapedItem> savedItems = partitioned
+                ? jdbcTemplate.query(MERGE_STAGING_PARTITIONED_SQL, toSavedItem, ingestId, scrapedAt, scrapedAt)
+                : jdbcTemplate.query(MERGE_STAGING_SQL, toSavedItem, ingestId, scrapedAt);
+        jdbcTemplate.update(DELETE_STAGING_SQL, ingestId);
+        return savedItems;
+    }
+
+    @Override
+    public int markAllAsNotified(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = itemIds.toArray(Long[]::new);
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(MARK_NOTIFIED_SQL);
+            ps.setArray(1, con.createArrayOf("int8", ids));
+            return ps;
+        });
+    }
+
+    @Override
+    public List<ScrapedItemResponseDto> findPage(ScrapedItemSearchCondition condition, KeysetCursor cursor,
+            int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT_RESPONSE_DTO_JPQL);
+        Map<String, Object> params = new HashMap<>();
+        if (condition.getSourceSiteCode() != null) {
+            jpql.append(" and i.sourceSiteCode = :sourceSiteCode");
+            params.put("sourceSiteCode", condition.getSourceSiteCode());
+        }
+        if (condition.getMinPrice() != null) {
+            jpql.append(" and i.price >= :minPrice");
+            params.put("minPrice", condition.getMinPrice());
+        }
+        if (condition.getMaxPrice() != null) {
+            jpql.append(" and i.price <= :maxPrice");
+            params.put("maxPrice", condition.getMaxPrice());
+        }
+        if (condition.getScrapedFrom() != null) {
+            jpql.append(" and i.scrapedAt >= :scrapedFrom");
+            params.put("scrapedFrom", condition.getScrapedFrom());
+        }
+        if (condition.getScrapedTo() != null) {
+            jpql.append(" and i.scrapedAt < :scrapedTo");
+            params.put("scrapedTo", condition.getScrapedTo());
+        }
+        if (cursor != null) {
+            // (scraped_at, item_id) < (:cursorAt, :cursorId) -> 인덱스 범위 스캔으로 다음 페이지 바로 시작
+            jpql.append(" and (i.scrapedAt < :cursorAt or (i.scrapedAt = :cursorAt and i.id < :cursorId))");
+            params.put("cursorAt", cursor.at());
+            params.put("cursorId", cursor.id());
+        }
+        jpql.append(" order by i.scrapedAt desc, i.id desc");
+
+        TypedQuery<ScrapedItemResponseDto> query = entityManager.createQuery(jpql.toString(),
+                ScrapedItemResponseDto.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // COPY text 형식: 탭 구분, NULL 은 \N, 값 안의 역슬래시/탭/줄바꿈은 이스케이프
+    static void appendCopyRow(StringBuilder rows, long ingestId, int seq, ScrapedItem item) {
+        rows.append(ingestId).append('\t').append(seq);
+        appendCopyValue(rows, item.getSourceSiteCode());
+        appendCopyValue(rows, item.getItemSourceId());
+        appendCopyValue(rows, item.getTitle());
+        appendCopyValue(rows, item.getTitleNormalized());
+        appendCopyValue(rows, item.getPrice());
+        appendCopyValue(rows, item.getItemUrl());
+        appendCopyValue(rows, item.getImageUrl());
+        appendCopyValue(rows, item.getLocation());
+        appendCopyValue(rows, item.getPostedAtSource() != null ? Timestamp.valueOf(item.getPostedAtSource()) : null);
+        appendCopyValue(rows, item.getSellerId());
+        appendCopyValue(rows, item.getFingerprint());
+        appendCopyValue(rows, item.getRelistOfItemId());
+        rows.append('\n');
+    }
+
+    static void appendCopyValue(StringBuilder rows, Object value) {
+        rows.append('\t');
+        if (value == null) {
+            rows.append("\\N");
+            return;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\t' -> rows.append("\\t");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                // PostgreSQL 텍스트는 NUL 을 담을 수 없고 COPY 이스케이프(\0)도 거부하므로 지움
+                case '\0' -> {
+                }
+                default -> rows.append(c);
+            }
+        }
+    }
+
+    private static Array varcharArray(Connection con, String[] values) throws SQLException {
+        return con.createArrayOf("varchar", values);
+    }
+
+    private static String sourceKey(String sourceSiteCode, String itemSourceId) {
+        return sourceSiteCode + '\u0000' + itemSourceId;
+    }
+}
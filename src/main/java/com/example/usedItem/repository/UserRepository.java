@@ -1,14 +1,18 @@
 package com.example.usedItem.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository; // @Repository 추가 권장
 
 import com.example.usedItem.domain.User;
+import com.example.usedItem.dto.UserResponseDto;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository // 명시적으로 추가
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     // 이메일로 사용자 찾기 (로그인 또는 중복 체크 시 사용)
     Optional<User> findByEmail(String email);
@@ -16,6 +20,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 닉네임으로 사용자 찾기 (중복 체크 시 사용)
     Optional<User> findByNickname(String nickname);
 
+    // 조회 API 용: 응답 DTO 로 바로 조회 (keywords/notifications 컬렉션을 가진 엔티티를 만들지 않음)
+    @Query("select new com.example.usedItem.dto.UserResponseDto(u.id, u.email, u.nickname, u.role, u.status, "
+            + "u.createdAt, u.updatedAt) from User u where u.id = :id")
+    Optional<UserResponseDto> findResponseById(@Param("id") Long id);
+
+    @Query("select new com.example.usedItem.dto.UserResponseDto(u.id, u.email, u.nickname, u.role, u.status, "
+            + "u.createdAt, u.updatedAt) from User u where u.email = :email")
+    Optional<UserResponseDto> findResponseByEmail(@Param("email") String email);
+
+    // 가입 시 이메일/닉네임 중복을 한 번에 확인: 둘 중 하나라도 겹치는 사용자의 이메일 (없으면 빈 목록)
+    @Query("select u.email from User u where u.email = :email or u.nickname = :nickname")
+    List<String> findConflictingEmails(@Param("email") String email, @Param("nickname") String nickname);
+
     // 이메일 존재 여부 확인 (더 효율적)
     boolean existsByEmail(String email);
 
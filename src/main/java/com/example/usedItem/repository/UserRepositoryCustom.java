@@ -0,0 +1,21 @@
+package com.example.usedItem.repository;
+
+import java.util.List;
+
+import com.example.usedItem.dto.KeysetCursor;
+import com.example.usedItem.dto.UserResponseDto;
+
+/**
+ * 사용자 동적 조회용 커스텀 Repository 메소드입니다. 구현체는 {@link UserRepositoryCustomImpl} 입니다.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 사용자를 (created_at desc, user_id desc) 순서로 커서 다음부터 limit 건 조회합니다.
+     * 엔티티 대신 DTO 로 바로 조회하므로 keywords/notifications 컬렉션을 거치지 않습니다.
+     *
+     * @param cursor 이전 페이지 마지막 행 커서, 첫 페이지면 null
+     * @param limit  최대 조회 건수
+     */
+    List<UserResponseDto> findPage(KeysetCursor cursor, int limit);
+}
@@ -0,0 +1,32 @@
+package com.example.usedItem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import com.example.usedItem.dto.KeysetCursor;
+import com.example.usedItem.dto.UserResponseDto;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String SELECT_RESPONSE_DTO_JPQL = "select new com.example.usedItem.dto.UserResponseDto("
+            + "u.id, u.email, u.nickname, u.role, u.status, u.createdAt, u.updatedAt) from User u";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<UserResponseDto> findPage(KeysetCursor cursor, int limit) {
+        String where = cursor == null ? ""
+                : " where u.createdAt < :cursorAt or (u.createdAt = :cursorAt and u.id < :cursorId)";
+        TypedQuery<UserResponseDto> query = entityManager.createQuery(
+                SELECT_RESPONSE_DTO_JPQL + where + " order by u.createdAt desc, u.id desc", UserResponseDto.class);
+        if (cursor != null) {
+            query.setParameter("cursorAt", cursor.at());
+            query.setParameter("cursorId", cursor.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.usedItem.search;
+
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+import com.example.usedItem.text.TextNormalizer;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 제목 토큰 -> 문서 번호 역색인 한 세대입니다.
+ *
+ * 문서 번호(docNo)는 색인에 들어온 순서대로 0부터 붙는 조밀한 int 이고, 문서 번호별 상품 ID/스크랩 시각/가격/사이트는
+ * 기본형 배열에 둡니다. 새 상품은 항상 뒤에 붙으므로 문서 번호 내림차순이 곧 최신순입니다.
+ *
+ * ngramSize 가 0 보다 크면 정규화 제목의 글자 n-gram 역색인도 함께 만들어, 검색어 n-gram 을 일정 비율 이상
+ * 공유하는 상품을 해당 n-gram 목록만 병합해서 찾습니다. (전체 상품을 훑지 않음)
+ */
+final class InvertedIndex {
+
+    private static final int NO_PRICE = Integer.MIN_VALUE;
+    private static final int UNKNOWN_SITE = -2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, PostingList> ngramPostings = new HashMap<>();
+    private final Map<String, Short> siteIds = new HashMap<>();
+    private final int ngramSize;
+    private final boolean ngramJamo;
+    private long tokenBytes;
+
+    private long[] itemIds = new long[1024];
+    private long[] scrapedAts = new long[1024]; // epoch seconds (LocalDateTime 을 UTC 로 간주, 비교용)
+    private int[] prices = new int[1024];
+    private short[] sites = new short[1024];
+    private int size;
+    // DB 에서 item_id 오름차순으로 적재한 구간 [0, snapshotSize) -> 재구성 중 들어온 상품 중복 확인용
+    private int snapshotSize;
+
+    InvertedIndex() {
+        this(0, false);
+    }
+
+    InvertedIndex(int ngramSize, boolean ngramJamo) {
+        this.ngramSize = ngramSize;
+        this.ngramJamo = ngramJamo;
+    }
+
+    void add(long itemId, String siteCode, String title, Integer price, LocalDateTime scrapedAt) {
+        add(itemId, siteCode, title, TextNormalizer.normalize(title), price, scrapedAt);
+    }
+
+    /**
+     * @param normalizedTitle 저장 시 계산해 둔 정규화 제목 (title_normalized)
+     */
+    void add(long itemId, String siteCode, String title, String normalizedTitle, Integer price,
+            LocalDateTime scrapedAt) {
+        List<String> tokens = TitleTokenizer.tokenize(title);
+        List<String> grams = TitleTokenizer.ngrams(normalizedTitle, ngramSize, ngramJamo);
+        lock.writeLock().lock();
+        try {
+            if (size == itemIds.length) {
+                int capacity = size + (size >> 1);
+                itemIds = Arrays.copyOf(itemIds, capacity);
+                scrapedAts = Arrays.copyOf(scrapedAts, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                sites = Arrays.copyOf(sites, capacity);
+            }
+            int docNo = size++;
+            itemIds[docNo] = itemId;
+            scrapedAts[docNo] = scrapedAt.toEpochSecond(ZoneOffset.UTC);
+            prices[docNo] = price != null ? price : NO_PRICE;
+            sites[docNo] = siteIds.computeIfAbsent(siteCode, code -> (short) siteIds.size());
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> {
+                    tokenBytes += 40L + 2L * key.length();
+                    return new PostingList();
+                }).add(docNo);
+            }
+            for (String gram : grams) {
+                ngramPostings.computeIfAbsent(gram, key -> {
+                    tokenBytes += 40L + 2L * key.length();
+                    return new PostingList();
+                }).add(docNo);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<String> ngramsOf(String normalizedText) {
+        return TitleTokenizer.ngrams(normalizedText, ngramSize, ngramJamo);
+    }
+
+    /**
+     * 지금까지 추가한 문서를 DB 스냅샷 구간으로 표시합니다. (item_id 오름차순으로 추가한 뒤 호출)
+     */
+    void markSnapshotLoaded() {
+        lock.writeLock().lock();
+        try {
+            snapshotSize = size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean snapshotContains(long itemId) {
+        lock.readLock().lock();
+        try {
+            return Arrays.binarySearch(itemIds, 0, snapshotSize, itemId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 토큰을 포함하고 조건에 맞는 상품 ID 를 최신순으로 최대 limit 개 반환합니다.
+     */
+    long[] search(List<String> tokens, ScrapedItemSearchCondition condition, int limit) {
+        if (tokens.isEmpty() || limit <= 0) {
+            return new long[0];
+        }
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                PostingList list = postings.get(token);
+                if (list == null) {
+                    return new long[0];
+                }
+                lists.add(list);
+            }
+            int site = siteOf(condition);
+            if (site == UNKNOWN_SITE) {
+                return new long[0];
+            }
+            // 가장 짧은 목록을 최신순으로 훑고 나머지는 포함 여부만 확인
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            PostingList.Cursor[] others = new PostingList.Cursor[lists.size() - 1];
+            for (int i = 1; i < lists.size(); i++) {
+                others[i - 1] = lists.get(i).cursor();
+            }
+            Filter filter = new Filter(site, condition);
+            long[] result = new long[limit];
+            int[] found = { 0 };
+            lists.get(0).forEachDescending(docNo -> {
+                if (!filter.accepts(docNo)) {
+                    return true;
+                }
+                for (PostingList.Cursor other : others) {
+                    if (!other.contains(docNo)) {
+                        return true;
+                    }
+                }
+                result[found[0]++] = itemIds[docNo];
+                return found[0] < limit;
+            });
+            return Arrays.copyOf(result, found[0]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 n-gram 중 minShared 개 이상을 공유하고 조건에 맞는 상품 ID 를 최신순으로 최대 limit 개 반환합니다.
+     * 각 n-gram 목록을 내림차순으로 동시에 훑으며 같은 문서 번호가 몇 개 목록에 있는지 셉니다.
+     */
+    long[] fuzzySearch(List<String> grams, int minShared, ScrapedItemSearchCondition condition, int limit) {
+        if (grams.isEmpty() || minShared <= 0 || limit <= 0) {
+            return new long[0];
+        }
+        lock.readLock().lock();
+        try {
+            int site = siteOf(condition);
+            if (site == UNKNOWN_SITE) {
+                return new long[0];
+            }
+            // 색인에 없는 n-gram 은 어떤 상품과도 공유되지 않으므로 제외
+            List<PostingList.DescendingIterator> iterators = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                PostingList list = ngramPostings.get(gram);
+                if (list != null) {
+                    iterators.add(list.descendingIterator());
+                }
+            }
+            int[] heads = new int[iterators.size()];
+            int live = 0;
+            for (int i = 0; i < heads.length; i++) {
+                heads[i] = iterators.get(i).next();
+                if (heads[i] >= 0) {
+                    live++;
+                }
+            }
+            Filter filter = new Filter(site, condition);
+            long[] result = new long[limit];
+            int found = 0;
+            // 남은 목록 수가 minShared 보다 적으면 더 이상 조건을 채우는 문서가 없음
+            while (live >= minShared && found < limit) {
+                int docNo = -1;
+                for (int head : heads) {
+                    docNo = Math.max(docNo, head);
+                }
+                int shared = 0;
+                for (int i = 0; i < heads.length; i++) {
+                    if (heads[i] == docNo) {
+                        shared++;
+                        heads[i] = iterators.get(i).next();
+                        if (heads[i] < 0) {
+                            live--;
+                        }
+                    }
+                }
+                if (shared >= minShared && filter.accepts(docNo)) {
+                    result[found++] = itemIds[docNo];
+                }
+            }
+            return Arrays.copyOf(result, found);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 22L * itemIds.length + tokenBytes;
+            for (PostingList list : postings.values()) {
+                bytes += list.sizeInBytes();
+            }
+            for (PostingList list : ngramPostings.values()) {
+                bytes += list.sizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 락 안에서 호출. 사이트 조건이 없으면 -1, 색인에 없는 사이트면 UNKNOWN_SITE
+    private int siteOf(ScrapedItemSearchCondition condition) {
+        if (condition.getSourceSiteCode() == null) {
+            return -1;
+        }
+        Short siteId = siteIds.get(condition.getSourceSiteCode());
+        return siteId != null ? siteId : UNKNOWN_SITE;
+    }
+
+    private final class Filter {
+
+        private final int site;
+        private final int minPrice;
+        private final int maxPrice;
+        private final boolean priceFiltered;
+        private final long scrapedFrom;
+        private final long scrapedTo;
+
+        Filter(int site, ScrapedItemSearchCondition condition) {
+            this.site = site;
+            this.priceFiltered = condition.getMinPrice() != null || condition.getMaxPrice() != null;
+            this.minPrice = condition.getMinPrice() != null ? condition.getMinPrice() : Integer.MIN_VALUE + 1;
+            this.maxPrice = condition.getMaxPrice() != null ? condition.getMaxPrice() : Integer.MAX_VALUE;
+            this.scrapedFrom = condition.getScrapedFrom() != null
+                    ? condition.getScrapedFrom().toEpochSecond(ZoneOffset.UTC)
+                    : Long.MIN_VALUE;
+            this.scrapedTo = condition.getScrapedTo() != null
+                    ? condition.getScrapedTo().toEpochSecond(ZoneOffset.UTC)
+                    : Long.MAX_VALUE;
+        }
+
+        boolean accepts(int docNo) {
+            if (site >= 0 && sites[docNo] != site) {
+                return false;
+            }
+            // 가격 조건이 있으면 가격 없는 상품은 제외 (목록 API 의 price >= / <= 조건과 동일)
+            if (priceFiltered && (prices[docNo] == NO_PRICE || prices[docNo] < minPrice
+                    || prices[docNo] > maxPrice)) {
+                return false;
+            }
+            return scrapedAts[docNo] >= scrapedFrom && scrapedAts[docNo] < scrapedTo;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.usedItem.search;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 한 토큰이 등장한 문서 번호(docNo) 목록입니다. 문서 번호는 오름차순으로만 추가됩니다.
+ *
+ * 128개씩 블록으로 묶어 이전 값과의 차이를 VByte 로 압축하고, 블록마다 마지막 문서 번호를 따로 두어
+ * 포함 여부 확인 시 해당 블록만 풀도록 합니다. 아직 블록을 채우지 못한 최근 문서는 압축하지 않은 tail 에 둡니다.
+ * 동기화는 {@link InvertedIndex} 의 읽기/쓰기 락에 맡깁니다.
+ */
+final class PostingList {
+
+    static final int BLOCK_SIZE = 128;
+
+    private static final byte[] EMPTY_BYTES = new byte[0];
+    private static final int[] EMPTY_INTS = new int[0];
+
+    private byte[] data = EMPTY_BYTES;
+    private int dataLength;
+    private int[] blockOffset = EMPTY_INTS;
+    private int[] blockLastDoc = EMPTY_INTS;
+    private int blockCount;
+
+    // 대부분의 토큰은 문서 몇 개에만 등장하므로 작게 시작해서 BLOCK_SIZE 까지 늘림
+    private int[] tail = new int[2];
+    private int tailSize;
+    private int lastDoc = -1;
+
+    void add(int docNo) {
+        if (docNo <= lastDoc) {
+            return;
+        }
+        if (tailSize == BLOCK_SIZE) {
+            flushTail();
+        }
+        if (tailSize == tail.length) {
+            tail = Arrays.copyOf(tail, Math.min(BLOCK_SIZE, tail.length * 2));
+        }
+        tail[tailSize++] = docNo;
+        lastDoc = docNo;
+    }
+
+    int size() {
+        return blockCount * BLOCK_SIZE + tailSize;
+    }
+
+    /**
+     * 문서 번호 내림차순(최신순)으로 순회합니다. action 이 false 를 반환하면 중단합니다.
+     */
+    void forEachDescending(IntPredicate action) {
+        for (int i = tailSize - 1; i >= 0; i--) {
+            if (!action.test(tail[i])) {
+                return;
+            }
+        }
+        int[] block = new int[BLOCK_SIZE];
+        for (int b = blockCount - 1; b >= 0; b--) {
+            decodeBlock(b, block);
+            for (int i = BLOCK_SIZE - 1; i >= 0; i--) {
+                if (!action.test(block[i])) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 포함 여부 확인용 커서. 마지막으로 푼 블록을 재사용하므로 내림차순으로 확인할 때 블록을 한 번씩만 풉니다.
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 문서 번호 내림차순 반복자. 여러 목록을 함께 병합할 때 사용합니다.
+     */
+    DescendingIterator descendingIterator() {
+        return new DescendingIterator();
+    }
+
+    long sizeInBytes() {
+        return 48L + data.length + 4L * (blockOffset.length + blockLastDoc.length + tail.length);
+    }
+
+    private void flushTail() {
+        if (blockCount == blockOffset.length) {
+            int capacity = Math.max(4, blockCount * 2);
+            blockOffset = Arrays.copyOf(blockOffset, capacity);
+            blockLastDoc = Arrays.copyOf(blockLastDoc, capacity);
+        }
+        // VByte 는 값 하나에 최대 5바이트
+        if (data.length - dataLength < BLOCK_SIZE * 5) {
+            data = Arrays.copyOf(data, Math.max(data.length * 3 / 2, dataLength + BLOCK_SIZE * 5));
+        }
+        blockOffset[blockCount] = dataLength;
+        int previous = blockCount == 0 ? -1 : blockLastDoc[blockCount - 1];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            int delta = tail[i] - previous;
+            while ((delta & ~0x7F) != 0) {
+                data[dataLength++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[dataLength++] = (byte) delta;
+            previous = tail[i];
+        }
+        blockLastDoc[blockCount] = previous;
+        blockCount++;
+        tailSize = 0;
+    }
+
+    private void decodeBlock(int block, int[] out) {
+        int position = blockOffset[block];
+        int previous = block == 0 ? -1 : blockLastDoc[block - 1];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += delta;
+            out[i] = previous;
+        }
+    }
+
+    final class Cursor {
+
+        private final int[] block = new int[BLOCK_SIZE];
+        private int decodedBlock = -1;
+
+        boolean contains(int docNo) {
+            if (tailSize > 0 && docNo >= tail[0]) {
+                return Arrays.binarySearch(tail, 0, tailSize, docNo) >= 0;
+            }
+            int b = Arrays.binarySearch(blockLastDoc, 0, blockCount, docNo);
+            if (b >= 0) {
+                return true;
+            }
+            b = -b - 1; // docNo 보다 큰 마지막 문서 번호를 가진 첫 블록
+            if (b >= blockCount) {
+                return false;
+            }
+            if (b != decodedBlock) {
+                decodeBlock(b, block);
+                decodedBlock = b;
+            }
+            return Arrays.binarySearch(block, docNo) >= 0;
+        }
+    }
+
+    final class DescendingIterator {
+
+        private final int[] block = new int[BLOCK_SIZE];
+        private int[] current = tail;
+        private int position = tailSize - 1;
+        private int nextBlock = blockCount - 1;
+
+        /**
+         * @return 다음 문서 번호, 끝이면 -1
+         */
+        int next() {
+            while (position < 0) {
+                if (nextBlock < 0) {
+                    return -1;
+                }
+                decodeBlock(nextBlock--, block);
+                current = block;
+                position = BLOCK_SIZE - 1;
+            }
+            return current[position--];
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.usedItem.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+import com.example.usedItem.event.ScrapedItemsSavedEvent;
+import com.example.usedItem.text.TextNormalizer;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 스크랩 상품 제목 검색용 프로세스 내 역색인입니다.
+ *
+ * 기동 시 최근 max-documents 건을 DB 에서 읽어 색인을 만들고, 이후에는 saveItemsIfNotExists 가 커밋될 때마다
+ * 새 상품만 덧붙입니다. 문서 수가 상한의 125% 를 넘으면 백그라운드에서 최근 상품만으로 다시 만들어
+ * 메모리를 상한 근처로 되돌립니다. 재구성 중에 커밋된 상품은 모아 두었다가 새 색인에 이어 붙입니다.
+ * 유사 검색용 n-gram 은 DB 의 title_normalized 로 만들므로 색인 시점에 정규화를 다시 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TitleSearchIndex {
+
+    // 최근 상품부터 max-documents 건 -> item_id 오름차순으로 적재 (문서 번호 순서 = 최신순)
+    private static final String SELECT_RECENT_ITEMS_SQL = """
+            SELECT item_id, source_site_code, title, title_normalized, price, scraped_at
+              FROM (SELECT item_id, source_site_code, title, title_normalized, price, scraped_at
+                      FROM scraped_items
+                     ORDER BY item_id DESC
+                     LIMIT ?) recent
+             ORDER BY item_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int maxDocuments;
+    private final int fetchSize;
+    private final int ngramSize;
+    private final boolean ngramJamo;
+    private final double fuzzyMinSimilarity;
+
+    private final Object lock = new Object();
+    // null 이면 아직 첫 적재 전 -> 검색 결과 없음
+    private volatile InvertedIndex current;
+    // 재구성 중 커밋된 상품 (재구성 중이 아니면 null)
+    private List<ScrapedItem> savedDuringRebuild;
+
+    private final AtomicBoolean compactionQueued = new AtomicBoolean();
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "title-search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TitleSearchIndex(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${used-item.search.enabled:true}") boolean enabled,
+            @Value("${used-item.search.max-documents:2000000}") int maxDocuments,
+            @Value("${used-item.search.fetch-size:10000}") int fetchSize,
+            @Value("${used-item.search.ngram-size:2}") int ngramSize,
+            @Value("${used-item.search.ngram-jamo:false}") boolean ngramJamo,
+            @Value("${used-item.search.fuzzy-min-similarity:0.8}") double fuzzyMinSimilarity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxDocuments = maxDocuments;
+        this.fetchSize = fetchSize;
+        this.ngramSize = ngramSize;
+        this.ngramJamo = ngramJamo;
+        this.fuzzyMinSimilarity = fuzzyMinSimilarity;
+
+        Gauge.builder("useditem.search.index.documents", this, TitleSearchIndex::documentCount)
+                .description("제목 검색 색인에 들어 있는 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("useditem.search.index.memory", this, TitleSearchIndex::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 제목에 검색어의 모든 토큰이 들어 있고 조건에 맞는 상품 ID 를 최신순으로 반환합니다.
+     */
+    public List<Long> search(String query, ScrapedItemSearchCondition condition, int limit) {
+        InvertedIndex index = current;
+        if (index == null) {
+            return List.of();
+        }
+        return toList(index.search(TitleTokenizer.tokenize(query), condition, limit));
+    }
+
+    /**
+     * 띄어쓰기/오타가 달라도 검색어의 글자 n-gram 을 fuzzy-min-similarity 비율 이상 공유하는 상품 ID 를 최신순으로 반환합니다.
+     * n-gram 색인을 끈 경우(ngram-size=0) 빈 목록입니다.
+     */
+    public List<Long> fuzzySearch(String query, ScrapedItemSearchCondition condition, int limit) {
+        InvertedIndex index = current;
+        if (index == null) {
+            return List.of();
+        }
+        List<String> grams = index.ngramsOf(TextNormalizer.normalize(query));
+        int minShared = (int) Math.ceil(grams.size() * fuzzyMinSimilarity);
+        return toList(index.fuzzySearch(grams, Math.max(1, minShared), condition, limit));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsSaved(ScrapedItemsSavedEvent event) {
+        boolean overCapacity;
+        synchronized (lock) {
+            // 첫 적재 중에도 모아 둠 -> 스냅샷을 읽기 시작한 뒤 커밋된 상품이 빠지지 않음
+            if (savedDuringRebuild != null) {
+                savedDuringRebuild.addAll(event.items());
+            }
+            InvertedIndex index = current;
+            if (index == null) {
+                return; // 첫 적재 전: 적재가 DB 에서 읽어 옴
+            }
+            for (ScrapedItem item : event.items()) {
+                add(index, item);
+            }
+            overCapacity = index.documentCount() > maxDocuments + maxDocuments / 4;
+        }
+        if (overCapacity && compactionQueued.compareAndSet(false, true)) {
+            compactionExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    compactionQueued.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 최근 max-documents 건으로 색인을 새로 만들어 교체합니다.
+     */
+    @Scheduled(initialDelayString = "${used-item.search.initial-delay:PT0S}",
+            fixedDelayString = "${used-item.search.rebuild-interval:PT24H}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        synchronized (lock) {
+            savedDuringRebuild = new ArrayList<>();
+        }
+        InvertedIndex next = new InvertedIndex(ngramSize, ngramJamo);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_RECENT_ITEMS_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                ps.setInt(1, maxDocuments);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, rs -> {
+                String title = rs.getString(3);
+                String titleNormalized = rs.getString(4);
+                int price = rs.getInt(5);
+                Integer nullablePrice = rs.wasNull() ? null : price;
+                next.add(rs.getLong(1), rs.getString(2), title,
+                        titleNormalized != null ? titleNormalized : TextNormalizer.normalize(title),
+                        nullablePrice, rs.getTimestamp(6).toLocalDateTime());
+            }));
+            next.markSnapshotLoaded();
+            synchronized (lock) {
+                // 스냅샷에 이미 포함된 상품은 건너뛰고 나머지를 커밋 순서대로 이어 붙임
+                for (ScrapedItem item : savedDuringRebuild) {
+                    if (!next.snapshotContains(item.getId())) {
+                        add(next, item);
+                    }
+                }
+                current = next;
+            }
+            log.info("제목 검색 색인 재구성 완료: {}건, {}KB, {}ms", next.documentCount(), next.sizeInBytes() / 1024,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.error("제목 검색 색인 재구성 실패. 기존 색인을 유지합니다.", e);
+        } finally {
+            synchronized (lock) {
+                savedDuringRebuild = null;
+            }
+        }
+    }
+
+    private static void add(InvertedIndex index, ScrapedItem item) {
+        String titleNormalized = item.getTitleNormalized() != null
+                ? item.getTitleNormalized()
+                : TextNormalizer.normalize(item.getTitle());
+        index.add(item.getId(), item.getSourceSiteCode(), item.getTitle(), titleNormalized, item.getPrice(),
+                item.getScrapedAt());
+    }
+
+    private static List<Long> toList(long[] itemIds) {
+        List<Long> result = new ArrayList<>(itemIds.length);
+        for (long itemId : itemIds) {
+            result.add(itemId);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compactionExecutor.shutdownNow();
+    }
+
+    private double documentCount() {
+        InvertedIndex index = current;
+        return index != null ? index.documentCount() : 0;
+    }
+
+    private double memoryBytes() {
+        InvertedIndex index = current;
+        return index != null ? index.sizeInBytes() : 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.usedItem.search;
+
+import com.example.usedItem.text.TextNormalizer;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 제목/검색어를 색인 토큰으로 나눕니다.
+ * {@link TextNormalizer#fold} (NFKC + 소문자) 후 문자/숫자가 아닌 문자 기준으로 자릅니다.
+ */
+public final class TitleTokenizer {
+
+    // 이보다 긴 토큰은 URL/일련번호 등이라 앞부분만 색인해 사전이 커지지 않게 함
+    // 버리면 검색어에서도 빠져 AND 조건이 줄어드므로, 색인과 검색 모두 같은 길이로 자름
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private TitleTokenizer() {
+    }
+
+    /**
+     * 색인과 검색어에 같이 쓰이므로 긴 토큰도 양쪽에서 같은 앞부분(MAX_TOKEN_LENGTH 자)으로 잘립니다.
+     *
+     * @return 중복 없는 토큰 목록 (등장 순서 유지)
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TextNormalizer.fold(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(truncate(token));
+            }
+        }
+        return List.copyOf(tokens);
+    }
+
+    private static String truncate(String token) {
+        if (token.length() <= MAX_TOKEN_LENGTH) {
+            return token;
+        }
+        // 서로게이트 쌍 중간에서 자르지 않음
+        int end = MAX_TOKEN_LENGTH;
+        if (Character.isHighSurrogate(token.charAt(end - 1))) {
+            end--;
+        }
+        return token.substring(0, end);
+    }
+
+    /**
+     * 정규화된 제목(공백/기호 제거 형태)을 글자 n-gram 으로 나눕니다. jamo 이면 한글을 자모로 푼 뒤 자릅니다.
+     * 띄어쓰기와 무관하게 부분 문자열이 겹치는 정도로 유사 검색할 때 사용합니다.
+     */
+    public static List<String> ngrams(String normalizedText, int n, boolean jamo) {
+        if (normalizedText == null || n <= 0) {
+            return List.of();
+        }
+        return TextNormalizer.ngrams(jamo ? TextNormalizer.decomposeJamo(normalizedText) : normalizedText, n);
+    }
+}
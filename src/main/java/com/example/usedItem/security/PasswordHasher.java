@@ -0,0 +1,82 @@
+package com.example.usedItem.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱(BCrypt)을 전용 스레드 풀에서 실행합니다.
+ *
+ * 해싱은 수십~수백 ms 동안 CPU 를 쓰므로 요청 스레드와 DB 커넥션을 잡은 채 실행하지 않습니다.
+ * 스레드 수와 대기열 크기를 제한해, 가입 요청이 몰려도 조회 요청이 쓸 CPU 를 모두 가져가지 않고
+ * 대기열이 가득 차면 바로 거절합니다.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            @Value("${used-item.signup.hash-threads:2}") int threads,
+            @Value("${used-item.signup.hash-queue-capacity:100}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), namedThreads("password-hash"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("useditem.signup.hash.rejected")
+                .description("해싱 대기열이 가득 차 거절한 가입 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("useditem.signup.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("해싱을 기다리는 가입 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("useditem.signup.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해싱 풀에서 비밀번호를 인코딩합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 인코딩된 비밀번호 (해싱 스레드에서 완료됨)
+     * @throws RejectedExecutionException 해싱 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.usedItem.service;
+
+import java.util.List;
+
+import com.example.usedItem.dto.CrawlTierSummaryDto;
+
+public interface CrawlAdminService {
+
+    /**
+     * 활성 키워드를 검색어 묶음(사이트, 정규화 검색어)별로 모아 새 상품 등록 속도에 따른
+     * 크롤링 주기 구간(HOT/WARM/COLD/NEW)별로 집계합니다.
+     *
+     * @return 사이트, 구간 순서로 정렬된 구간별 묶음/키워드 수와 예상 요청 수 (묶음이 없는 구간은 제외)
+     */
+    List<CrawlTierSummaryDto> getTierSummary();
+}
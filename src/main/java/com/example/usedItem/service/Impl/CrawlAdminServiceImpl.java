@@ -0,0 +1,63 @@
+package com.example.usedItem.service.Impl;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.usedItem.crawl.CrawlPollingPolicy;
+import com.example.usedItem.crawl.CrawlProperties;
+import com.example.usedItem.crawl.CrawlTarget;
+import com.example.usedItem.crawl.CrawlTier;
+import com.example.usedItem.dto.CrawlTierSummaryDto;
+import com.example.usedItem.repository.KeywordRepository;
+import com.example.usedItem.service.CrawlAdminService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class CrawlAdminServiceImpl implements CrawlAdminService {
+
+    private static final double MILLIS_PER_HOUR = Duration.ofHours(1).toMillis();
+
+    private final KeywordRepository keywordRepository;
+    private final CrawlPollingPolicy pollingPolicy;
+
+    public CrawlAdminServiceImpl(KeywordRepository keywordRepository, CrawlProperties crawlProperties) {
+        this.keywordRepository = keywordRepository;
+        this.pollingPolicy = new CrawlPollingPolicy(crawlProperties);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<CrawlTierSummaryDto> getTierSummary() {
+        // 사이트 -> 구간 -> 합계
+        Map<String, Map<CrawlTier, TierTotals>> totalsBySite = new TreeMap<>();
+        for (CrawlTarget target : keywordRepository.findAllCrawlTargets()) {
+            Double rate = target.newItemRate();
+            TierTotals totals = totalsBySite
+                    .computeIfAbsent(target.targetSiteCode(), siteCode -> new EnumMap<>(CrawlTier.class))
+                    .computeIfAbsent(pollingPolicy.tier(rate), tier -> new TierTotals());
+            totals.queries++;
+            totals.keywords += target.subscriberCount();
+            totals.newItemsPerHour += rate != null ? rate : 0;
+            totals.requestsPerHour += MILLIS_PER_HOUR / Math.max(1, pollingPolicy.nextInterval(rate).toMillis());
+        }
+
+        List<CrawlTierSummaryDto> summary = new ArrayList<>();
+        totalsBySite.forEach((siteCode, byTier) -> byTier.forEach((tier, totals) -> summary.add(
+                new CrawlTierSummaryDto(siteCode, tier, totals.queries, totals.keywords, totals.newItemsPerHour,
+                        totals.requestsPerHour))));
+        return summary;
+    }
+
+    private static final class TierTotals {
+        private long queries;
+        private long keywords;
+        private double newItemsPerHour;
+        private double requestsPerHour;
+    }
+}
@@ -2,19 +2,25 @@ package com.example.usedItem.service.Impl;
 
 import jakarta.persistence.EntityNotFoundException; // 예외 타입 주의
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.usedItem.conf.CacheConfig;
 import com.example.usedItem.domain.Keyword;
 import com.example.usedItem.domain.User;
 import com.example.usedItem.dto.KeywordRequestDto;
 import com.example.usedItem.dto.KeywordResponseDto;
+import com.example.usedItem.event.KeywordChangedEvent;
+import com.example.usedItem.matching.KeywordMatchRule;
 import com.example.usedItem.repository.KeywordRepository;
 import com.example.usedItem.repository.UserRepository;
 import com.example.usedItem.service.KeywordService;
+import com.example.usedItem.text.TextNormalizer;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor // final 필드 생성자 자동 주입
@@ -22,8 +28,10 @@ public class KeywordServiceImpl implements KeywordService {
 
     private final KeywordRepository keywordRepository;
     private final UserRepository userRepository; // 사용자 존재 확인 및 연관관계 설정용
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 매칭 엔진 갱신용 이벤트 발행
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_KEYWORDS, key = "#userId") // 커밋 후 제거
     @Override
     public KeywordResponseDto addKeyword(Long userId, KeywordRequestDto requestDto) {
         // 1. 사용자 조회 (존재하지 않으면 예외 발생)
@@ -31,8 +39,8 @@ public class KeywordServiceImpl implements KeywordService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. userId: " + userId));
 
         // 2. 중복 키워드 확인 (선택 사항)
-        if (keywordRepository.existsByUserIdAndKeywordTextAndTargetSiteCode(userId, requestDto.getKeywordText(),
-                requestDto.getTargetSiteCode())) {
+        if (keywordRepository.existsByUserIdAndKeywordTextNormalizedAndTargetSiteCode(userId,
+                TextNormalizer.normalize(requestDto.getKeywordText()), requestDto.getTargetSiteCode())) {
 throw new IllegalArgumentException("이미 등록된 키워드입니다."); // 혹은 다른 처리 방식
         }
 
@@ -52,27 +60,29 @@ throw new IllegalArgumentException("이미 등록된 키워드입니다."); // 
         // 메소드 구현 시 사용
         // user.addKeyword(savedKeyword);
 
-        // 4. DTO로 변환하여 반환
+        // 4. 매칭 엔진 갱신 이벤트 발행 (커밋 후 처리)
+        publishKeywordChanged(userId, savedKeyword);
+
+        // 5. DTO로 변환하여 반환
         return KeywordResponseDto.fromEntity(savedKeyword);
     }
 
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션
+    @Cacheable(cacheNames = CacheConfig.USER_KEYWORDS, key = "#userId")
     @Override
     public List<KeywordResponseDto> getKeywordsByUser(Long userId) {
-        // 사용자 존재 확인 (선택 사항이나, 없는 사용자에 대해 빈 리스트 반환이 자연스러움)
-        if (!userRepository.existsById(userId)) {
+        // 응답 DTO 로 바로 조회 (캐시에 공유되므로 수정 불가 리스트로 반환)
+        List<KeywordResponseDto> keywords = List.copyOf(keywordRepository.findResponsesByUserId(userId));
+
+        // 키워드가 없을 때만 사용자 존재 확인 (없는 사용자면 빈 리스트 대신 404)
+        if (keywords.isEmpty() && !userRepository.existsById(userId)) {
             throw new EntityNotFoundException("사용자를 찾을 수 없습니다. userId: " + userId);
         }
-
-        List<Keyword> keywords = keywordRepository.findByUserIdOrderByCreatedAtDesc(userId);
-
-        // Entity 리스트 -> DTO 리스트 변환
-        return keywords.stream()
-                .map(KeywordResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return keywords;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_KEYWORDS, key = "#userId") // 커밋 후 제거
     @Override
     public KeywordResponseDto updateKeyword(Long userId, Long keywordId, KeywordRequestDto requestDto) {
         // 1. 사용자의 특정 키워드 조회 (존재하지 않거나, 사용자의 키워드가 아니면 예외 발생)
@@ -92,19 +102,24 @@ throw new IllegalArgumentException("이미 등록된 키워드입니다."); // 
         // JPA의 변경 감지(Dirty Checking)에 의해 save 호출 없이도 업데이트 되지만, 명시적으로 save 호출도 가능
         // Keyword updatedKeyword = keywordRepository.save(keyword);
 
-        // 3. DTO로 변환하여 반환
+        // 3. 매칭 엔진 갱신 이벤트 발행 (커밋 후 처리)
+        publishKeywordChanged(userId, keyword);
+
+        // 4. DTO로 변환하여 반환
         return KeywordResponseDto.fromEntity(keyword);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_KEYWORDS, key = "#userId") // 커밋 후 제거
     @Override
-    public void deleteKeyword(Long userIdd, Long keywordId) {
+    public void deleteKeyword(Long userId, Long keywordId) {
         // 1. 사용자의 특정 키워드 조회 (존재하지 않거나, 사용자의 키워드가 아니면 예외 발생)
-        Keyword keyword = keywordRepository.findByIdAndUserId(keywordId, userIdd)
+        Keyword keyword = keywordRepository.findByIdAndUserId(keywordId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("키워드를 찾을 수 없거나 삭제 권한이 없습니다. keywordId: " + keywordId));
 
         // 2. 키워드 삭제
         keywordRepository.delete(keyword);
+        eventPublisher.publishEvent(new KeywordChangedEvent(userId, keywordId, null));
 
         // User 엔티티에서 제거 (orphanRemoval=true 설정 시 자동으로 DB에서도 삭제됨) - 선택 사항
         // User user = keyword.getUser();
@@ -112,4 +127,10 @@ throw new IllegalArgumentException("이미 등록된 키워드입니다."); // 
         // user.getKeywords().remove(keyword);
         // }
     }
+
+    // 활성 키워드는 변경된 규칙을, 비활성 키워드는 null 규칙을 실어 매칭 대상에서 빠지도록 함
+    private void publishKeywordChanged(Long userId, Keyword keyword) {
+        KeywordMatchRule rule = keyword.isActive() ? KeywordMatchRule.of(keyword, userId) : null;
+        eventPublisher.publishEvent(new KeywordChangedEvent(userId, keyword.getId(), rule));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.example.usedItem.service.Impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.usedItem.domain.NotificationStatus;
+import com.example.usedItem.domain.NotificationType;
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.CursorPageResponseDto;
+import com.example.usedItem.dto.KeysetCursor;
+import com.example.usedItem.dto.NotificationResponseDto;
+import com.example.usedItem.event.NotificationsCreatedEvent;
+import com.example.usedItem.matching.KeywordMatch;
+import com.example.usedItem.matching.KeywordMatchRule;
+import com.example.usedItem.matching.KeywordMatcher;
+import com.example.usedItem.metrics.PipelineMetrics;
+import com.example.usedItem.repository.NotificationRepository;
+import com.example.usedItem.repository.NotificationRepositoryCustom.SentNotification;
+import com.example.usedItem.service.NotificationService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Slf4j
+@Service
+public class NotificationServiceImpl implements NotificationService {
+
+    // Notification.errorMessage 컬럼 길이
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final NotificationRepository notificationRepository;
+    private final KeywordMatcher keywordMatcher;
+    private final PipelineMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 SSE 연결로 매칭 이벤트 전달
+    private final NotificationType defaultNotificationType;
+
+    public NotificationServiceImpl(NotificationRepository notificationRepository, KeywordMatcher keywordMatcher,
+            PipelineMetrics metrics, ApplicationEventPublisher eventPublisher,
+            @Value("${used-item.notification.default-type:PUSH}") NotificationType defaultNotificationType) {
+        this.notificationRepository = notificationRepository;
+        this.keywordMatcher = keywordMatcher;
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.defaultNotificationType = defaultNotificationType;
+    }
+
+    @Transactional
+    @Override
+    public int createNotificationsForItems(List<ScrapedItem> items) {
+        List<KeywordMatch> matches = new ArrayList<>();
+        for (ScrapedItem item : items) {
+            if (item.isRelist()) {
+                continue; // 원래 상품으로 이미 알림을 보냈으므로 재등록 상품은 건너뜀
+            }
+            // 매칭 규칙에 사용자 ID 가 들어 있으므로 Keyword.user 를 로딩하지 않음
+            for (KeywordMatchRule rule : keywordMatcher.match(item)) {
+                matches.add(new KeywordMatch(item.getId(), rule.keywordId(), rule.userId()));
+            }
+        }
+        return createNotifications(matches).size();
+    }
+
+    @Transactional
+    @Override
+    public List<KeywordMatch> createNotifications(List<KeywordMatch> matches) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        long startedAt = System.nanoTime();
+        // 같은 매칭 결과가 여러 번 들어와도 한 번만 INSERT
+        List<KeywordMatch> distinctMatches = new ArrayList<>(new LinkedHashSet<>(matches));
+        List<KeywordMatch> inserted = notificationRepository.insertAllIgnoringConflicts(distinctMatches,
+                defaultNotificationType);
+        metrics.recordNotificationsCreated(inserted.size(), startedAt);
+        log.info("알림 생성: 매칭 {}건 중 {}건 새로 생성됨.", distinctMatches.size(), inserted.size());
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationsCreatedEvent(List.copyOf(inserted)));
+        }
+        return inserted;
+    }
+
+    @Transactional
+    @Override
+    public List<Long> markAllAsSent(Collection<Long> notificationIds) {
+        LocalDateTime sentAt = LocalDateTime.now();
+        List<SentNotification> updated = notificationRepository.markAllAsSent(notificationIds, sentAt);
+        metrics.recordSent(updated.stream().map(SentNotification::itemScrapedAt).toList(), sentAt);
+        log.info("알림 발송 완료 일괄 처리: 요청 {}건 중 {}건 변경", notificationIds.size(), updated.size());
+        return updated.stream().map(SentNotification::notificationId).toList();
+    }
+
+    @Transactional
+    @Override
+    public List<Long> markAllAsFailed(Collection<Long> notificationIds, String errorMessage) {
+        String truncated = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+        List<Long> updated = notificationRepository.markAllAsFailed(notificationIds, truncated);
+        metrics.recordFailed(updated.size());
+        log.info("알림 발송 실패 일괄 처리: 요청 {}건 중 {}건 변경", notificationIds.size(), updated.size());
+        return updated;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponseDto<NotificationResponseDto> getInbox(Long userId, String cursor, int size,
+            boolean unreadOnly) {
+        int pageSize = CursorPageResponseDto.clampSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<NotificationResponseDto> rows = notificationRepository.findInboxPage(userId, KeysetCursor.decode(cursor),
+                unreadOnly, pageSize + 1);
+        return CursorPageResponseDto.of(rows, pageSize,
+                notification -> new KeysetCursor(notification.getCreatedAt(), notification.getNotificationId()));
+    }
+
+    @Transactional
+    @Override
+    public int markAsRead(Long userId, Collection<Long> notificationIds) {
+        int updated = notificationRepository.markAllAsRead(userId, notificationIds);
+        log.debug("알림 읽음 처리: userId={}, {}건", userId, updated);
+        return updated;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long getUnreadCount(Long userId) {
+        return notificationRepository.findUnreadCount(userId);
+    }
+
+    // 보관 기간 정리 등으로 어긋난 읽지 않은 알림 카운터를 알림 테이블 기준으로 맞춤 (전체 집계라 드물게 실행)
+    @Scheduled(initialDelayString = "${used-item.notification.unread-reconcile-interval:PT24H}",
+            fixedDelayString = "${used-item.notification.unread-reconcile-interval:PT24H}")
+    @Transactional
+    public void reconcileUnreadCounts() {
+        int fixed = notificationRepository.reconcileUnreadCounts();
+        if (fixed > 0) {
+            log.info("읽지 않은 알림 카운터 보정: {}명", fixed);
+        }
+    }
+
+    // 발송 대기열 깊이는 매 요청마다 세지 않고 주기적으로 갱신
+    @Scheduled(fixedDelayString = "${used-item.notification.queue-depth-refresh-interval:PT30S}")
+    @Transactional(readOnly = true)
+    public void refreshQueueDepth() {
+        metrics.updateQueueDepth(notificationRepository.countByStatus(NotificationStatus.PENDING),
+                notificationRepository.countByStatus(NotificationStatus.FAILED));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.usedItem.service.Impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usedItem.dto.ScrapedItemResponseDto;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+import com.example.usedItem.service.ScrapedItemExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class ScrapedItemExportServiceImpl implements ScrapedItemExportService {
+
+    private static final String SELECT_COLUMNS_SQL = "SELECT item_id, source_site_code, item_source_id, title, price, "
+            + "item_url, image_url, location, posted_at_source, scraped_at, is_notified FROM scraped_items WHERE 1 = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ScrapedItemExportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, @Value("${used-item.export.fetch-size:5000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long exportNdjson(ScrapedItemSearchCondition condition, OutputStream out) {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS_SQL);
+        List<Object> params = new ArrayList<>();
+        if (condition.getSourceSiteCode() != null) {
+            sql.append(" AND source_site_code = ?");
+            params.add(condition.getSourceSiteCode());
+        }
+        if (condition.getMinPrice() != null) {
+            sql.append(" AND price >= ?");
+            params.add(condition.getMinPrice());
+        }
+        if (condition.getMaxPrice() != null) {
+            sql.append(" AND price <= ?");
+            params.add(condition.getMaxPrice());
+        }
+        if (condition.getScrapedFrom() != null) {
+            sql.append(" AND scraped_at >= ?");
+            params.add(Timestamp.valueOf(condition.getScrapedFrom()));
+        }
+        if (condition.getScrapedTo() != null) {
+            sql.append(" AND scraped_at < ?");
+            params.add(Timestamp.valueOf(condition.getScrapedTo()));
+        }
+        // findBySourceSiteCodeOrderByScrapedAtDesc 와 같은 순서
+        sql.append(" ORDER BY scraped_at DESC, item_id DESC");
+
+        // 행마다 flush 하지 않도록 (gzip 압축률과 처리량 저하 방지)
+        ObjectWriter writer = objectMapper.writerFor(ScrapedItemResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long startedAt = System.nanoTime();
+        long[] rowCount = { 0 };
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            // PostgreSQL 은 트랜잭션 안(autocommit off)에서만 fetch size 단위 커서로 읽음
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, rs -> {
+                try {
+                    writer.writeValue(generator, toDto(rs));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 끊김 등 -> 조회 중단
+                }
+                rowCount[0]++;
+            }));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("스크랩 상품 NDJSON 내보내기 완료: {}건, {}ms, {}건/초", rowCount[0], elapsedMillis,
+                rowCount[0] * 1000 / elapsedMillis);
+        return rowCount[0];
+    }
+
+    private static ScrapedItemResponseDto toDto(ResultSet rs) throws SQLException {
+        return new ScrapedItemResponseDto(
+                rs.getLong("item_id"),
+                rs.getString("source_site_code"),
+                rs.getString("item_source_id"),
+                rs.getString("title"),
+                rs.getObject("price", Integer.class),
+                rs.getString("item_url"),
+                rs.getString("image_url"),
+                rs.getString("location"),
+                toLocalDateTime(rs.getTimestamp("posted_at_source")),
+                toLocalDateTime(rs.getTimestamp("scraped_at")),
+                rs.getBoolean("is_notified"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.usedItem.service.Impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usedItem.dedup.RelistDetector;
+import com.example.usedItem.dedup.ScrapedItemSeenFilter;
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.ScrapedItemIngestRequestDto;
+import com.example.usedItem.dto.ScrapedItemIngestResponseDto;
+import com.example.usedItem.event.ScrapedItemsSavedEvent;
+import com.example.usedItem.metrics.PipelineMetrics;
+import com.example.usedItem.repository.ScrapedItemRepository;
+import com.example.usedItem.service.NotificationService;
+import com.example.usedItem.service.ScrapedItemIngestService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@Slf4j
+@Service
+public class ScrapedItemIngestServiceImpl implements ScrapedItemIngestService {
+
+    private final ScrapedItemRepository scrapedItemRepository;
+    private final ScrapedItemSeenFilter seenFilter;
+    private final RelistDetector relistDetector;
+    private final NotificationService notificationService;
+    private final PipelineMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 검색 색인/재등록 감지 갱신
+    private final TransactionTemplate transaction;
+    private final ObjectReader reader;
+    private final int chunkSize;
+
+    public ScrapedItemIngestServiceImpl(ScrapedItemRepository scrapedItemRepository,
+            ScrapedItemSeenFilter seenFilter, RelistDetector relistDetector, NotificationService notificationService,
+            PipelineMetrics metrics, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            @Value("${used-item.ingest.chunk-size:5000}") int chunkSize) {
+        this.scrapedItemRepository = scrapedItemRepository;
+        this.seenFilter = seenFilter;
+        this.relistDetector = relistDetector;
+        this.notificationService = notificationService;
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.reader = objectMapper.readerFor(ScrapedItemIngestRequestDto.class);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ScrapedItemIngestResponseDto ingestNdjson(InputStream in) {
+        long startedAt = System.nanoTime();
+        ChunkReader chunks = new ChunkReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+
+        // 묶음을 메모리에 다 읽은 뒤에 짧은 트랜잭션을 엶 -> 느린 업로드가 커넥션/트랜잭션을 잡고 있지 않음
+        // 묶음마다 저장과 알림 생성을 같은 트랜잭션에서 커밋하므로 저장된 상품의 알림이 빠지지 않음
+        int insertedCount = 0;
+        while (chunks.hasNext()) {
+            List<ScrapedItem> chunk = chunks.next();
+            Integer inserted = transaction.execute(status -> {
+                List<ScrapedItem> savedItems = scrapedItemRepository.insertAllViaStaging(chunk);
+                afterSaved(savedItems);
+                return savedItems.size();
+            });
+            insertedCount += inserted;
+        }
+
+        long valid = chunks.received - chunks.invalid;
+        metrics.recordSave((int) valid, insertedCount, startedAt);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("상품 대량 적재 완료: {}줄 중 {}건 저장, 건너뜀 {}건, 중복 {}건, {}ms", chunks.received,
+                insertedCount, chunks.invalid, valid - insertedCount, elapsedMillis);
+        return new ScrapedItemIngestResponseDto(chunks.received, chunks.invalid, insertedCount, elapsedMillis);
+    }
+
+    // 저장된 상품은 이미 ID 가 채워진 입력 엔티티이므로 다시 조회하지 않음
+    private void afterSaved(List<ScrapedItem> savedItems) {
+        if (savedItems.isEmpty()) {
+            return;
+        }
+        seenFilter.record(savedItems);
+        eventPublisher.publishEvent(new ScrapedItemsSavedEvent(List.copyOf(savedItems)));
+        notificationService.createNotificationsForItems(savedItems);
+    }
+
+    /**
+     * NDJSON 을 chunkSize 건씩 읽어 엔티티로 바꿉니다. 묶음마다 재등록 표시를 하고, 빈 줄은 세지 않고 건너뜁니다.
+     * JSON 이 깨진 줄도 필수값이 빠진 줄처럼 invalid 로 세고 건너뜀 -> 한 줄 때문에 나머지 적재가 멈추지 않음
+     */
+    private final class ChunkReader implements Iterator<List<ScrapedItem>> {
+
+        private final BufferedReader lines;
+        private String nextLine; // 미리 읽어 둔 다음 비어 있지 않은 줄
+        private long lineNumber;
+        private long received;
+        private long invalid;
+
+        ChunkReader(BufferedReader lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextLine != null) {
+                return true;
+            }
+            try {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    lineNumber++;
+                    if (!line.isBlank()) {
+                        nextLine = line;
+                        return true;
+                    }
+                }
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public List<ScrapedItem> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<ScrapedItem> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && hasNext()) {
+                String line = nextLine;
+                nextLine = null;
+                received++;
+                ScrapedItemIngestRequestDto item = parse(line);
+                if (item == null || !item.isValid()) {
+                    invalid++;
+                    continue;
+                }
+                chunk.add(item.toEntity());
+            }
+            relistDetector.markRelists(chunk);
+            return chunk;
+        }
+
+        private ScrapedItemIngestRequestDto parse(String line) {
+            try {
+                return reader.readValue(line);
+            } catch (JsonProcessingException e) {
+                log.debug("NDJSON {}번째 줄 형식 오류로 건너뜀: {}", lineNumber, e.getOriginalMessage());
+                return null;
+            }
+        }
+    }
+}
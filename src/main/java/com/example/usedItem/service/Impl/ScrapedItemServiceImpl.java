@@ -3,19 +3,35 @@ package com.example.usedItem.service.Impl;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // 로깅 추가
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.usedItem.dedup.RelistDetector;
+import com.example.usedItem.dedup.ScrapedItemSeenFilter;
 import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.CursorPageResponseDto;
+import com.example.usedItem.dto.KeysetCursor;
 import com.example.usedItem.dto.ScrapedItemResponseDto;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+import com.example.usedItem.event.ScrapedItemsSavedEvent;
+import com.example.usedItem.metrics.PipelineMetrics;
 import com.example.usedItem.repository.ScrapedItemRepository;
+import com.example.usedItem.search.TitleSearchIndex;
 import com.example.usedItem.service.ScrapedItemService;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j // 로그 사용
 @Service
@@ -23,78 +39,159 @@ import java.util.stream.Collectors;
 public class ScrapedItemServiceImpl implements ScrapedItemService {
 
     private final ScrapedItemRepository scrapedItemRepository;
+    private final ScrapedItemSeenFilter seenFilter; // DB 중복 확인 앞단의 Bloom 필터
+    private final RelistDetector relistDetector; // 다른 상품 ID 로 다시 올린 같은 물건 표시
+    private final PipelineMetrics metrics;
+    private final TitleSearchIndex titleSearchIndex;
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 제목 검색 색인 갱신용 이벤트 발행
 
     @Transactional
     @Override
     public Optional<ScrapedItem> saveItemIfNotExists(ScrapedItem item) {
-        // 중복 확인 (URL 또는 사이트코드+상품ID 기준) - 둘 다 확인하거나 정책에 따라 하나만 확인
-        boolean exists = scrapedItemRepository.existsByItemUrl(item.getItemUrl()) ||
-                scrapedItemRepository.existsBySourceSiteCodeAndItemSourceId(item.getSourceSiteCode(),
-                        item.getItemSourceId());
-
-        if (exists) {
+        // 단건 저장도 대량 저장 경로를 그대로 사용 (중복 확인 1회 + ON CONFLICT INSERT 로 동시 저장 시에도 안전)
+        List<ScrapedItem> saved = saveItemsIfNotExists(List.of(item));
+        if (saved.isEmpty()) {
             log.debug("스크랩 아이템 중복: URL={}, Site={}, ID={}", item.getItemUrl(), item.getSourceSiteCode(),
                     item.getItemSourceId());
             return Optional.empty(); // 이미 존재하면 저장하지 않음
-        } else {
-            log.info("새 스크랩 아이템 저장: Title={}", item.getTitle());
-            return Optional.of(scrapedItemRepository.save(item));
         }
+        return Optional.of(saved.get(0));
     }
 
     @Transactional
     @Override
     public List<ScrapedItem> saveItemsIfNotExists(List<ScrapedItem> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        long startedAt = System.nanoTime();
+        // 1. 같은 페이지 안에서 중복된 상품 제거 (사이트코드+상품ID, URL 기준)
+        List<ScrapedItem> distinctItems = distinctByDedupKeys(items);
+
+        // 2. 필터가 확실히 처음 본다고 답한 상품은 DB 확인 생략, 나머지만 한 번의 쿼리로 기존 상품 제외
+        List<ScrapedItem> newItems = new ArrayList<>(distinctItems.size());
+        List<ScrapedItem> possiblyExisting = new ArrayList<>();
+        // 필터가 실제로 "있을 수 있음" 이라고 답한 상품 (워밍업 전/필터 없는 사이트의 상품은 오탐 집계에서 제외)
+        Set<ScrapedItem> filterHits = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ScrapedItem item : distinctItems) {
+            ScrapedItemSeenFilter.Lookup lookup = seenFilter.lookup(item);
+            if (lookup == ScrapedItemSeenFilter.Lookup.DEFINITE_MISS) {
+                newItems.add(item);
+            } else {
+                possiblyExisting.add(item);
+                if (lookup == ScrapedItemSeenFilter.Lookup.POSSIBLE_HIT) {
+                    filterHits.add(item);
+                }
+            }
+        }
+        if (!possiblyExisting.isEmpty()) {
+            List<ScrapedItem> notExisting = metrics.timeDedupQuery(
+                    () -> scrapedItemRepository.excludeExisting(possiblyExisting));
+            seenFilter.recordFalsePositives((int) notExisting.stream().filter(filterHits::contains).count());
+            newItems.addAll(notExisting);
+        }
+
+        // 3. 최근 상품과 fingerprint 가 가까운 상품은 재등록으로 표시 (저장은 하되 알림은 만들지 않음)
+        relistDetector.markRelists(newItems);
+
+        // 4. 남은 상품만 한 번의 INSERT ... ON CONFLICT DO NOTHING 으로 저장
+        // 다른 스크래퍼 스레드가 같은 상품을 먼저 넣었다면 유니크 제약에 의해 조용히 건너뜀
+        List<Long> insertedIds = metrics.timeInsert(
+                () -> scrapedItemRepository.insertAllIgnoringConflicts(newItems));
+
         List<ScrapedItem> savedItems = new ArrayList<>();
-        for (ScrapedItem item : items) {
-            // saveItemIfNotExists 메소드 재활용
-            saveItemIfNotExists(item).ifPresent(savedItems::add);
-            // 직접 구현 시:
-            // boolean exists = scrapedItemRepository.existsByItemUrl(item.getItemUrl()) ||
-            // scrapedItemRepository.existsBySourceSiteCodeAndItemSourceId(item.getSourceSiteCode(),
-            // item.getItemSourceId());
-            // if (!exists) {
-            // savedItems.add(scrapedItemRepository.save(item));
-            // }
+        if (!insertedIds.isEmpty()) {
+            savedItems.addAll(scrapedItemRepository.findAllById(insertedIds));
+            savedItems.sort(Comparator.comparing(ScrapedItem::getId));
+            seenFilter.record(savedItems);
+            eventPublisher.publishEvent(new ScrapedItemsSavedEvent(List.copyOf(savedItems)));
         }
-        log.info("총 {}개의 아이템 중 {}개 새로 저장됨.", items.size(), savedItems.size());
+        log.info("총 {}개의 아이템 중 {}개 새로 저장됨. (사전 중복 제외 후 후보 {}개)", items.size(), savedItems.size(),
+                newItems.size());
+        metrics.recordSave(items.size(), savedItems.size(), startedAt);
         return savedItems;
     }
 
+    // 입력 순서를 유지하면서 사이트코드+상품ID 또는 URL 이 앞선 상품과 겹치는 상품을 제거
+    private static List<ScrapedItem> distinctByDedupKeys(List<ScrapedItem> items) {
+        Set<String> seenSourceKeys = new HashSet<>();
+        Set<String> seenUrls = new HashSet<>();
+        List<ScrapedItem> distinctItems = new ArrayList<>(items.size());
+        for (ScrapedItem item : items) {
+            String sourceKey = item.getSourceSiteCode() + '\u0000' + item.getItemSourceId();
+            boolean newUrl = seenUrls.add(item.getItemUrl());
+            boolean newSourceKey = seenSourceKeys.add(sourceKey);
+            if (newUrl && newSourceKey) {
+                distinctItems.add(item);
+            }
+        }
+        return distinctItems;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public ScrapedItemResponseDto getItemById(Long itemId) {
-        ScrapedItem item = scrapedItemRepository.findById(itemId)
+        return scrapedItemRepository.findResponseById(itemId)
                 .orElseThrow(() -> new EntityNotFoundException("스크랩된 상품을 찾을 수 없습니다. ID: " + itemId));
-        return ScrapedItemResponseDto.fromEntity(item);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<ScrapedItemResponseDto> getAllItems() {
-        // 경고: 데이터가 많을 경우 성능 문제가 발생할 수 있습니다. 반드시 페이징 처리를 도입해야 합니다.
-        log.warn("페이징 처리 없이 모든 스크랩 아이템을 조회합니다. 데이터 양에 따라 성능 문제가 발생할 수 있습니다.");
-        List<ScrapedItem> items = scrapedItemRepository.findAll(); // 예시로 findAll 사용
-        return items.stream()
-                .map(ScrapedItemResponseDto::fromEntity)
-                .collect(Collectors.toList());
+    public CursorPageResponseDto<ScrapedItemResponseDto> getItems(ScrapedItemSearchCondition condition, String cursor,
+            int size) {
+        int pageSize = CursorPageResponseDto.clampSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ScrapedItemResponseDto> rows = scrapedItemRepository.findPage(condition, KeysetCursor.decode(cursor),
+                pageSize + 1);
+        return CursorPageResponseDto.of(rows, pageSize,
+                item -> new KeysetCursor(item.getScrapedAt(), item.getItemId()));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ScrapedItemResponseDto> searchByTitle(String query, ScrapedItemSearchCondition condition, int size,
+            boolean fuzzy) {
+        int limit = CursorPageResponseDto.clampSize(size);
+        List<Long> itemIds = fuzzy
+                ? titleSearchIndex.fuzzySearch(query, condition, limit)
+                : titleSearchIndex.search(query, condition, limit);
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        // IN 조회 결과를 색인의 최신순 그대로 정렬 (보관 기간 정리 등으로 DB 에서 사라진 상품은 제외)
+        Map<Long, ScrapedItemResponseDto> byId = new HashMap<>();
+        for (ScrapedItemResponseDto item : scrapedItemRepository.findResponsesByIdIn(itemIds)) {
+            byId.put(item.getItemId(), item);
+        }
+        List<ScrapedItemResponseDto> result = new ArrayList<>(itemIds.size());
+        for (Long itemId : itemIds) {
+            ScrapedItemResponseDto item = byId.get(itemId);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
     }
 
     @Transactional
     @Override
     public void markAsNotified(Long itemId) {
-        ScrapedItem item = scrapedItemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("스크랩 상품을 찾을 수 없습니다. ID: " + itemId));
-
-        // ScrapedItem 엔티티에 상태 변경 메소드 추가 권장
-        // 예: item.markAsNotified();
-        item.markAsNotified(); // 엔티티에 구현된 메소드 호출 (아래 엔티티 코드 참고)
-
-        // 변경 감지에 의해 저장됨. 명시적 save 호출도 가능.
-        // scrapedItemRepository.save(item);
+        // 이미 알림 완료된 상품이면 0건이 갱신되므로, 그때만 존재 여부를 확인
+        if (scrapedItemRepository.markAllAsNotified(List.of(itemId)) == 0
+                && !scrapedItemRepository.existsById(itemId)) {
+            throw new EntityNotFoundException("스크랩 상품을 찾을 수 없습니다. ID: " + itemId);
+        }
         log.info("스크랩 아이템 알림 완료 처리: ID={}", itemId);
     }
 
+    @Transactional
+    @Override
+    public int markAllAsNotified(Collection<Long> itemIds) {
+        int updated = scrapedItemRepository.markAllAsNotified(itemIds);
+        log.info("스크랩 아이템 알림 완료 일괄 처리: 요청 {}건 중 {}건 변경", itemIds.size(), updated);
+        return updated;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<ScrapedItem> findItemsToNotify(LocalDateTime scrapedAfter) {
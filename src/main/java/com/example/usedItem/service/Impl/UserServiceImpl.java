@@ -1,44 +1,86 @@
 package com.example.usedItem.service.Impl;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder; // PasswordEncoder 주입
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.usedItem.conf.CacheConfig;
 import com.example.usedItem.domain.User;
 import com.example.usedItem.domain.UserRole;
 import com.example.usedItem.domain.UserStatus;
+import com.example.usedItem.dto.CursorPageResponseDto;
+import com.example.usedItem.dto.KeysetCursor;
 import com.example.usedItem.dto.UserResponseDto;
 import com.example.usedItem.dto.UserSignUpRequestDto;
+import com.example.usedItem.event.KeywordChangedEvent;
+import com.example.usedItem.repository.KeywordRepository;
 import com.example.usedItem.repository.UserRepository;
+import com.example.usedItem.security.PasswordHasher;
 import com.example.usedItem.service.UserService;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
-@RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder; // 비밀번호 암호화기 주입
+    private final PasswordHasher passwordHasher; // 비밀번호 암호화 (전용 스레드 풀)
+    private final KeywordRepository keywordRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // 해싱이 끝난 가입 요청의 INSERT 전용 풀: 해싱 스레드가 DB 커넥션을 기다리느라 다음 해싱이 밀리지 않도록
+    private final ExecutorService insertExecutor;
+
+    public UserServiceImpl(UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            KeywordRepository keywordRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${used-item.signup.insert-threads:4}") int insertThreads) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.keywordRepository = keywordRepository;
+        this.eventPublisher = eventPublisher;
+        AtomicInteger sequence = new AtomicInteger();
+        this.insertExecutor = Executors.newFixedThreadPool(Math.max(1, insertThreads), runnable -> {
+            Thread thread = new Thread(runnable, "signup-insert-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-    @Transactional
+    // 트랜잭션 없이 실행: 중복 확인과 INSERT 는 각자 짧은 트랜잭션으로, 해싱은 그 사이에 커넥션 없이
     @Override
-    public UserResponseDto signUp(UserSignUpRequestDto requestDto) {
-        // 이메일 중복 확인
-        if (userRepository.existsByEmail(requestDto.getEmail())) {
+    public CompletableFuture<UserResponseDto> signUp(UserSignUpRequestDto requestDto) {
+        // 이메일/닉네임 중복 확인 (한 번의 조회)
+        ensureAvailable(requestDto.getEmail(), requestDto.getNickname());
+
+        // 비밀번호 암호화는 해싱 전용 풀에서, 저장은 INSERT 풀로 넘겨 실행
+        // (대기열이 쌓이는 곳은 해싱 풀 하나이므로 여기 대기열은 해싱 풀 크기 이상으로 커지지 않음)
+        return passwordHasher.encodeAsync(requestDto.getPassword())
+                .thenApplyAsync(encodedPassword -> insertUser(requestDto, encodedPassword), insertExecutor);
+    }
+
+    private void ensureAvailable(String email, String nickname) {
+        List<String> conflictingEmails = userRepository.findConflictingEmails(email, nickname);
+        if (conflictingEmails.contains(email)) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
-        // 닉네임 중복 확인
-        if (userRepository.existsByNickname(requestDto.getNickname())) {
+        if (!conflictingEmails.isEmpty()) {
             throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
         }
+    }
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
-
+    private UserResponseDto insertUser(UserSignUpRequestDto requestDto, String encodedPassword) {
         // User 엔티티 생성
         User user = User.builder()
                 .email(requestDto.getEmail())
@@ -48,37 +90,45 @@ public class UserServiceImpl implements UserService {
                 .status(UserStatus.ACTIVE) // 기본 상태 설정
                 .build();
 
-        User savedUser = userRepository.save(user);
-
-        return UserResponseDto.fromEntity(savedUser);
+        try {
+            return UserResponseDto.fromEntity(userRepository.save(user));
+        } catch (DataIntegrityViolationException e) {
+            // 확인 후 해싱하는 사이 같은 이메일/닉네임으로 먼저 가입된 경우 (유니크 제약 위반): 어느 쪽인지 다시 확인
+            ensureAvailable(requestDto.getEmail(), requestDto.getNickname());
+            throw e;
+        }
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#userId")
     @Override
     public UserResponseDto getUserById(Long userId) {
-        User user = userRepository.findById(userId)
+        return userRepository.findResponseById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-        return UserResponseDto.fromEntity(user);
     }
 
     @Transactional(readOnly = true)
     @Override
     public UserResponseDto getUserByEmail(String email) {
-        User user = userRepository.findByEmail(email)
+        return userRepository.findResponseByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. Email: " + email));
-        return UserResponseDto.fromEntity(user);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<UserResponseDto> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .map(UserResponseDto::fromEntity)
-                .collect(Collectors.toList());
+    public CursorPageResponseDto<UserResponseDto> getUsers(String cursor, int size) {
+        int pageSize = CursorPageResponseDto.clampSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<UserResponseDto> rows = userRepository.findPage(KeysetCursor.decode(cursor), pageSize + 1);
+        return CursorPageResponseDto.of(rows, pageSize,
+                user -> new KeysetCursor(user.getCreatedAt(), user.getUserId()));
     }
 
     @Transactional
+    @Caching(evict = { // 커밋 후 제거
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.USER_KEYWORDS, key = "#userId")
+    })
     @Override
     public void deleteUser(Long userId) {
         // 사용자 존재 확인
@@ -87,7 +137,10 @@ public class UserServiceImpl implements UserService {
         }
         // TODO: 사용자와 관련된 데이터 처리 정책 필요 (예: 키워드, 알림 등)
         // Cascade 설정 또는 직접 관련 데이터 삭제 로직 추가
+        // 키워드는 cascade 로 함께 삭제되므로 매칭 엔진에서도 빠지도록 이벤트 발행 (커밋 후 처리)
+        List<Long> keywordIds = keywordRepository.findIdsByUserId(userId);
         userRepository.deleteById(userId);
+        keywordIds.forEach(keywordId -> eventPublisher.publishEvent(new KeywordChangedEvent(userId, keywordId, null)));
     }
 
     @Transactional(readOnly = true)
@@ -101,4 +154,9 @@ public class UserServiceImpl implements UserService {
     public boolean checkNicknameExists(String nickname) {
         return userRepository.existsByNickname(nickname);
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        insertExecutor.shutdown();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.usedItem.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.CursorPageResponseDto;
+import com.example.usedItem.dto.NotificationResponseDto;
+import com.example.usedItem.matching.KeywordMatch;
+
+public interface NotificationService {
+
+    /**
+     * 새로 저장된 상품들을 키워드 매칭 엔진에 돌려 알림을 생성합니다.
+     * 최근 상품의 재등록으로 표시된 상품(relistOfItemId 있음)은 알림을 만들지 않습니다.
+     *
+     * @param items 새로 저장된 상품 리스트 (ID가 있어야 함)
+     * @return 새로 생성된 알림 수
+     */
+    int createNotificationsForItems(List<ScrapedItem> items);
+
+    /**
+     * 매칭 결과로 알림을 일괄 생성합니다. (중복 방지 포함)
+     * 이미 같은 (사용자, 상품, 키워드) 알림이 있으면 건너뛰므로 같은 페이지를 다시 처리해도 알림이 중복되지 않습니다.
+     *
+     * @param matches 매칭 결과 리스트
+     * @return 실제로 새로 생성된 매칭 결과 리스트
+     */
+    List<KeywordMatch> createNotifications(List<KeywordMatch> matches);
+
+    /**
+     * 알림들을 발송 완료(SENT)로 일괄 변경합니다. 엔티티를 조회하지 않고 UPDATE 한 번으로 처리합니다.
+     * PENDING/FAILED 상태인 알림만 변경되고, 이미 SENT/READ 인 알림은 그대로 둡니다.
+     *
+     * @param notificationIds 발송 완료된 알림 ID 목록
+     * @return 실제로 상태가 바뀐 알림 ID 목록
+     */
+    List<Long> markAllAsSent(Collection<Long> notificationIds);
+
+    /**
+     * 알림들을 발송 실패(FAILED)로 일괄 변경하고 시도 횟수를 1 증가시킵니다.
+     * PENDING/FAILED 상태인 알림만 변경되고, 이미 SENT/READ 인 알림은 그대로 둡니다.
+     *
+     * @param notificationIds 발송 실패한 알림 ID 목록
+     * @param errorMessage    실패 사유 (1000자를 넘으면 잘라서 저장)
+     * @return 실제로 상태가 바뀐 알림 ID 목록
+     */
+    List<Long> markAllAsFailed(Collection<Long> notificationIds, String errorMessage);
+
+    /**
+     * 사용자 알림함을 최신순(커서 기반 페이징)으로 조회합니다. 상품/키워드 요약을 한 번의 조회로 함께 가져옵니다.
+     *
+     * @param userId     사용자 ID
+     * @param cursor     이전 응답의 nextCursor, 첫 페이지면 null
+     * @param size       페이지 크기
+     * @param unreadOnly true 면 읽지 않은 알림만
+     */
+    CursorPageResponseDto<NotificationResponseDto> getInbox(Long userId, String cursor, int size, boolean unreadOnly);
+
+    /**
+     * 사용자의 알림들을 읽음(READ)으로 일괄 변경합니다. 다른 사용자의 알림이나 이미 읽은 알림은 무시합니다.
+     * 아직 발송되지 않은(PENDING/FAILED) 알림은 발송이 취소되지 않도록 그대로 두어 읽지 않은 알림으로 남습니다.
+     *
+     * @param notificationIds 읽음 처리할 알림 ID 목록, null 이면 모든 알림
+     * @return 실제로 읽음 처리된 알림 수
+     */
+    int markAsRead(Long userId, Collection<Long> notificationIds);
+
+    /**
+     * 읽지 않은 알림 수 (배지용). 알림 테이블을 세지 않고 사용자별 카운터 한 행만 조회합니다.
+     */
+    long getUnreadCount(Long userId);
+}
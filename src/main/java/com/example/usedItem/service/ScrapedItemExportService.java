@@ -0,0 +1,18 @@
+package com.example.usedItem.service;
+
+import java.io.OutputStream;
+
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+
+public interface ScrapedItemExportService {
+
+    /**
+     * 조건에 맞는 스크랩 상품을 한 줄에 하나씩 JSON(NDJSON)으로 출력 스트림에 씁니다.
+     * DB 서버 측 커서로 fetch size 만큼씩 읽어 바로 쓰므로 건수와 무관하게 메모리 사용량이 일정합니다.
+     *
+     * @param condition 사이트/가격/기간 필터
+     * @param out       결과를 쓸 스트림 (호출자가 닫음)
+     * @return 출력한 상품 수
+     */
+    long exportNdjson(ScrapedItemSearchCondition condition, OutputStream out);
+}
@@ -0,0 +1,21 @@
+package com.example.usedItem.service;
+
+import java.io.InputStream;
+
+import com.example.usedItem.dto.ScrapedItemIngestResponseDto;
+
+public interface ScrapedItemIngestService {
+
+    /**
+     * 외부 스크래퍼가 보낸 NDJSON(한 줄에 상품 하나)을 읽어 저장합니다.
+     * 본문을 묶음(used-item.ingest.chunk-size) 단위로 읽고, 묶음마다 짧은 트랜잭션에서 PostgreSQL COPY 로
+     * 스테이징 테이블에 보낸 뒤 한 문장으로 병합하므로 건수와 무관하게 메모리 사용량이 일정합니다.
+     * 새로 저장된 상품은 saveItemsIfNotExists 와 같이 같은 트랜잭션에서 키워드 알림이 생성되고,
+     * 커밋 후 검색 색인/재등록 감지에 반영됩니다.
+     * JSON 형식이 잘못된 줄은 필수 값이 빠진 줄과 같이 건너뛴 줄(invalid)로 세고, 빈 줄은 세지 않습니다.
+     *
+     * @param in 압축을 푼 NDJSON 본문 (호출자가 닫음)
+     * @return 읽은/건너뛴/저장된/중복 건수
+     */
+    ScrapedItemIngestResponseDto ingestNdjson(InputStream in);
+}
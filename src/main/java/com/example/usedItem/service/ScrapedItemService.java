@@ -1,11 +1,14 @@
 package com.example.usedItem.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.CursorPageResponseDto;
 import com.example.usedItem.dto.ScrapedItemResponseDto;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
 
 public interface ScrapedItemService {
 
@@ -20,6 +23,8 @@ public interface ScrapedItemService {
 
     /**
      * 스크랩된 상품 목록을 저장합니다. (중복 방지 포함)
+     * 기존 상품 확인은 한 번의 쿼리로, 저장은 INSERT ... ON CONFLICT DO NOTHING 한 번으로 처리하므로
+     * 여러 스크래퍼 스레드가 겹치는 페이지를 동시에 저장해도 중복 행이나 예외가 발생하지 않습니다.
      *
      * @param items 저장할 ScrapedItem 엔티티 리스트
      * @return 실제로 새로 저장된 엔티티 리스트
@@ -35,11 +40,28 @@ public interface ScrapedItemService {
     ScrapedItemResponseDto getItemById(Long itemId);
 
     /**
-     * 모든 스크랩된 상품 목록을 조회합니다. (페이징 고려 필요)
+     * 스크랩된 상품 목록을 최신순으로 커서 기반 페이지 조회합니다.
      *
-     * @return 상품 정보 DTO 리스트
+     * @param condition 사이트/가격/기간 필터
+     * @param cursor    이전 페이지 응답의 nextCursor, 첫 페이지면 null
+     * @param size      페이지 크기
+     * @return 상품 정보 DTO 페이지
      */
-    List<ScrapedItemResponseDto> getAllItems(); // 실제 서비스에서는 페이징 처리 필수
+    CursorPageResponseDto<ScrapedItemResponseDto> getItems(ScrapedItemSearchCondition condition, String cursor,
+            int size);
+
+    /**
+     * 제목에 검색어의 모든 단어가 들어간 상품을 최신순으로 조회합니다. (프로세스 내 역색인 사용)
+     * fuzzy 이면 단어 대신 글자 n-gram 을 일정 비율 이상 공유하는 상품을 찾으므로 띄어쓰기/오타 차이를 허용합니다.
+     *
+     * @param query     검색어 (예: "아이폰 15")
+     * @param condition 사이트/가격/기간 필터
+     * @param size      최대 조회 건수
+     * @param fuzzy     n-gram 유사 검색 여부
+     * @return 상품 정보 DTO 리스트 (최신순)
+     */
+    List<ScrapedItemResponseDto> searchByTitle(String query, ScrapedItemSearchCondition condition, int size,
+            boolean fuzzy);
 
     /**
      * 특정 상품을 알림 발송 완료로 표시합니다.
@@ -48,6 +70,15 @@ public interface ScrapedItemService {
      */
     void markAsNotified(Long itemId);
 
+    /**
+     * 상품들을 알림 발송 완료로 일괄 표시합니다.
+     * 엔티티를 조회하지 않고 UPDATE 한 번으로 처리하며, 이미 완료된 상품이나 없는 ID 는 무시합니다.
+     *
+     * @param itemIds 알림 발송 완료 처리할 상품 ID 목록
+     * @return 실제로 상태가 바뀐 상품 수
+     */
+    int markAllAsNotified(Collection<Long> itemIds);
+
     /**
      * 알림 발송 대상을 조회합니다. (예시: 특정 시간 이후 스크랩되고 아직 알림 안 보낸 것)
      *
@@ -1,19 +1,25 @@
 package com.example.usedItem.service;
 
-import java.util.List;
-
+import com.example.usedItem.dto.CursorPageResponseDto;
 import com.example.usedItem.dto.UserResponseDto;
 import com.example.usedItem.dto.UserSignUpRequestDto;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface UserService {
 
     /**
      * 회원 가입을 처리합니다.
+     * 이메일/닉네임 중복은 호출 스레드에서 바로 확인하고, 비밀번호 해싱은 해싱 전용 풀에서, 저장(INSERT)은 해싱이 끝난 뒤
+     * 별도의 저장 풀(signup-insert)에서 실행합니다.
      * 
      * @param requestDto 회원 가입 정보 DTO
-     * @return 생성된 사용자 정보 DTO
+     * @return 생성된 사용자 정보 DTO (확인 후 저장 사이에 먼저 가입된 중복이면 원인이 IllegalArgumentException 인
+     *         CompletionException 으로 완료)
+     * @throws IllegalArgumentException 이메일 또는 닉네임이 이미 사용 중인 경우
+     * @throws java.util.concurrent.RejectedExecutionException 해싱 대기열이 가득 찬 경우
      */
-    UserResponseDto signUp(UserSignUpRequestDto requestDto);
+    CompletableFuture<UserResponseDto> signUp(UserSignUpRequestDto requestDto);
 
     /**
      * 사용자 ID로 사용자 정보를 조회합니다.
@@ -32,11 +38,13 @@ public interface UserService {
     UserResponseDto getUserByEmail(String email);
 
     /**
-     * 모든 사용자 목록을 조회합니다. (관리자용 등)
+     * 사용자 목록을 가입일 최신순으로 커서 기반 페이지 조회합니다. (관리자용 등)
      * 
-     * @return 사용자 정보 DTO 리스트
+     * @param cursor 이전 페이지 응답의 nextCursor, 첫 페이지면 null
+     * @param size   페이지 크기
+     * @return 사용자 정보 DTO 페이지
      */
-    List<UserResponseDto> getAllUsers();
+    CursorPageResponseDto<UserResponseDto> getUsers(String cursor, int size);
 
     /**
      * 사용자 닉네임을 수정합니다.
@@ -0,0 +1,231 @@
+package com.example.usedItem.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.example.usedItem.dto.NotificationStreamEventDto;
+import com.example.usedItem.event.NotificationsCreatedEvent;
+import com.example.usedItem.matching.KeywordMatch;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 SSE 연결을 관리하고, 새 알림이 커밋되면 해당 사용자의 연결로 매칭 이벤트를 보냅니다.
+ *
+ * 연결은 서블릿 비동기 요청(SseEmitter)이라 대기 중에는 스레드를 점유하지 않습니다. 실제 쓰기는 작은 고정 풀
+ * (writer-threads)이 연결별 큐를 비우는 방식으로 하므로, 알림을 만든 트랜잭션 스레드가 느린 클라이언트 때문에
+ * 막히지 않고 연결 수와 무관하게 스레드 수가 일정합니다. 하트비트는 interval 동안 아무것도 보내지 않은 연결에만
+ * 주석 한 줄을 보냅니다.
+ *
+ * 이 노드에서 생성된 알림만 이 노드의 연결로 전달됩니다.
+ */
+@Slf4j
+@Component
+public class NotificationStreamHub {
+
+    // 한 번의 전송 작업에서 보내는 최대 이벤트 수 (한 연결이 쓰기 스레드를 오래 잡지 않도록)
+    private static final int MAX_EVENTS_PER_DRAIN = 64;
+
+    private final Map<Long, List<StreamConnection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService writerExecutor;
+
+    private final Duration timeout;
+    private final long heartbeatIntervalNanos;
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+    private final long reconnectTimeMillis;
+
+    private final Counter queuedEvents;
+    private final Counter droppedEvents;
+
+    public NotificationStreamHub(MeterRegistry meterRegistry,
+            @Value("${used-item.stream.timeout:PT30M}") Duration timeout,
+            @Value("${used-item.stream.heartbeat-interval:PT25S}") Duration heartbeatInterval,
+            @Value("${used-item.stream.queue-capacity:32}") int queueCapacity,
+            @Value("${used-item.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${used-item.stream.reconnect-time:PT3S}") Duration reconnectTime,
+            @Value("${used-item.stream.writer-threads:4}") int writerThreads) {
+        this.timeout = timeout;
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.reconnectTimeMillis = reconnectTime.toMillis();
+        this.writerExecutor = Executors.newFixedThreadPool(Math.max(1, writerThreads), namedThreads("sse-writer"));
+
+        this.queuedEvents = Counter.builder("useditem.stream.events")
+                .description("SSE 연결 큐에 넣은 매칭 이벤트 수")
+                .tag("result", "queued")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("useditem.stream.events")
+                .description("연결별 큐가 가득 차 버린 매칭 이벤트 수")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        Gauge.builder("useditem.stream.connections", connectionCount, AtomicInteger::get)
+                .description("열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 새 SSE 연결을 엽니다. 사용자당 연결 수를 넘으면 가장 오래된 연결을 닫습니다.
+     */
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        StreamConnection connection = new StreamConnection(userId, emitter, queueCapacity);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+
+        List<StreamConnection> evicted = new ArrayList<>();
+        connectionsByUser.compute(userId, (id, connections) -> {
+            List<StreamConnection> list = connections != null ? connections : new CopyOnWriteArrayList<>();
+            while (list.size() >= maxConnectionsPerUser) {
+                evicted.add(list.remove(0));
+            }
+            list.add(connection);
+            return list;
+        });
+        connectionCount.incrementAndGet();
+        evicted.forEach(this::close);
+
+        // 프록시가 응답 헤더를 바로 내보내도록 첫 줄을 보내고, 끊기면 재연결할 간격을 알려 줌
+        enqueue(connection, SseEmitter.event().reconnectTime(reconnectTimeMillis).comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        if (connectionsByUser.isEmpty()) {
+            return;
+        }
+        for (KeywordMatch match : event.matches()) {
+            List<StreamConnection> connections = connectionsByUser.get(match.userId());
+            if (connections == null) {
+                continue;
+            }
+            for (StreamConnection connection : connections) {
+                enqueue(connection, SseEmitter.event()
+                        .name("match")
+                        .data(new NotificationStreamEventDto(match.itemId(), match.keywordId()),
+                                MediaType.APPLICATION_JSON));
+                queuedEvents.increment();
+            }
+        }
+    }
+
+    // interval 동안 아무것도 보내지 않은 연결에만 하트비트 (끊긴 연결도 이때 쓰기 실패로 정리됨)
+    @Scheduled(fixedDelayString = "${used-item.stream.heartbeat-interval:PT25S}")
+    public void sendHeartbeats() {
+        long now = System.nanoTime();
+        for (List<StreamConnection> connections : connectionsByUser.values()) {
+            for (StreamConnection connection : connections) {
+                if (now - connection.lastSentAt >= heartbeatIntervalNanos
+                        && connection.offerIfEmpty(SseEmitter.event().comment(""))) {
+                    scheduleDrain(connection);
+                }
+            }
+        }
+    }
+
+    private void enqueue(StreamConnection connection, SseEventBuilder event) {
+        if (connection.offer(event)) {
+            droppedEvents.increment();
+        }
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(StreamConnection connection) {
+        if (!connection.draining.compareAndSet(false, true)) {
+            return; // 이미 예약된 전송 작업이 새 이벤트까지 보냄
+        }
+        try {
+            writerExecutor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.draining.set(false); // 종료 중
+        }
+    }
+
+    private void drain(StreamConnection connection) {
+        try {
+            for (int sent = 0; sent < MAX_EVENTS_PER_DRAIN; sent++) {
+                SseEventBuilder event = connection.poll();
+                if (event == null) {
+                    break;
+                }
+                int dropped = connection.takeDropped();
+                if (dropped > 0) {
+                    // 버린 이벤트가 있었음을 알려 클라이언트가 알림함 API 로 다시 맞추도록 함
+                    connection.emitter.send(SseEmitter.event().name("dropped").data(dropped));
+                }
+                connection.emitter.send(event);
+                connection.lastSentAt = System.nanoTime();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 응답
+            log.debug("SSE 전송 실패, 연결 종료: userId={}, {}", connection.userId, e.getMessage());
+            close(connection);
+        } finally {
+            connection.draining.set(false);
+        }
+        // 그 사이 들어온 이벤트가 있으면 다시 예약 (예약 플래그를 내린 뒤 확인해야 누락이 없음)
+        if (!connection.isClosed() && !connection.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void close(StreamConnection connection) {
+        remove(connection);
+        try {
+            connection.emitter.complete();
+        } catch (IllegalStateException e) {
+            // 이미 완료됨
+        }
+    }
+
+    private void remove(StreamConnection connection) {
+        if (!connection.close()) {
+            return;
+        }
+        connectionsByUser.computeIfPresent(connection.userId, (id, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+        connectionCount.decrementAndGet();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdownNow();
+        connectionsByUser.values().forEach(connections -> connections.forEach(this::close));
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.usedItem.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나와 아직 보내지 못한 이벤트 큐입니다.
+ *
+ * 큐는 capacity 를 넘으면 가장 오래된 이벤트를 버리고 버린 수를 기억합니다. 다음 전송 때 dropped 이벤트로
+ * 알려 주면 클라이언트는 알림함 API 로 다시 맞춥니다. 느린 클라이언트가 있어도 연결당 메모리는 capacity 로 제한됩니다.
+ */
+final class StreamConnection {
+
+    final Long userId;
+    final SseEmitter emitter;
+
+    private final int capacity;
+    private final ArrayDeque<SseEventBuilder> queue;
+    private int dropped;
+    private boolean closed;
+
+    // 전송 작업이 예약되었거나 실행 중인지 (연결당 전송 작업은 한 번에 하나)
+    final AtomicBoolean draining = new AtomicBoolean();
+    // 마지막으로 무언가를 보낸 시각 (System.nanoTime), 하트비트 생략 판단용
+    volatile long lastSentAt = System.nanoTime();
+
+    StreamConnection(Long userId, SseEmitter emitter, int capacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 8));
+    }
+
+    /**
+     * @return 큐가 가득 차 가장 오래된 이벤트를 버렸으면 true
+     */
+    synchronized boolean offer(SseEventBuilder event) {
+        if (closed) {
+            return false;
+        }
+        boolean overflow = queue.size() >= capacity;
+        if (overflow) {
+            queue.pollFirst();
+            dropped++;
+        }
+        queue.addLast(event);
+        return overflow;
+    }
+
+    // 하트비트는 보낼 이벤트가 없을 때만 넣음 (이벤트를 밀어내지 않음)
+    synchronized boolean offerIfEmpty(SseEventBuilder event) {
+        if (closed || !queue.isEmpty()) {
+            return false;
+        }
+        queue.addLast(event);
+        return true;
+    }
+
+    synchronized SseEventBuilder poll() {
+        return queue.pollFirst();
+    }
+
+    synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    // 버린 이벤트 수를 가져오고 0 으로 초기화
+    synchronized int takeDropped() {
+        int count = dropped;
+        dropped = 0;
+        return count;
+    }
+
+    /**
+     * @return 이번 호출로 닫혔으면 true (이미 닫혀 있었으면 false)
+     */
+    synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        queue.clear();
+        return true;
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+}
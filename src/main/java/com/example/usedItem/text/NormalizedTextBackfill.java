@@ -0,0 +1,83 @@
+package com.example.usedItem.text;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정규화 컬럼(keyword_text_normalized, title_normalized)을 도입하기 전에 저장된 행을 채웁니다.
+ * 새로 저장되는 행은 저장 시점에 채워지므로, 한 번 남은 행이 없음을 확인하면 이후에는 조회하지 않습니다.
+ * 매칭/색인은 값이 비어 있으면 그 자리에서 계산하므로 채우는 동안에도 결과는 같습니다.
+ */
+@Slf4j
+@Component
+public class NormalizedTextBackfill {
+
+    // 키 순서로 이어 읽음 (keyset) -> 매번 처음부터 다시 훑지 않고, 채우지 못한 행이 있어도 끝남
+    private static final String SELECT_KEYWORDS_SQL = """
+            SELECT keyword_id, keyword_text FROM keywords
+             WHERE keyword_id > ? AND keyword_text_normalized IS NULL
+             ORDER BY keyword_id LIMIT ?
+            """;
+    private static final String UPDATE_KEYWORD_SQL =
+            "UPDATE keywords SET keyword_text_normalized = ? WHERE keyword_id = ?";
+    private static final String SELECT_ITEMS_SQL = """
+            SELECT item_id, title FROM scraped_items
+             WHERE item_id > ? AND title_normalized IS NULL
+             ORDER BY item_id LIMIT ?
+            """;
+    private static final String UPDATE_ITEM_SQL =
+            "UPDATE scraped_items SET title_normalized = ? WHERE item_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private volatile boolean completed;
+
+    public NormalizedTextBackfill(JdbcTemplate jdbcTemplate,
+            @Value("${used-item.text-normalization.backfill-batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${used-item.text-normalization.backfill-initial-delay:PT1M}",
+            fixedDelayString = "${used-item.text-normalization.backfill-interval:PT10M}")
+    public synchronized void backfill() {
+        if (completed) {
+            return;
+        }
+        try {
+            int keywords = backfill(SELECT_KEYWORDS_SQL, UPDATE_KEYWORD_SQL);
+            int items = backfill(SELECT_ITEMS_SQL, UPDATE_ITEM_SQL);
+            completed = true;
+            if (keywords > 0 || items > 0) {
+                log.info("정규화 컬럼 채우기 완료: 키워드 {}건, 상품 {}건", keywords, items);
+            }
+        } catch (DataAccessException e) {
+            log.warn("정규화 컬럼 채우기 실패. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    // 마지막으로 읽은 키 다음부터 batchSize 건씩 읽어 채움 (배치마다 자동 커밋)
+    private int backfill(String selectSql, String updateSql) {
+        int total = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> updates = new ArrayList<>(batchSize);
+            jdbcTemplate.query(selectSql, rs -> {
+                updates.add(new Object[] { TextNormalizer.normalize(rs.getString(2)), rs.getLong(1) });
+            }, lastId, batchSize);
+            if (updates.isEmpty()) {
+                return total;
+            }
+            jdbcTemplate.batchUpdate(updateSql, updates);
+            total += updates.size();
+            lastId = (Long) updates.get(updates.size() - 1)[1];
+        }
+    }
+}
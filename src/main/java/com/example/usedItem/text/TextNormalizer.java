@@ -0,0 +1,71 @@
+package com.example.usedItem.text;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 키워드/상품 제목 비교용 정규화 규칙입니다. 저장 시점에 한 번만 적용해 keyword_text_normalized,
+ * title_normalized 컬럼에 함께 저장하고, 매칭/색인은 저장된 값을 그대로 사용합니다.
+ *
+ * 정규화 형태: NFKC(전각 -> 반각, 호환 문자 통일) + 소문자 + 문자/숫자 외 모든 문자(공백, 기호) 제거.
+ * 예: "아이폰 15 프로", "아이폰15프로", "[급처] ＩＰＨＯＮＥ 15" -> "아이폰15프로", "아이폰15프로", "급처iphone15"
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * NFKC + 소문자만 적용합니다. 공백/기호는 남겨 두므로 단어 단위로 자를 때 사용합니다.
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return null;
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 비교용 정규화 형태를 만듭니다. null 이면 null 을 반환합니다.
+     */
+    public static String normalize(String text) {
+        String folded = fold(text);
+        if (folded == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); ) {
+            int codePoint = folded.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                normalized.appendCodePoint(codePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 한글 음절을 초성/중성/종성 자모로 풉니다. (NFD) 받침 하나가 다른 오타("아이퐁")도 n-gram 이 많이 겹치게 됩니다.
+     */
+    public static String decomposeJamo(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD);
+    }
+
+    /**
+     * 글자 단위 n-gram 을 중복 없이 반환합니다. 문자열이 n 보다 짧으면 빈 목록입니다.
+     */
+    public static List<String> ngrams(String text, int n) {
+        if (text == null || text.length() < n) {
+            return List.of();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return new ArrayList<>(grams);
+    }
+}
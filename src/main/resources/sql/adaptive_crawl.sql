@@ -0,0 +1,10 @@
+-- 키워드별 적응형 크롤링 주기 컬럼을 추가합니다. (ddl-auto=none/validate 환경용)
+--
+-- new_item_rate: 확인마다 갱신하는 시간당 새 상품 수의 EWMA
+-- next_check_at: 다음 확인 예정 시각, NULL 이면 다음 주기에 바로 확인 (기존 행은 처음 한 번 모두 확인됨)
+
+ALTER TABLE keywords ADD COLUMN IF NOT EXISTS new_item_rate double precision;
+ALTER TABLE keywords ADD COLUMN IF NOT EXISTS next_check_at timestamp(6);
+
+CREATE INDEX IF NOT EXISTS idx_keyword_site_next_check ON keywords (target_site_code, next_check_at);
+DROP INDEX IF EXISTS idx_keyword_site_last_checked;
@@ -0,0 +1,20 @@
+-- 알림함 조회용 인덱스와 사용자별 읽지 않은 알림 카운터 테이블을 추가합니다. (ddl-auto=none/validate 환경용)
+--
+-- 카운터는 알림 INSERT / 읽음 처리 문장 안에서 함께 갱신됩니다. 기존 알림은 아래 INSERT 로 한 번 채우고,
+-- 이후 어긋난 값은 used-item.notification.unread-reconcile-interval 주기로 보정됩니다.
+
+CREATE INDEX IF NOT EXISTS idx_notification_user_created_at
+    ON notifications (user_id, created_at, notification_id);
+DROP INDEX IF EXISTS idx_notification_user_id;
+
+CREATE TABLE IF NOT EXISTS user_notification_counters (
+    user_id      bigint PRIMARY KEY,
+    unread_count bigint NOT NULL DEFAULT 0
+);
+
+INSERT INTO user_notification_counters (user_id, unread_count)
+SELECT user_id, count(*)
+  FROM notifications
+ WHERE status <> 'READ'
+ GROUP BY user_id
+ON CONFLICT (user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count;
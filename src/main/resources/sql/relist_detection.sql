@@ -0,0 +1,12 @@
+-- 재등록 감지 컬럼을 추가합니다. (ddl-auto=none/validate 환경용)
+--
+-- fingerprint 는 저장 시점에 계산되므로 기존 행은 NULL 로 남고 재등록 비교 대상에서 빠집니다.
+-- (RelistDetector 는 최근 used-item.relist.window 기간의 상품만 비교하므로 기간이 지나면 자연히 채워진 행만 남음)
+-- 판매자 ID(seller_id)가 같은 상품끼리만 재등록으로 보므로, 판매자를 모르는 기존 행도 비교 대상에서 빠집니다.
+
+ALTER TABLE scraped_items ADD COLUMN IF NOT EXISTS fingerprint bigint;
+ALTER TABLE scraped_items ADD COLUMN IF NOT EXISTS relist_of_item_id bigint;
+ALTER TABLE scraped_items ADD COLUMN IF NOT EXISTS seller_id varchar(100);
+-- 대량 적재 스테이징 테이블은 애플리케이션이 처음 적재할 때 만들므로, 이미 있으면 컬럼만 추가
+ALTER TABLE IF EXISTS scraped_items_ingest_staging ADD COLUMN IF NOT EXISTS seller_id varchar(100);
+CREATE INDEX IF NOT EXISTS idx_scraped_item_relist_of ON scraped_items (relist_of_item_id);
@@ -0,0 +1,126 @@
+-- SCRAPED_ITEMS 를 scraped_at 기준 월 단위 범위 파티션 테이블로 전환합니다. (PostgreSQL 12+)
+--
+-- 적용 순서
+--   1. 애플리케이션 중지
+--   2. 이 스크립트 실행 (한 트랜잭션)
+--   3. spring.jpa.hibernate.ddl-auto=none 또는 validate 로 변경
+--      (update 는 파티션 테이블에 uk_scraped_item_source / uk_scraped_item_url 을 다시 만들려고 시도함)
+--   4. used-item.partitioning.enabled=true 로 애플리케이션 시작
+--      -> ScrapedItemPartitionManager 가 앞으로의 파티션 생성과 보관 기간 지난 파티션 정리를 맡음
+--
+-- 파티션 테이블의 유니크 제약에는 파티션 키(scraped_at)가 반드시 포함되어야 하므로,
+-- 중복 방지용 유니크 키는 파티션하지 않은 SCRAPED_ITEM_KEYS 에 두고 저장 시 함께 INSERT 합니다.
+-- 알림의 item_id 외래 키도 SCRAPED_ITEM_KEYS 를 참조하므로, 만료된 키를 지우면 해당 알림도 함께 삭제됩니다.
+
+BEGIN;
+
+ALTER TABLE scraped_items RENAME TO scraped_items_legacy;
+-- 제약/인덱스 이름은 스키마 안에서 유일해야 하므로 새 테이블과 겹치는 기존 이름을 바꿔 둠
+ALTER TABLE scraped_items_legacy RENAME CONSTRAINT uk_scraped_item_source TO uk_scraped_item_legacy_source;
+ALTER TABLE scraped_items_legacy RENAME CONSTRAINT uk_scraped_item_url TO uk_scraped_item_legacy_url;
+ALTER INDEX IF EXISTS idx_scraped_item_scraped_at RENAME TO idx_scraped_item_legacy_scraped_at;
+ALTER INDEX IF EXISTS idx_scraped_item_site_scraped_at RENAME TO idx_scraped_item_legacy_site_scraped_at;
+ALTER INDEX IF EXISTS idx_scraped_item_relist_of RENAME TO idx_scraped_item_legacy_relist_of;
+-- text_normalization.sql 적용 전이면 복사할 정규화 컬럼이 없으므로 추가 (값은 NormalizedTextBackfill 이 채움)
+ALTER TABLE scraped_items_legacy ADD COLUMN IF NOT EXISTS title_normalized varchar(500);
+ALTER TABLE scraped_items_legacy ADD COLUMN IF NOT EXISTS fingerprint bigint;
+ALTER TABLE scraped_items_legacy ADD COLUMN IF NOT EXISTS relist_of_item_id bigint;
+ALTER TABLE scraped_items_legacy ADD COLUMN IF NOT EXISTS seller_id varchar(100);
+
+-- Hibernate 가 만든 notifications -> scraped_items 외래 키 제거 (이름이 생성 시점마다 다름)
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT conname FROM pg_constraint
+         WHERE conrelid = 'notifications'::regclass
+           AND confrelid = 'scraped_items_legacy'::regclass
+           AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE notifications DROP CONSTRAINT %I', fk.conname);
+    END LOOP;
+END $$;
+
+-- PostgreSQL 16 이하는 파티션 테이블에 IDENTITY 컬럼을 둘 수 없으므로 시퀀스 기본값 사용
+CREATE SEQUENCE scraped_items_partitioned_item_id_seq;
+
+CREATE TABLE scraped_items (
+    item_id          bigint        NOT NULL DEFAULT nextval('scraped_items_partitioned_item_id_seq'),
+    source_site_code varchar(20)   NOT NULL,
+    item_source_id   varchar(100)  NOT NULL,
+    title            varchar(500)  NOT NULL,
+    title_normalized varchar(500),
+    price            integer,
+    item_url         varchar(2048) NOT NULL,
+    image_url        varchar(2048),
+    location         varchar(100),
+    posted_at_source timestamp(6),
+    seller_id        varchar(100),
+    fingerprint      bigint,
+    relist_of_item_id bigint,
+    scraped_at       timestamp(6)  NOT NULL,
+    is_notified      boolean       NOT NULL,
+    CONSTRAINT pk_scraped_items PRIMARY KEY (item_id, scraped_at)
+) PARTITION BY RANGE (scraped_at);
+
+ALTER SEQUENCE scraped_items_partitioned_item_id_seq OWNED BY scraped_items.item_id;
+
+CREATE INDEX idx_scraped_item_scraped_at ON scraped_items (scraped_at, item_id);
+CREATE INDEX idx_scraped_item_site_scraped_at ON scraped_items (source_site_code, scraped_at, item_id);
+CREATE INDEX idx_scraped_item_relist_of ON scraped_items (relist_of_item_id);
+-- findByNotifiedFalseAndScrapedAtAfter 용: 최근 파티션의 미발송 상품만 담는 작은 인덱스
+CREATE INDEX idx_scraped_item_not_notified ON scraped_items (scraped_at) WHERE is_notified = false;
+
+-- 범위 밖 행을 받아 두는 기본 파티션 (평소에는 비어 있어야 함, 파티션 관리 작업이 미리 월 파티션을 만듦)
+CREATE TABLE scraped_items_default PARTITION OF scraped_items DEFAULT;
+
+-- 기존 데이터 범위 + 다음 달까지 월 파티션 생성 (이름: scraped_items_pYYYYMM)
+DO $$
+DECLARE
+    month_start date := date_trunc('month', coalesce((SELECT min(scraped_at) FROM scraped_items_legacy), now()));
+    last_month  date := date_trunc('month', now() + interval '1 month');
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF scraped_items FOR VALUES FROM (%L) TO (%L)',
+                       'scraped_items_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, (month_start + interval '1 month')::date);
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+CREATE TABLE scraped_item_keys (
+    item_id          bigint        NOT NULL,
+    source_site_code varchar(20)   NOT NULL,
+    item_source_id   varchar(100)  NOT NULL,
+    item_url         varchar(2048) NOT NULL,
+    scraped_at       timestamp(6)  NOT NULL,
+    CONSTRAINT pk_scraped_item_keys PRIMARY KEY (item_id),
+    CONSTRAINT uk_scraped_item_source UNIQUE (source_site_code, item_source_id),
+    CONSTRAINT uk_scraped_item_url UNIQUE (item_url)
+);
+-- 보관 기간 지난 키 삭제용
+CREATE INDEX idx_scraped_item_keys_scraped_at ON scraped_item_keys (scraped_at);
+
+INSERT INTO scraped_items (item_id, source_site_code, item_source_id, title, title_normalized, price, item_url,
+                           image_url, location, posted_at_source, seller_id, fingerprint, relist_of_item_id,
+                           scraped_at, is_notified)
+SELECT item_id, source_site_code, item_source_id, title, title_normalized, price, item_url,
+       image_url, location, posted_at_source, seller_id, fingerprint, relist_of_item_id, scraped_at, is_notified
+  FROM scraped_items_legacy;
+
+INSERT INTO scraped_item_keys (item_id, source_site_code, item_source_id, item_url, scraped_at)
+SELECT item_id, source_site_code, item_source_id, item_url, scraped_at
+  FROM scraped_items_legacy;
+
+SELECT setval('scraped_items_partitioned_item_id_seq',
+              coalesce((SELECT max(item_id) FROM scraped_items_legacy), 0) + 1, false);
+
+ALTER TABLE notifications
+    ADD CONSTRAINT fk_notification_item_key FOREIGN KEY (item_id)
+        REFERENCES scraped_item_keys (item_id) ON DELETE CASCADE;
+
+-- 데이터 확인 후 직접 삭제
+-- DROP TABLE scraped_items_legacy;
+
+COMMIT;
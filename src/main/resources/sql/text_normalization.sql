@@ -0,0 +1,11 @@
+-- 키워드/상품 제목 정규화 컬럼을 추가합니다. (ddl-auto=none/validate 환경용)
+--
+-- 값은 애플리케이션이 저장 시점에 TextNormalizer.normalize 로 채우고,
+-- 이미 있던 행은 NormalizedTextBackfill 이 기동 후 배치로 채웁니다.
+-- 파티션 테이블(scraped_items_partitioning.sql 적용 후)에도 그대로 적용됩니다.
+
+ALTER TABLE keywords ADD COLUMN IF NOT EXISTS keyword_text_normalized varchar(255);
+ALTER TABLE scraped_items ADD COLUMN IF NOT EXISTS title_normalized varchar(500);
+
+-- 크롤링 후 정규화 검색어 묶음 단위로 확인 시각을 기록할 때 사용
+CREATE INDEX IF NOT EXISTS idx_keyword_site_normalized ON keywords (target_site_code, keyword_text_normalized);
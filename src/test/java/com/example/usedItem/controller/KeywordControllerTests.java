@@ -0,0 +1,126 @@
+package com.example.usedItem.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.usedItem.dto.KeywordRequestDto;
+import com.example.usedItem.dto.KeywordResponseDto;
+import com.example.usedItem.service.KeywordService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 키워드 목록의 ETag 가 추가/삭제 때 바뀌고, 같은 ETag 로 다시 요청하면 304 인지 확인합니다.
+ */
+class KeywordControllerTests {
+
+	private static final long USER_ID = 1L;
+
+	private final KeywordService keywordService = mock(KeywordService.class);
+	private final List<KeywordResponseDto> stored = new ArrayList<>();
+
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new KeywordController(keywordService)).build();
+
+	@BeforeEach
+	void setUp() {
+		stored.add(keyword(10L, "맥북", LocalDateTime.of(2025, 1, 1, 9, 0)));
+		when(keywordService.getKeywordsByUser(USER_ID)).thenAnswer(invocation -> List.copyOf(stored));
+		when(keywordService.addKeyword(eq(USER_ID), any(KeywordRequestDto.class))).thenAnswer(invocation -> {
+			KeywordRequestDto request = invocation.getArgument(1);
+			KeywordResponseDto created = keyword(10L + stored.size(), request.getKeywordText(),
+					LocalDateTime.of(2025, 1, 2, 9, 0));
+			stored.add(created);
+			return created;
+		});
+		doAnswer(invocation -> {
+			Long keywordId = invocation.getArgument(1);
+			stored.removeIf(keyword -> keyword.getKeywordId().equals(keywordId));
+			return null;
+		}).when(keywordService).deleteKeyword(eq(USER_ID), anyLong());
+	}
+
+	@Test
+	void sameETagIsAnswered304WithoutBody() throws Exception {
+		String eTag = currentETag();
+
+		mockMvc.perform(get("/api/users/{userId}/keywords", USER_ID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, eTag))
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void eTagChangesAfterCreateAndDelete() throws Exception {
+		String initial = currentETag();
+
+		mockMvc.perform(post("/api/users/{userId}/keywords", USER_ID)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"keywordText\":\"아이폰 15\",\"targetSiteCode\":\"BUNJANG\"}"))
+				.andExpect(status().isCreated());
+		String afterCreate = currentETag();
+
+		mockMvc.perform(get("/api/users/{userId}/keywords", USER_ID).header(HttpHeaders.IF_NONE_MATCH, initial))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, afterCreate))
+				.andExpect(jsonPath("$.length()").value(2));
+
+		mockMvc.perform(delete("/api/users/{userId}/keywords/{keywordId}", USER_ID, 10L))
+				.andExpect(status().isNoContent());
+		String afterDelete = currentETag();
+
+		assertThat(afterCreate).isNotEqualTo(initial);
+		assertThat(afterDelete).isNotEqualTo(afterCreate).isNotEqualTo(initial);
+	}
+
+	@Test
+	void matchingETagInMultiValueHeaderAndStrongFormAre304() throws Exception {
+		String eTag = currentETag();
+		String strong = eTag.substring(2);
+
+		mockMvc.perform(get("/api/users/{userId}/keywords", USER_ID)
+						.header(HttpHeaders.IF_NONE_MATCH, "W/\"0-null\", " + eTag))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/users/{userId}/keywords", USER_ID).header(HttpHeaders.IF_NONE_MATCH, strong))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void wildcardIs304() throws Exception {
+		mockMvc.perform(get("/api/users/{userId}/keywords", USER_ID).header(HttpHeaders.IF_NONE_MATCH, "*"))
+				.andExpect(status().isNotModified());
+	}
+
+	private String currentETag() throws Exception {
+		return mockMvc.perform(get("/api/users/{userId}/keywords", USER_ID))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+	}
+
+	private static KeywordResponseDto keyword(Long keywordId, String text, LocalDateTime updatedAt) {
+		return new KeywordResponseDto(keywordId, text, "BUNJANG", true, null, null, updatedAt, updatedAt);
+	}
+}
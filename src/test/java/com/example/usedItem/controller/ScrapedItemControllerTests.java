@@ -0,0 +1,131 @@
+package com.example.usedItem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.usedItem.dto.ScrapedItemResponseDto;
+import com.example.usedItem.service.ScrapedItemExportService;
+import com.example.usedItem.service.ScrapedItemIngestService;
+import com.example.usedItem.service.ScrapedItemService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품 단건 조회의 ETag/If-None-Match 처리와 내보내기 응답의 비동기 허용 시간을 확인합니다.
+ */
+class ScrapedItemControllerTests {
+
+	private static final long GLOBAL_TIMEOUT_MILLIS = 30_000;
+	private static final long ITEM_ID = 7L;
+
+	private final ScrapedItemService scrapedItemService = mock(ScrapedItemService.class);
+
+	private final MockMvc mockMvc = MockMvcBuilders
+			.standaloneSetup(new ScrapedItemController(scrapedItemService, mock(ScrapedItemExportService.class),
+					mock(ScrapedItemIngestService.class), Duration.ofHours(1)))
+			.setAsyncRequestTimeout(GLOBAL_TIMEOUT_MILLIS)
+			.build();
+
+	@Test
+	void notifiedETagIsAnswered304WithoutReadingTheItem() throws Exception {
+		// 의도된 동작: 알림 완료 상태는 다시 바뀌지 않으므로 존재 확인 없이 304
+		// (보관 기간 정리로 지워진 상품도 이 ETag 를 가진 클라이언트에는 304)
+		mockMvc.perform(get("/api/scraped-items/{itemId}", ITEM_ID).header(HttpHeaders.IF_NONE_MATCH, "W/\"7-n\""))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"7-n\""))
+				.andExpect(content().string(""));
+
+		verifyNoInteractions(scrapedItemService);
+	}
+
+	@Test
+	void strongFormOfNotifiedETagMatchesWeakly() throws Exception {
+		mockMvc.perform(get("/api/scraped-items/{itemId}", ITEM_ID).header(HttpHeaders.IF_NONE_MATCH, "\"7-n\""))
+				.andExpect(status().isNotModified());
+
+		verifyNoInteractions(scrapedItemService);
+	}
+
+	@Test
+	void notifiedETagAnywhereInListMatches() throws Exception {
+		mockMvc.perform(get("/api/scraped-items/{itemId}", ITEM_ID)
+						.header(HttpHeaders.IF_NONE_MATCH, "W/\"6-n\", \"x\" ,W/\"7-n\""))
+				.andExpect(status().isNotModified());
+
+		verifyNoInteractions(scrapedItemService);
+	}
+
+	@Test
+	void currentUnnotifiedETagIs304AfterReadingTheItem() throws Exception {
+		when(scrapedItemService.getItemById(ITEM_ID)).thenReturn(item(false));
+
+		mockMvc.perform(get("/api/scraped-items/{itemId}", ITEM_ID).header(HttpHeaders.IF_NONE_MATCH, "W/\"7\""))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"7\""));
+	}
+
+	@Test
+	void staleETagGets200WithNewETag() throws Exception {
+		when(scrapedItemService.getItemById(ITEM_ID)).thenReturn(item(true));
+
+		mockMvc.perform(get("/api/scraped-items/{itemId}", ITEM_ID).header(HttpHeaders.IF_NONE_MATCH, "W/\"7\""))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"7-n\""))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+				.andExpect(jsonPath("$.itemId").value(ITEM_ID))
+				.andExpect(jsonPath("$.notified").value(true));
+	}
+
+	@Test
+	void otherItemsETagsInListDoNotMatch() throws Exception {
+		when(scrapedItemService.getItemById(ITEM_ID)).thenReturn(item(false));
+
+		mockMvc.perform(get("/api/scraped-items/{itemId}", ITEM_ID)
+						.header(HttpHeaders.IF_NONE_MATCH, "W/\"17-n\", W/\"77\""))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"7\""));
+	}
+
+	@Test
+	void wildcardIsCheckedAgainstTheStoredItem() throws Exception {
+		// "*" 는 현재 표현이 있으면 일치 -> 지름길로 답하지 않고 상품을 읽은 뒤 304
+		when(scrapedItemService.getItemById(ITEM_ID)).thenReturn(item(true));
+
+		mockMvc.perform(get("/api/scraped-items/{itemId}", ITEM_ID).header(HttpHeaders.IF_NONE_MATCH, "*"))
+				.andExpect(status().isNotModified());
+
+		verify(scrapedItemService).getItemById(ITEM_ID);
+	}
+
+	@Test
+	void exportUsesItsOwnAsyncTimeout() throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/scraped-items/export"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofHours(1).toMillis());
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+	}
+
+	private static ScrapedItemResponseDto item(boolean notified) {
+		return new ScrapedItemResponseDto(ITEM_ID, "BUNJANG", "1001", "맥북 에어 M2", 900_000,
+				"https://example.com/items/1001", null, null, null, LocalDateTime.of(2025, 1, 1, 12, 0), notified);
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.usedItem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.usedItem.dto.UserSignUpRequestDto;
+import com.example.usedItem.service.UserService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 가입 중복이 사전 확인에서 걸리든 저장 시점(동시 가입)에 걸리든 같은 409 로 응답하는지 확인합니다.
+ */
+class UserControllerTests {
+
+	private static final String DUPLICATE_EMAIL = "이미 사용 중인 이메일입니다.";
+	private static final String BODY = """
+			{"email":"new@example.com","password":"password123","nickname":"newbie"}
+			""";
+
+	private final UserService userService = mock(UserService.class);
+
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService)).build();
+
+	@Test
+	void duplicateFoundByPreCheckIsConflict() throws Exception {
+		when(userService.signUp(any(UserSignUpRequestDto.class)))
+				.thenThrow(new IllegalArgumentException(DUPLICATE_EMAIL));
+
+		mockMvc.perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON).content(BODY))
+				.andExpect(status().isConflict())
+				.andExpect(status().reason(DUPLICATE_EMAIL));
+	}
+
+	@Test
+	void duplicateFoundAtInsertIsTheSameConflict() throws Exception {
+		when(userService.signUp(any(UserSignUpRequestDto.class))).thenReturn(
+				CompletableFuture.failedFuture(new CompletionException(new IllegalArgumentException(DUPLICATE_EMAIL))));
+
+		MvcResult result = mockMvc.perform(post("/api/users/signup")
+						.contentType(MediaType.APPLICATION_JSON).content(BODY))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isConflict())
+				.andExpect(status().reason(DUPLICATE_EMAIL));
+	}
+
+	@Test
+	void fullHashingQueueIsServiceUnavailable() throws Exception {
+		when(userService.signUp(any(UserSignUpRequestDto.class))).thenThrow(new RejectedExecutionException());
+
+		mockMvc.perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON).content(BODY))
+				.andExpect(status().isServiceUnavailable());
+	}
+}
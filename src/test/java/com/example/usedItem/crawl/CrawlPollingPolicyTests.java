@@ -0,0 +1,76 @@
+package com.example.usedItem.crawl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CrawlPollingPolicyTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+	// 최소 1분, 최대 1시간, 확인당 새 상품 1개, 최신 결과 가중치 0.5
+	private final CrawlPollingPolicy policy = new CrawlPollingPolicy(properties());
+
+	@Test
+	void firstCheckKeepsRateUnknownAndChecksAgainSoon() {
+		Double rate = policy.nextRate(null, 40, null, NOW);
+
+		assertThat(rate).isNull();
+		assertThat(policy.nextInterval(rate)).isEqualTo(Duration.ofMinutes(1));
+		assertThat(policy.tier(rate)).isEqualTo(CrawlTier.NEW);
+	}
+
+	@Test
+	void ratesAreNormalizedByElapsedTimeAndSmoothed() {
+		// 30분 동안 3개 -> 시간당 6개
+		assertThat(policy.nextRate(null, 3, NOW.minusMinutes(30), NOW)).isCloseTo(6.0, within(1e-9));
+		// 0.5 * 6 + 0.5 * 2
+		assertThat(policy.nextRate(2.0, 3, NOW.minusMinutes(30), NOW)).isCloseTo(4.0, within(1e-9));
+		// 최소 간격보다 짧은 경과 시간은 최소 간격으로 계산 (10초에 1개 -> 분당 1개)
+		assertThat(policy.nextRate(null, 1, NOW.minusSeconds(10), NOW)).isCloseTo(60.0, within(1e-9));
+	}
+
+	@Test
+	void intervalTargetsOneNewItemPerCheckWithinBounds() {
+		assertThat(policy.nextInterval(4.0)).isEqualTo(Duration.ofMinutes(15));
+		assertThat(policy.tier(4.0)).isEqualTo(CrawlTier.WARM);
+
+		assertThat(policy.nextInterval(600.0)).isEqualTo(Duration.ofMinutes(1));
+		assertThat(policy.tier(600.0)).isEqualTo(CrawlTier.HOT);
+
+		assertThat(policy.nextInterval(0.0)).isEqualTo(Duration.ofHours(1));
+		assertThat(policy.tier(0.0)).isEqualTo(CrawlTier.COLD);
+	}
+
+	@Test
+	void quietQueryDecaysTowardsMaxInterval() {
+		Double rate = 60.0;
+		for (int i = 0; i < 10; i++) {
+			rate = policy.nextRate(rate, 0, NOW.minus(policy.nextInterval(rate)), NOW);
+		}
+
+		assertThat(policy.tier(rate)).isEqualTo(CrawlTier.COLD);
+	}
+
+	@Test
+	void retryIntervalDoublesFromMinIntervalUpToMaxInterval() {
+		assertThat(policy.retryInterval(1)).isEqualTo(Duration.ofMinutes(1));
+		assertThat(policy.retryInterval(2)).isEqualTo(Duration.ofMinutes(2));
+		assertThat(policy.retryInterval(5)).isEqualTo(Duration.ofMinutes(16));
+		assertThat(policy.retryInterval(7)).isEqualTo(Duration.ofHours(1));
+		assertThat(policy.retryInterval(1_000)).isEqualTo(Duration.ofHours(1));
+	}
+
+	private static CrawlProperties properties() {
+		CrawlProperties properties = new CrawlProperties();
+		properties.setMinCheckInterval(Duration.ofMinutes(1));
+		properties.setMaxCheckInterval(Duration.ofHours(1));
+		properties.setTargetNewItemsPerCheck(1.0);
+		properties.setRateSmoothing(0.5);
+		return properties;
+	}
+}
@@ -0,0 +1,249 @@
+package com.example.usedItem.crawl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.repository.KeywordRepository;
+import com.example.usedItem.service.NotificationService;
+import com.example.usedItem.service.ScrapedItemService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CrawlSchedulerTests {
+
+	private HttpServer stubServer;
+	private final Queue<String> receivedQueries = new ConcurrentLinkedQueue<>();
+
+	private final KeywordRepository keywordRepository = mock(KeywordRepository.class);
+	private final ScrapedItemService scrapedItemService = mock(ScrapedItemService.class);
+	private final NotificationService notificationService = mock(NotificationService.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@BeforeEach
+	void startStubServer() throws IOException {
+		stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stubServer.createContext("/search", exchange -> {
+			String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery().substring("q=".length()),
+					StandardCharsets.UTF_8);
+			receivedQueries.add(query);
+			byte[] body;
+			int status = 200;
+			if (query.equals("고장")) {
+				status = 503;
+				body = new byte[0];
+			} else {
+				body = ("[{\"id\":\"" + query.hashCode() + "\",\"title\":\"" + query + " 팝니다\",\"price\":10000,"
+						+ "\"url\":\"https://stub/items/" + query.hashCode() + "\",\"postedAt\":\"2025-01-01T10:00:00\","
+						+ "\"unknownField\":true}]").getBytes(StandardCharsets.UTF_8);
+			}
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		stubServer.start();
+	}
+
+	@AfterEach
+	void stopStubServer() {
+		stubServer.stop(0);
+	}
+
+	@Test
+	void searchesEachCoalescedQueryOnceSavesResultsAndSchedulesCheckedQueries() {
+		CrawlScheduler scheduler = schedulerFor("STUB");
+		// 맥북 3명, 아이폰 15 2명 ("아이폰15" 와 같은 검색어), 고장 1명
+		when(keywordRepository.findDueCrawlTargets(eq("STUB"), any(), any())).thenReturn(List.of(
+				new CrawlTarget("STUB", "맥북", "맥북", 3L, null, null),
+				new CrawlTarget("STUB", "아이폰15", "아이폰 15", 2L, LocalDateTime.now().minusHours(1), 0.5),
+				new CrawlTarget("STUB", "고장", "고장", 1L, null, null)));
+		when(keywordRepository.updateCrawlSchedules(eq("STUB"), anyList(), any())).thenReturn(5);
+		when(scrapedItemService.saveItemsIfNotExists(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		CrawlCycleResult result = scheduler.runCycle();
+
+		assertThat(receivedQueries).containsExactlyInAnyOrder("맥북", "아이폰 15", "고장");
+		assertThat(result).isEqualTo(new CrawlCycleResult(3, 6, 5, 2));
+		assertThat(meterRegistry.get("useditem.crawl.requests").counter().count()).isEqualTo(3);
+		assertThat(meterRegistry.get("useditem.crawl.keywords").counter().count()).isEqualTo(6);
+		assertThat(meterRegistry.get("useditem.crawl.coalescing.ratio").gauge().value()).isCloseTo(2.0, within(1e-9));
+		verify(scrapedItemService).saveItemsIfNotExists(argThat((List<ScrapedItem> items) -> items.size() == 1
+				&& items.get(0).getTitle().equals("맥북 팝니다")
+				&& items.get(0).getSourceSiteCode().equals("STUB")
+				&& items.get(0).getPrice() == 10000));
+		verify(notificationService, times(2)).createNotificationsForItems(anyList());
+		// 실패한 검색어(고장)는 확인한 것으로 기록하지 않고 다음 확인만 최소 간격(1분) 뒤로 미룸
+		// 처음 확인한 맥북은 속도를 모르므로 그대로, 아이폰15 는 1시간에 1개 -> 0.3 * 1 + 0.7 * 0.5
+		verify(keywordRepository).updateCrawlSchedules(eq("STUB"), argThat((List<CrawlSchedule> schedules) -> {
+			Map<String, Double> rates = new HashMap<>();
+			schedules.forEach(schedule -> rates.put(schedule.query(), schedule.newItemRate()));
+			return schedules.size() == 2 && rates.containsKey("맥북") && rates.get("맥북") == null
+					&& Math.abs(rates.get("아이폰15") - 0.65) < 0.01;
+		}), any());
+		verify(keywordRepository).postponeCrawlSchedules(eq("STUB"), argThat((List<CrawlSchedule> retries) ->
+				retries.size() == 1 && retries.get(0).query().equals("고장")
+						&& retries.get(0).nextCheckAt().isAfter(LocalDateTime.now().plusSeconds(50))));
+		scheduler.shutdown();
+	}
+
+	@Test
+	void backsOffExponentiallyWhileSearchKeepsFailing() {
+		CrawlScheduler scheduler = schedulerFor("STUB");
+		when(keywordRepository.findDueCrawlTargets(eq("STUB"), any(), any())).thenReturn(List.of(
+				new CrawlTarget("STUB", "고장", "고장", 1L, null, null)));
+		List<Duration> delays = new ArrayList<>();
+		when(keywordRepository.postponeCrawlSchedules(eq("STUB"), anyList())).thenAnswer(invocation -> {
+			List<CrawlSchedule> retries = invocation.getArgument(1);
+			delays.add(Duration.between(LocalDateTime.now(), retries.get(0).nextCheckAt()));
+			return 1;
+		});
+
+		for (int i = 0; i < 3; i++) {
+			scheduler.runCycle();
+		}
+
+		// 1분, 2분, 4분 (주기 실행 시각과 검사 시각 차이만큼 여유)
+		assertThat(delays).hasSize(3);
+		for (int i = 0; i < 3; i++) {
+			assertThat(delays.get(i)).isBetween(Duration.ofMinutes(1L << i).minusSeconds(5),
+					Duration.ofMinutes(1L << i));
+		}
+		verify(keywordRepository, never()).updateCrawlSchedules(any(), any(), any());
+		scheduler.shutdown();
+	}
+
+	@Test
+	void saveFailureRetriesAtMinimumIntervalWithoutBackingOff() {
+		CrawlScheduler scheduler = schedulerFor("STUB");
+		when(keywordRepository.findDueCrawlTargets(eq("STUB"), any(), any())).thenReturn(List.of(
+				new CrawlTarget("STUB", "맥북", "맥북", 1L, null, null)));
+		when(scrapedItemService.saveItemsIfNotExists(anyList()))
+				.thenThrow(new DataAccessResourceFailureException("connection refused"));
+		List<Duration> delays = new ArrayList<>();
+		when(keywordRepository.postponeCrawlSchedules(eq("STUB"), anyList())).thenAnswer(invocation -> {
+			List<CrawlSchedule> retries = invocation.getArgument(1);
+			delays.add(Duration.between(LocalDateTime.now(), retries.get(0).nextCheckAt()));
+			return 1;
+		});
+
+		for (int i = 0; i < 3; i++) {
+			scheduler.runCycle();
+		}
+
+		// 사이트는 응답했으므로 매번 최소 간격(1분) 뒤 다시 확인하고, 확인한 것으로 기록하지 않음
+		assertThat(delays).hasSize(3);
+		assertThat(delays).allSatisfy(delay ->
+				assertThat(delay).isBetween(Duration.ofMinutes(1).minusSeconds(5), Duration.ofMinutes(1)));
+		assertThat(scheduler.trackedFailures()).isZero();
+		verify(keywordRepository, never()).updateCrawlSchedules(any(), any(), any());
+		verify(notificationService, never()).createNotificationsForItems(anyList());
+		scheduler.shutdown();
+	}
+
+	@Test
+	void forgetsFailuresOfQueriesThatAreNoLongerDue() throws InterruptedException {
+		CrawlProperties properties = propertiesFor("STUB");
+		properties.setMinCheckInterval(Duration.ofMillis(10));
+		CrawlScheduler scheduler = new CrawlScheduler(properties, keywordRepository, scrapedItemService,
+				notificationService, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+		when(keywordRepository.findDueCrawlTargets(eq("STUB"), any(), any()))
+				.thenReturn(List.of(new CrawlTarget("STUB", "고장", "고장", 1L, null, null)))
+				.thenReturn(List.of());
+
+		scheduler.runCycle();
+		assertThat(scheduler.trackedFailures()).isEqualTo(1);
+
+		// 재시도 시각이 지났는데 대상에 없음 -> 키워드가 삭제된 것으로 보고 실패 횟수를 지움
+		Thread.sleep(50);
+		scheduler.runCycle();
+
+		assertThat(scheduler.trackedFailures()).isZero();
+		scheduler.shutdown();
+	}
+
+	@Test
+	@Timeout(10)
+	void releasesThrottlePermitWhenRequestCannotBeBuilt() {
+		// 공백이 든 주소 -> search 가 요청을 만들다 바로 예외 (동시 요청 1개라 허가를 돌려주지 않으면 두 번째에서 멈춤)
+		CrawlProperties.Site site = new CrawlProperties.Site();
+		site.setBaseUrl("http://bad host");
+		site.setMaxConcurrency(1);
+		site.setRequestsPerSecond(1000);
+		CrawlProperties properties = new CrawlProperties();
+		properties.getSites().put("BROKEN", site);
+		CrawlScheduler scheduler = new CrawlScheduler(properties, keywordRepository, scrapedItemService,
+				notificationService, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+		when(keywordRepository.findDueCrawlTargets(eq("BROKEN"), any(), any())).thenReturn(List.of(
+				new CrawlTarget("BROKEN", "맥북", "맥북", 1L, null, null),
+				new CrawlTarget("BROKEN", "아이폰", "아이폰", 1L, null, null),
+				new CrawlTarget("BROKEN", "갤럭시", "갤럭시", 1L, null, null)));
+
+		CrawlCycleResult result = scheduler.runCycle();
+
+		assertThat(result).isEqualTo(new CrawlCycleResult(3, 3, 0, 0));
+		verify(keywordRepository).postponeCrawlSchedules(eq("BROKEN"),
+				argThat((List<CrawlSchedule> retries) -> retries.size() == 3));
+		scheduler.shutdown();
+	}
+
+	@Test
+	void skipsUpdateWhenNothingIsDue() {
+		CrawlScheduler scheduler = schedulerFor("STUB");
+		when(keywordRepository.findDueCrawlTargets(eq("STUB"), any(), any())).thenReturn(List.of());
+
+		CrawlCycleResult result = scheduler.runCycle();
+
+		assertThat(result).isEqualTo(new CrawlCycleResult(0, 0, 0, 0));
+		assertThat(receivedQueries).isEmpty();
+		verify(keywordRepository, never()).updateCrawlSchedules(any(), any(), any());
+		scheduler.shutdown();
+	}
+
+	private CrawlScheduler schedulerFor(String siteCode) {
+		return new CrawlScheduler(propertiesFor(siteCode), keywordRepository, scrapedItemService, notificationService,
+				new ObjectMapper().findAndRegisterModules(), meterRegistry);
+	}
+
+	private CrawlProperties propertiesFor(String siteCode) {
+		CrawlProperties.Site site = new CrawlProperties.Site();
+		site.setBaseUrl("http://127.0.0.1:" + stubServer.getAddress().getPort());
+		site.setSearchPath("/search?q={query}");
+		site.setRequestsPerSecond(1000);
+		CrawlProperties properties = new CrawlProperties();
+		properties.getSites().put(siteCode, site);
+		return properties;
+	}
+
+}
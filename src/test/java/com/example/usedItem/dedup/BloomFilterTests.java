@@ -0,0 +1,61 @@
+package com.example.usedItem.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTests {
+
+	private static final int INSERTED = 200_000;
+	private static final int PROBES = 200_000;
+
+	@Test
+	void hasNoFalseNegativesAndMeetsTargetFalsePositiveRate() {
+		BloomFilter filter = BloomFilter.create(INSERTED, 0.01, Long.MAX_VALUE);
+		for (int i = 0; i < INSERTED; i++) {
+			filter.put(itemUrl(i));
+		}
+
+		for (int i = 0; i < INSERTED; i++) {
+			assertThat(filter.mightContain(itemUrl(i))).isTrue();
+		}
+		assertThat(measuredFalsePositiveRate(filter)).isBetween(0.005, 0.015);
+		assertThat(filter.sizeInBytes()).isEqualTo(BloomFilter.optimalSizeInBytes(INSERTED, 0.01));
+	}
+
+	@Test
+	void memoryCapRaisesFalsePositiveRate() {
+		long optimal = BloomFilter.optimalSizeInBytes(INSERTED, 0.01);
+		BloomFilter capped = BloomFilter.create(INSERTED, 0.01, optimal / 4);
+		for (int i = 0; i < INSERTED; i++) {
+			capped.put(itemUrl(i));
+		}
+
+		assertThat(capped.sizeInBytes()).isLessThanOrEqualTo(optimal / 4);
+		assertThat(measuredFalsePositiveRate(capped)).isGreaterThan(0.05);
+	}
+
+	@Test
+	void rejectsFalsePositiveRateOutsideOpenUnitInterval() {
+		assertThatThrownBy(() -> BloomFilter.create(INSERTED, 0, Long.MAX_VALUE))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> BloomFilter.create(INSERTED, 1, Long.MAX_VALUE))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// 넣지 않은 키만 조회해 있다고 답한 비율
+	private static double measuredFalsePositiveRate(BloomFilter filter) {
+		int falsePositives = 0;
+		for (int i = 0; i < PROBES; i++) {
+			if (filter.mightContain(itemUrl(INSERTED + i))) {
+				falsePositives++;
+			}
+		}
+		return (double) falsePositives / PROBES;
+	}
+
+	private static String itemUrl(int id) {
+		return "https://m.bunjang.co.kr/products/" + id;
+	}
+}
@@ -0,0 +1,159 @@
+package com.example.usedItem.dedup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.event.ScrapedItemsSavedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구간(band) 조회, 판매자 일치 조건, 기간/개수 제한 제거, 기동 시 DB 적재를 확인합니다.
+ */
+@DataJpaTest
+class RelistDetectorTests {
+
+	private static final long FINGERPRINT = 0x0123_4567_89AB_CDEFL;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private long nextSourceId;
+
+	@Test
+	void findsCandidatesWithinDistanceThroughAnyMatchingBand() {
+		// max-distance 3 -> 16비트씩 4개 구간
+		RelistDetector detector = detector(Duration.ofDays(14), 1_000);
+		saved(detector, 1L, "seller-1", FINGERPRINT, LocalDateTime.now());
+
+		// 서로 다른 세 구간의 비트가 바뀌어도 나머지 한 구간이 같아 후보로 찾음
+		assertThat(relistOf(detector, "seller-1", FINGERPRINT ^ (1L | 1L << 20 | 1L << 40))).isEqualTo(1L);
+		// 한 구간 안에서 3비트
+		assertThat(relistOf(detector, "seller-1", FINGERPRINT ^ 0b111L)).isEqualTo(1L);
+		// 구간은 같지만 거리 4
+		assertThat(relistOf(detector, "seller-1", FINGERPRINT ^ 0b1111L)).isNull();
+		// 네 구간이 모두 다름
+		assertThat(relistOf(detector, "seller-1", FINGERPRINT ^ (1L | 1L << 20 | 1L << 40 | 1L << 60))).isNull();
+	}
+
+	@Test
+	void picksTheClosestCandidate() {
+		RelistDetector detector = detector(Duration.ofDays(14), 1_000);
+		saved(detector, 1L, "seller-1", FINGERPRINT ^ 0b11L, LocalDateTime.now());
+		saved(detector, 2L, "seller-1", FINGERPRINT ^ 0b1L, LocalDateTime.now());
+		saved(detector, 3L, "seller-1", FINGERPRINT ^ 0b111L, LocalDateTime.now());
+
+		assertThat(relistOf(detector, "seller-1", FINGERPRINT)).isEqualTo(2L);
+	}
+
+	@Test
+	void onlySameSiteAndSameSellerCount() {
+		RelistDetector detector = detector(Duration.ofDays(14), 1_000);
+		saved(detector, 1L, "seller-1", FINGERPRINT, LocalDateTime.now());
+
+		assertThat(relistOf(detector, "seller-2", FINGERPRINT)).isNull();
+		assertThat(relistOf(detector, null, FINGERPRINT)).isNull();
+		ScrapedItem otherSite = item("JOONGGO", "seller-1", FINGERPRINT);
+		detector.markRelists(List.of(otherSite));
+		assertThat(otherSite.getRelistOfItemId()).isNull();
+
+		// 판매자를 모르는 저장 상품은 비교 대상에 넣지 않음
+		saved(detector, 2L, null, ~FINGERPRINT, LocalDateTime.now());
+		assertThat(relistOf(detector, "seller-1", ~FINGERPRINT)).isNull();
+	}
+
+	@Test
+	void evictsEntriesOlderThanWindowAndBeyondMaxEntries() {
+		RelistDetector byWindow = detector(Duration.ofDays(1), 1_000);
+		saved(byWindow, 1L, "seller-1", FINGERPRINT, LocalDateTime.now().minusDays(2));
+		saved(byWindow, 2L, "seller-1", ~FINGERPRINT, LocalDateTime.now());
+
+		assertThat(relistOf(byWindow, "seller-1", FINGERPRINT)).isNull();
+		assertThat(relistOf(byWindow, "seller-1", ~FINGERPRINT)).isEqualTo(2L);
+
+		RelistDetector bySize = detector(Duration.ofDays(14), 1);
+		saved(bySize, 1L, "seller-1", FINGERPRINT, LocalDateTime.now());
+		saved(bySize, 2L, "seller-1", ~FINGERPRINT, LocalDateTime.now());
+
+		assertThat(relistOf(bySize, "seller-1", FINGERPRINT)).isNull();
+		assertThat(relistOf(bySize, "seller-1", ~FINGERPRINT)).isEqualTo(2L);
+	}
+
+	@Test
+	void warmUpLoadsRecentItemsWithSellerFromDatabase() {
+		ScrapedItem original = entityManager.persist(listing("1001", "seller-1"));
+		entityManager.persist(listing("1002", null));
+		entityManager.flush();
+		RelistDetector detector = detector(Duration.ofDays(14), 1_000);
+
+		detector.warmUp();
+
+		ScrapedItem relisted = listing("2001", "seller-1");
+		ScrapedItem otherSeller = listing("2002", "seller-2");
+		assertThat(detector.markRelists(List.of(relisted, otherSeller))).isEqualTo(1);
+		assertThat(relisted.getRelistOfItemId()).isEqualTo(original.getId());
+		assertThat(otherSeller.getRelistOfItemId()).isNull();
+	}
+
+	private RelistDetector detector(Duration window, int maxEntries) {
+		return new RelistDetector(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), true, 3, window,
+				maxEntries, 100);
+	}
+
+	private void saved(RelistDetector detector, long id, String sellerId, long fingerprint, LocalDateTime scrapedAt) {
+		ScrapedItem item = item("BUNJANG", sellerId, fingerprint);
+		ReflectionTestUtils.setField(item, "id", id);
+		ReflectionTestUtils.setField(item, "scrapedAt", scrapedAt);
+		detector.onItemsSaved(new ScrapedItemsSavedEvent(List.of(item)));
+	}
+
+	private Long relistOf(RelistDetector detector, String sellerId, long fingerprint) {
+		ScrapedItem item = item("BUNJANG", sellerId, fingerprint);
+		detector.markRelists(List.of(item));
+		return item.getRelistOfItemId();
+	}
+
+	private ScrapedItem item(String siteCode, String sellerId, long fingerprint) {
+		String sourceId = "relist-" + nextSourceId++;
+		ScrapedItem item = ScrapedItem.builder()
+				.sourceSiteCode(siteCode)
+				.itemSourceId(sourceId)
+				.title("아이폰 15 프로")
+				.itemUrl("https://example.com/items/" + sourceId)
+				.sellerId(sellerId)
+				.build();
+		ReflectionTestUtils.setField(item, "fingerprint", fingerprint);
+		return item;
+	}
+
+	// 같은 물건: 제목/가격/이미지/지역이 같아 fingerprint 가 같음
+	private static ScrapedItem listing(String itemSourceId, String sellerId) {
+		return ScrapedItem.builder()
+				.sourceSiteCode("BUNJANG")
+				.itemSourceId(itemSourceId)
+				.title("아이폰 15 프로 256GB 블랙 풀박스")
+				.price(1_150_000)
+				.itemUrl("https://example.com/items/" + itemSourceId)
+				.imageUrl("https://img.example.com/a1.jpg")
+				.location("서울 마포구")
+				.sellerId(sellerId)
+				.build();
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.usedItem.dedup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.usedItem.domain.ScrapedItem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ScrapedItemSeenFilterTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void failsAtStartupWhenMemoryBudgetCannotReachTargetRate() {
+		// 5백만 건 x 1% 는 필터 하나에 약 5.7MB -> 2 x 8 개에 64MB 로는 부족
+		assertThatThrownBy(() -> filter(true, 64))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("92MB");
+	}
+
+	@Test
+	void disabledFilterIgnoresBudget() {
+		assertThat(filter(false, 64)).isNotNull();
+	}
+
+	@Test
+	void lookupBeforeWarmupIsUnfilteredAndNotCountedAsFilterAnswer() {
+		ScrapedItemSeenFilter filter = filter(true, 0);
+
+		assertThat(filter.lookup(item())).isEqualTo(ScrapedItemSeenFilter.Lookup.UNFILTERED);
+		assertThat(meterRegistry.get("useditem.dedup.filter.lookups").counters())
+				.allSatisfy(counter -> assertThat(counter.count()).isZero());
+	}
+
+	private ScrapedItemSeenFilter filter(boolean enabled, long maxMemoryMb) {
+		return new ScrapedItemSeenFilter(mock(JdbcTemplate.class), mock(PlatformTransactionManager.class),
+				meterRegistry, enabled, 5_000_000, 0.01, maxMemoryMb, 8, 10_000);
+	}
+
+	private static ScrapedItem item() {
+		return ScrapedItem.builder()
+				.sourceSiteCode("BUNJANG")
+				.itemSourceId("1001")
+				.title("맥북 에어 M2")
+				.itemUrl("https://example.com/items/1001")
+				.build();
+	}
+}
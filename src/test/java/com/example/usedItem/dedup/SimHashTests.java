@@ -0,0 +1,38 @@
+package com.example.usedItem.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.usedItem.text.TextNormalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTests {
+
+	private static final String TITLE = "아이폰 15 프로 256GB 블랙 풀박스";
+
+	@Test
+	void relistWithRespacedTitleAndNewImageStaysWithinDefaultDistance() {
+		long original = fingerprint(TITLE, 1_150_000, "https://img.example.com/a1.jpg");
+
+		assertThat(SimHash.distance(original, fingerprint("아이폰15프로 256GB 블랙 풀박스", 1_150_000,
+				"https://img.example.com/a1.jpg"))).isZero();
+		assertThat(SimHash.distance(original, fingerprint(TITLE, 1_100_000, "https://img.example.com/a1.jpg")))
+				.isZero();
+		assertThat(SimHash.distance(original, fingerprint(TITLE, 1_150_000, "https://img.example.com/b9.jpg")))
+				.isLessThanOrEqualTo(3);
+	}
+
+	@Test
+	void differentItemsAreFarApart() {
+		long original = fingerprint(TITLE, 1_150_000, "https://img.example.com/a1.jpg");
+
+		assertThat(SimHash.distance(original, fingerprint("아이폰 15 프로 256GB 화이트 풀박스", 1_150_000,
+				"https://img.example.com/c.jpg"))).isGreaterThan(3);
+		assertThat(SimHash.distance(original, fingerprint("갤럭시 S24 울트라 512GB", 1_150_000,
+				"https://img.example.com/d.jpg"))).isGreaterThan(3);
+	}
+
+	private static long fingerprint(String title, Integer price, String imageUrl) {
+		return SimHash.fingerprint(TextNormalizer.normalize(title), price, imageUrl, "서울 강남구");
+	}
+}
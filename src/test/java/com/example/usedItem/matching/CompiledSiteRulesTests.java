@@ -0,0 +1,54 @@
+package com.example.usedItem.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledSiteRulesTests {
+
+	@Test
+	void automatonFindsOverlappingPatternsInOnePass() {
+		AhoCorasickAutomaton automaton = AhoCorasickAutomaton.build(List.of("he", "she", "his", "hers", ""));
+
+		BitSet matched = automaton.match("ushers");
+
+		assertThat(matched.stream().boxed().toList()).containsExactly(0, 1, 3);
+	}
+
+	@Test
+	void matchesEveryKeywordWithSameTextAndAppliesPriceWindow() {
+		KeywordMatchRule cheap = new KeywordMatchRule(1L, 10L, "BUNJANG", "맥북", null, 500_000);
+		KeywordMatchRule any = new KeywordMatchRule(2L, 20L, "BUNJANG", "맥북", null, null);
+		KeywordMatchRule pro = new KeywordMatchRule(3L, 30L, "BUNJANG", "MacBook Pro", 1_000_000, null);
+		CompiledSiteRules compiled = CompiledSiteRules.compile(List.of(cheap, any, pro));
+
+		assertThat(compiled.patternCount()).isEqualTo(2);
+		assertThat(compiled.match("[급처] 맥북 에어 M1", 450_000)).containsExactlyInAnyOrder(cheap, any);
+		assertThat(compiled.match("맥북 에어 M2", 900_000)).containsExactly(any);
+		assertThat(compiled.match("macbook pro 14 맥북", 1_500_000)).containsExactlyInAnyOrder(any, pro);
+		assertThat(compiled.match("아이폰 15", 900_000)).isEmpty();
+	}
+
+	@Test
+	void itemWithoutPriceOnlyMatchesKeywordsWithoutPriceWindow() {
+		KeywordMatchRule bounded = new KeywordMatchRule(1L, 10L, "JOONGGO", "아이폰", 100_000, null);
+		KeywordMatchRule unbounded = new KeywordMatchRule(2L, 20L, "JOONGGO", "아이폰", null, null);
+		CompiledSiteRules compiled = CompiledSiteRules.compile(List.of(bounded, unbounded));
+
+		assertThat(compiled.match("아이폰 15 프로", null)).containsExactly(unbounded);
+	}
+
+	@Test
+	void matchesRegardlessOfSpacingCaseAndFullWidth() {
+		KeywordMatchRule compact = new KeywordMatchRule(1L, 10L, "BUNJANG", "아이폰15프로", null, null);
+		KeywordMatchRule spaced = new KeywordMatchRule(2L, 20L, "BUNJANG", "iPhone 15", null, null);
+		CompiledSiteRules compiled = CompiledSiteRules.compile(List.of(compact, spaced));
+
+		assertThat(compiled.match("[급처] 아이폰 15 프로 256", 900_000)).containsExactly(compact);
+		assertThat(compiled.match("ＩＰＨＯＮＥ15 미개봉", 900_000)).containsExactly(spaced);
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.example.usedItem.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitRulesTests {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void allowsBurstThenRejectsUntilNextEmission() {
+		GcraRateLimiter limiter = new GcraRateLimiter(2, 3, 100);
+		long now = 1_000 * SECOND;
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("10.0.0.1", now)).isZero();
+		}
+		assertThat(limiter.tryAcquire("10.0.0.1", now)).isEqualTo(SECOND / 2);
+		// 다른 키는 영향 없음
+		assertThat(limiter.tryAcquire("10.0.0.2", now)).isZero();
+		// 한 간격(0.5초) 뒤에 한 건만 다시 허용
+		assertThat(limiter.tryAcquire("10.0.0.1", now + SECOND / 2)).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.1", now + SECOND / 2)).isPositive();
+	}
+
+	@Test
+	void limitsPerUserFromPathAndPerIpSeparately() {
+		RateLimitRules rules = new RateLimitRules(properties());
+		long now = 1_000 * SECOND;
+
+		assertThat(rules.check("/api/users/1/keywords", "10.0.0.1", now)).isZero();
+		assertThat(rules.check("/api/users/1/keywords", "10.0.0.2", now)).isPositive(); // 사용자 1 한도 초과
+		assertThat(rules.check("/api/users/2/keywords", "10.0.0.2", now)).isZero();
+
+		assertThat(rules.check("/api/scraped-items", "10.0.0.3", now)).isZero();
+		assertThat(rules.check("/api/scraped-items", "10.0.0.3", now)).isZero();
+		assertThat(rules.check("/api/scraped-items", "10.0.0.3", now)).isPositive(); // IP 한도 초과
+
+		// 규칙이 없는 경로는 제한하지 않음
+		for (int i = 0; i < 10; i++) {
+			assertThat(rules.check("/api/users/check-email", "10.0.0.3", now)).isZero();
+		}
+	}
+
+	@Test
+	void userIdsAreCanonicalizedAndNonNumericIdsAreRejected() {
+		RateLimitRules rules = new RateLimitRules(properties());
+		long now = 1_000 * SECOND;
+
+		assertThat(rules.check("/api/users/7/keywords", "10.0.0.1", now)).isZero();
+		// 같은 사용자를 다른 표기로 보내도 같은 버킷
+		assertThat(rules.check("/api/users/007/keywords", "10.0.0.2", now)).isPositive();
+		assertThat(rules.check("/api/users/+7/keywords", "10.0.0.3", now)).isPositive();
+
+		assertThat(rules.check("/api/users/abc/keywords", "10.0.0.1", now))
+				.isEqualTo(RateLimitRules.INVALID_USER_ID);
+		assertThat(rules.check("/api/users/99999999999999999999/keywords", "10.0.0.1", now))
+				.isEqualTo(RateLimitRules.INVALID_USER_ID);
+	}
+
+	@Test
+	void requestRejectedByOneBucketDoesNotConsumeTheOther() {
+		RateLimitProperties.Route keywords = new RateLimitProperties.Route();
+		keywords.setPattern("/api/users/{userId}/keywords/**");
+		keywords.setPerUser(limit(1, 1));
+		keywords.setPerIp(limit(1, 2));
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setRoutes(List.of(keywords));
+		RateLimitRules rules = new RateLimitRules(properties);
+		long now = 1_000 * SECOND;
+
+		assertThat(rules.check("/api/users/1/keywords", "10.0.0.1", now)).isZero();
+		// 사용자 한도로 거절 -> IP 버킷은 그대로
+		assertThat(rules.check("/api/users/1/keywords", "10.0.0.1", now)).isPositive();
+		assertThat(rules.check("/api/users/2/keywords", "10.0.0.1", now)).isZero();
+		// IP 한도로 거절 -> 사용자 3 버킷은 그대로
+		assertThat(rules.check("/api/users/3/keywords", "10.0.0.1", now)).isPositive();
+		assertThat(rules.check("/api/users/3/keywords", "10.0.0.2", now)).isZero();
+	}
+
+	private static RateLimitProperties properties() {
+		RateLimitProperties.Route keywords = new RateLimitProperties.Route();
+		keywords.setPattern("/api/users/{userId}/keywords/**");
+		keywords.setPerUser(limit(1, 1));
+		keywords.setPerIp(limit(10, 10));
+
+		RateLimitProperties.Route items = new RateLimitProperties.Route();
+		items.setPattern("/api/scraped-items/**");
+		items.setPerIp(limit(1, 2));
+
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setRoutes(List.of(keywords, items));
+		return properties;
+	}
+
+	private static RateLimitProperties.Limit limit(double requestsPerSecond, int burst) {
+		RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+		limit.setRequestsPerSecond(requestsPerSecond);
+		limit.setBurst(burst);
+		return limit;
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.usedItem.repository;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.usedItem.domain.ScrapedItem;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스테이징 테이블에 보내는 COPY text 형식 행을 확인합니다.
+ */
+class CopyTextEscapingTests {
+
+	@Test
+	void nullBecomesBackslashN() {
+		assertThat(copyValue(null)).isEqualTo("\t\\N");
+	}
+
+	@Test
+	void delimitersAndBackslashesAreEscaped() {
+		assertThat(copyValue("a\\b\tc\nd\re")).isEqualTo("\ta\\\\b\\tc\\nd\\re");
+	}
+
+	@Test
+	void literalBackslashNIsNotReadAsNull() {
+		assertThat(copyValue("\\N")).isEqualTo("\t\\\\N");
+	}
+
+	@Test
+	void nulCharactersAreStripped() {
+		assertThat(copyValue("맥\u0000북\u0000")).isEqualTo("\t맥북");
+	}
+
+	@Test
+	void nonAsciiIsKeptAsIs() {
+		assertThat(copyValue("아이폰 15 Pro ＃급처")).isEqualTo("\t아이폰 15 Pro ＃급처");
+	}
+
+	@Test
+	void rowHasOneFieldPerStagingColumnAndEndsWithNewline() {
+		ScrapedItem item = ScrapedItem.builder()
+				.sourceSiteCode("BUNJANG")
+				.itemSourceId("3001")
+				.title("맥북\t에어\n급처")
+				.price(900_000)
+				.itemUrl("https://example.com/items/3001")
+				.postedAtSource(LocalDateTime.of(2025, 1, 1, 10, 0))
+				.sellerId("seller-1")
+				.build();
+		StringBuilder row = new StringBuilder();
+
+		ScrapedItemRepositoryCustomImpl.appendCopyRow(row, 42L, 7, item);
+
+		assertThat(row.toString()).endsWith("\n");
+		String[] fields = row.substring(0, row.length() - 1).split("\t", -1);
+		assertThat(fields).hasSize(14);
+		assertThat(fields[0]).isEqualTo("42");
+		assertThat(fields[1]).isEqualTo("7");
+		assertThat(fields[4]).isEqualTo("맥북\\t에어\\n급처");
+		assertThat(fields[8]).isEqualTo("\\N"); // image_url
+		assertThat(fields[10]).isEqualTo("2025-01-01 10:00:00.0");
+		assertThat(fields[11]).isEqualTo("seller-1");
+		assertThat(fields[13]).isEqualTo("\\N"); // relist_of_item_id
+	}
+
+	private static String copyValue(Object value) {
+		StringBuilder row = new StringBuilder();
+		ScrapedItemRepositoryCustomImpl.appendCopyValue(row, value);
+		return row.toString();
+	}
+}
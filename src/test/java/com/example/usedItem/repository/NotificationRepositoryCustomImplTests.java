@@ -0,0 +1,138 @@
+package com.example.usedItem.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.example.usedItem.domain.Keyword;
+import com.example.usedItem.domain.Notification;
+import com.example.usedItem.domain.NotificationStatus;
+import com.example.usedItem.domain.NotificationType;
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.domain.User;
+import com.example.usedItem.matching.KeywordMatch;
+import com.example.usedItem.support.PostgresDataJpaTests;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배열 파라미터 INSERT ... ON CONFLICT 와 읽지 않은 알림 카운터 CTE 를 PostgreSQL 에서 확인합니다.
+ */
+class NotificationRepositoryCustomImplTests extends PostgresDataJpaTests {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	private User user;
+	private Keyword keyword;
+	private Keyword inactiveKeyword;
+	private ScrapedItem item;
+
+	@BeforeEach
+	void setUp() {
+		user = entityManager.persist(User.builder()
+				.email("matcher@example.com")
+				.password("{noop}secret")
+				.nickname("matcher")
+				.build());
+		keyword = persistKeyword("맥북", true);
+		inactiveKeyword = persistKeyword("아이폰", false);
+		item = entityManager.persist(ScrapedItem.builder()
+				.sourceSiteCode("BUNJANG")
+				.itemSourceId("2001")
+				.title("맥북 아이폰 일괄")
+				.price(1_500_000)
+				.itemUrl("https://example.com/items/2001")
+				.build());
+		entityManager.flush();
+	}
+
+	@Test
+	void duplicateMatchIsIgnoredAndCountedOnce() {
+		KeywordMatch match = new KeywordMatch(item.getId(), keyword.getId(), user.getId());
+
+		List<KeywordMatch> first = notificationRepository.insertAllIgnoringConflicts(List.of(match, match),
+				NotificationType.PUSH);
+		List<KeywordMatch> second = notificationRepository.insertAllIgnoringConflicts(List.of(match),
+				NotificationType.PUSH);
+
+		assertThat(first).containsExactly(match);
+		assertThat(second).isEmpty();
+		assertThat(notificationRepository.count()).isEqualTo(1);
+		assertThat(notificationRepository.findUnreadCount(user.getId())).isEqualTo(1);
+	}
+
+	@Test
+	void staleKeywordAndUserIdsAreSkippedWithoutFailingTheBatch() {
+		Keyword deletedKeyword = persistKeyword("갤럭시", true);
+		Long deletedKeywordId = deletedKeyword.getId();
+		entityManager.remove(deletedKeyword);
+		entityManager.flush();
+
+		KeywordMatch valid = new KeywordMatch(item.getId(), keyword.getId(), user.getId());
+		List<KeywordMatch> inserted = notificationRepository.insertAllIgnoringConflicts(List.of(
+				new KeywordMatch(item.getId(), deletedKeywordId, user.getId()),
+				new KeywordMatch(item.getId(), inactiveKeyword.getId(), user.getId()),
+				new KeywordMatch(item.getId(), keyword.getId(), user.getId() + 1_000),
+				valid), NotificationType.PUSH);
+
+		assertThat(inserted).containsExactly(valid);
+		assertThat(notificationRepository.count()).isEqualTo(1);
+		assertThat(notificationRepository.findUnreadCount(user.getId())).isEqualTo(1);
+		assertThat(notificationRepository.findUnreadCount(user.getId() + 1_000)).isZero();
+	}
+
+	@Test
+	void counterAccumulatesAcrossBatches() {
+		Keyword other = persistKeyword("맥북 프로", true);
+		entityManager.flush();
+
+		notificationRepository.insertAllIgnoringConflicts(
+				List.of(new KeywordMatch(item.getId(), keyword.getId(), user.getId())), NotificationType.PUSH);
+		notificationRepository.insertAllIgnoringConflicts(
+				List.of(new KeywordMatch(item.getId(), other.getId(), user.getId())), NotificationType.EMAIL);
+
+		assertThat(notificationRepository.findUnreadCount(user.getId())).isEqualTo(2);
+	}
+
+	@Test
+	void markAsReadSkipsNotificationsNotYetSent() {
+		Keyword other = persistKeyword("맥북 프로", true);
+		entityManager.flush();
+		notificationRepository.insertAllIgnoringConflicts(List.of(
+				new KeywordMatch(item.getId(), keyword.getId(), user.getId()),
+				new KeywordMatch(item.getId(), other.getId(), user.getId())), NotificationType.PUSH);
+		List<Notification> notifications = notificationRepository.findAll();
+		Long sentId = notifications.get(0).getId();
+		Long pendingId = notifications.get(1).getId();
+		notificationRepository.markAllAsSent(List.of(sentId), LocalDateTime.now());
+
+		assertThat(notificationRepository.markAllAsRead(user.getId(), List.of(sentId, pendingId))).isEqualTo(1);
+		assertThat(notificationRepository.markAllAsRead(user.getId(), null)).isZero();
+
+		entityManager.clear();
+		assertThat(notificationRepository.findById(sentId)).get()
+				.extracting(Notification::getStatus).isEqualTo(NotificationStatus.READ);
+		assertThat(notificationRepository.findById(pendingId)).get()
+				.extracting(Notification::getStatus).isEqualTo(NotificationStatus.PENDING);
+		// 발송 전 알림은 읽지 않은 알림으로 남고, 주기 보정도 같은 기준이라 카운터를 바꾸지 않음
+		assertThat(notificationRepository.findUnreadCount(user.getId())).isEqualTo(1);
+		assertThat(notificationRepository.reconcileUnreadCounts()).isZero();
+	}
+
+	private Keyword persistKeyword(String text, boolean active) {
+		return entityManager.persist(Keyword.builder()
+				.user(user)
+				.keywordText(text)
+				.targetSiteCode("BUNJANG")
+				.active(active)
+				.build());
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.usedItem.search;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTests {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	@Test
+	void returnsNewestItemsContainingEveryTokenAcrossCompressedBlocks() {
+		InvertedIndex index = new InvertedIndex();
+		List<Long> expected = new ArrayList<>();
+		for (long id = 1; id <= 1000; id++) {
+			String title = id % 3 == 0 ? "[급처] 아이폰 15 Pro " + id : "아이폰 14 " + id;
+			index.add(id, "BUNJANG", title, 1_000_000, BASE.plusMinutes(id));
+			if (id % 3 == 0) {
+				expected.add(0, id);
+			}
+		}
+
+		long[] found = index.search(TitleTokenizer.tokenize("아이폰 15"), new ScrapedItemSearchCondition(), 500);
+
+		assertThat(found).hasSize(333);
+		assertThat(found).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+	}
+
+	@Test
+	void appliesSitePriceAndPeriodFilters() {
+		InvertedIndex index = new InvertedIndex();
+		index.add(1L, "BUNJANG", "맥북 에어 M1", 600_000, BASE);
+		index.add(2L, "JOONGGO", "맥북 에어 M2", 800_000, BASE.plusDays(1));
+		index.add(3L, "BUNJANG", "맥북 에어 M3", null, BASE.plusDays(2));
+		index.add(4L, "BUNJANG", "ＭａｃＢｏｏｋ 에어", 1_100_000, BASE.plusDays(3));
+
+		ScrapedItemSearchCondition bunjang = new ScrapedItemSearchCondition();
+		bunjang.setSourceSiteCode("BUNJANG");
+		assertThat(index.search(TitleTokenizer.tokenize("맥북 에어"), bunjang, 10)).containsExactly(3L, 1L);
+
+		ScrapedItemSearchCondition priced = new ScrapedItemSearchCondition();
+		priced.setMaxPrice(900_000);
+		assertThat(index.search(TitleTokenizer.tokenize("에어"), priced, 10)).containsExactly(2L, 1L);
+
+		ScrapedItemSearchCondition recent = new ScrapedItemSearchCondition();
+		recent.setScrapedFrom(BASE.plusDays(1));
+		recent.setScrapedTo(BASE.plusDays(3));
+		assertThat(index.search(TitleTokenizer.tokenize("에어"), recent, 10)).containsExactly(3L, 2L);
+
+		assertThat(index.search(TitleTokenizer.tokenize("macbook"), new ScrapedItemSearchCondition(), 10))
+				.containsExactly(4L);
+		assertThat(index.search(TitleTokenizer.tokenize("갤럭시"), new ScrapedItemSearchCondition(), 10)).isEmpty();
+	}
+
+	@Test
+	void longQueryTokensAreTruncatedLikeIndexedTokensInsteadOfDropped() {
+		String serial = "SN" + "0123456789".repeat(5);
+		InvertedIndex index = new InvertedIndex();
+		index.add(1L, "BUNJANG", "아이폰 " + serial, 1_000_000, BASE);
+		index.add(2L, "BUNJANG", "아이폰 15", 1_000_000, BASE.plusMinutes(1));
+
+		assertThat(TitleTokenizer.tokenize(serial)).containsExactly(serial.toLowerCase().substring(0, 40));
+		assertThat(index.search(TitleTokenizer.tokenize("아이폰 " + serial), new ScrapedItemSearchCondition(), 10))
+				.containsExactly(1L);
+		assertThat(index.search(TitleTokenizer.tokenize("아이폰 " + serial.replace('9', '8')),
+				new ScrapedItemSearchCondition(), 10)).isEmpty();
+	}
+
+	@Test
+	void fuzzySearchReturnsNewestItemsSharingEnoughGrams() {
+		InvertedIndex index = new InvertedIndex(2, false);
+		index.add(1L, "BUNJANG", "아이폰 15 프로", 1_000_000, BASE);
+		index.add(2L, "BUNJANG", "아이퐁 15 프로", 1_000_000, BASE.plusMinutes(1));
+		index.add(3L, "BUNJANG", "갤럭시 S24", 900_000, BASE.plusMinutes(2));
+		index.add(4L, "JOONGGO", "아이폰15 프로", 1_100_000, BASE.plusMinutes(3));
+		// "아이퐁15프로" -> 아이, 이퐁, 퐁1, 15, 5프, 프로 (아이폰 제목과는 4개 공유)
+		List<String> grams = index.ngramsOf("아이퐁15프로");
+
+		assertThat(index.fuzzySearch(grams, 4, new ScrapedItemSearchCondition(), 10)).containsExactly(4L, 2L, 1L);
+		assertThat(index.fuzzySearch(grams, 5, new ScrapedItemSearchCondition(), 10)).containsExactly(2L);
+		assertThat(index.fuzzySearch(grams, 4, new ScrapedItemSearchCondition(), 2)).containsExactly(4L, 2L);
+
+		ScrapedItemSearchCondition bunjang = new ScrapedItemSearchCondition();
+		bunjang.setSourceSiteCode("BUNJANG");
+		assertThat(index.fuzzySearch(grams, 4, bunjang, 10)).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void fuzzySearchIgnoresGramsMissingFromIndex() {
+		InvertedIndex index = new InvertedIndex(2, false);
+		index.add(1L, "BUNJANG", "맥북 에어", 600_000, BASE);
+
+		assertThat(index.fuzzySearch(List.of("맥북", "없음", "없다"), 1, new ScrapedItemSearchCondition(), 10))
+				.containsExactly(1L);
+		assertThat(index.fuzzySearch(List.of("맥북", "없음", "없다"), 2, new ScrapedItemSearchCondition(), 10))
+				.isEmpty();
+		assertThat(index.fuzzySearch(List.of(), 1, new ScrapedItemSearchCondition(), 10)).isEmpty();
+	}
+
+	@Test
+	void snapshotLookupFindsOnlyItemsLoadedFromDatabase() {
+		InvertedIndex index = new InvertedIndex();
+		index.add(10L, "BUNJANG", "레고", 10_000, BASE);
+		index.add(20L, "BUNJANG", "레고", 10_000, BASE);
+		index.markSnapshotLoaded();
+		index.add(15L, "BUNJANG", "레고", 10_000, BASE);
+
+		assertThat(index.snapshotContains(20L)).isTrue();
+		assertThat(index.snapshotContains(15L)).isFalse();
+	}
+
+}
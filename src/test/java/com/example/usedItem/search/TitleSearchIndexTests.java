@@ -0,0 +1,64 @@
+package com.example.usedItem.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+import com.example.usedItem.event.ScrapedItemsSavedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class TitleSearchIndexTests {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final TitleSearchIndex index = new TitleSearchIndex(jdbcTemplate, mock(PlatformTransactionManager.class),
+			new SimpleMeterRegistry(), true, 1_000, 100, 2, false, 0.8);
+
+	@Test
+	void itemsCommittedDuringInitialBuildAreNotLost() {
+		// DB 스냅샷을 읽는 사이에 다른 트랜잭션이 상품을 커밋 (스냅샷에는 없음)
+		doAnswer(invocation -> {
+			assertThat(index.search("맥북", new ScrapedItemSearchCondition(), 10)).isEmpty();
+			index.onItemsSaved(new ScrapedItemsSavedEvent(List.of(saved(1L, "맥북 에어 M2"))));
+			return null;
+		}).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+		index.rebuild();
+
+		assertThat(index.search("맥북", new ScrapedItemSearchCondition(), 10)).containsExactly(1L);
+		index.shutdown();
+	}
+
+	@Test
+	void itemsSavedBeforeAnyBuildAreLeftToTheSnapshot() {
+		index.onItemsSaved(new ScrapedItemsSavedEvent(List.of(saved(1L, "맥북 에어 M2"))));
+
+		assertThat(index.search("맥북", new ScrapedItemSearchCondition(), 10)).isEmpty();
+		index.shutdown();
+	}
+
+	private static ScrapedItem saved(long id, String title) {
+		ScrapedItem item = ScrapedItem.builder()
+				.sourceSiteCode("BUNJANG")
+				.itemSourceId(String.valueOf(id))
+				.title(title)
+				.itemUrl("https://example.com/items/" + id)
+				.build();
+		ReflectionTestUtils.setField(item, "id", id);
+		ReflectionTestUtils.setField(item, "scrapedAt", LocalDateTime.now());
+		return item;
+	}
+}
@@ -0,0 +1,241 @@
+package com.example.usedItem.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usedItem.dedup.RelistDetector;
+import com.example.usedItem.dedup.ScrapedItemSeenFilter;
+import com.example.usedItem.domain.Keyword;
+import com.example.usedItem.domain.Notification;
+import com.example.usedItem.domain.NotificationType;
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.domain.User;
+import com.example.usedItem.dto.NotificationResponseDto;
+import com.example.usedItem.dto.ScrapedItemSearchCondition;
+import com.example.usedItem.dto.UserResponseDto;
+import com.example.usedItem.dto.UserSignUpRequestDto;
+import com.example.usedItem.matching.KeywordMatcher;
+import com.example.usedItem.metrics.PipelineMetrics;
+import com.example.usedItem.repository.UserRepository;
+import com.example.usedItem.search.TitleSearchIndex;
+import com.example.usedItem.security.PasswordHasher;
+import com.example.usedItem.service.Impl.KeywordServiceImpl;
+import com.example.usedItem.service.Impl.NotificationServiceImpl;
+import com.example.usedItem.service.Impl.ScrapedItemServiceImpl;
+import com.example.usedItem.service.Impl.UserServiceImpl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 조회 API 가 호출하는 서비스 메소드마다 실행되는 SQL 문 수를 확인합니다.
+ * 응답 DTO 로 바로 조회하므로 요청당 한 문장이고 엔티티는 하나도 로딩되지 않아야 합니다.
+ * 회원 가입은 중복 확인 조회 한 번과 INSERT 한 번이어야 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ UserServiceImpl.class, KeywordServiceImpl.class, ScrapedItemServiceImpl.class,
+		NotificationServiceImpl.class })
+class ReadQueryStatementCountTests {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private KeywordService keywordService;
+
+	@Autowired
+	private ScrapedItemService scrapedItemService;
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@MockitoBean
+	private PasswordHasher passwordHasher;
+
+	@MockitoBean
+	private ScrapedItemSeenFilter seenFilter;
+
+	@MockitoBean
+	private RelistDetector relistDetector;
+
+	@MockitoBean
+	private PipelineMetrics metrics;
+
+	@MockitoBean
+	private TitleSearchIndex titleSearchIndex;
+
+	@MockitoBean
+	private KeywordMatcher keywordMatcher;
+
+	private Statistics statistics;
+	private User user;
+	private ScrapedItem item;
+
+	@BeforeEach
+	void setUp() {
+		user = entityManager.persist(User.builder()
+				.email("reader@example.com")
+				.password("{noop}secret")
+				.nickname("reader")
+				.build());
+		Keyword keyword = null;
+		for (String text : new String[] { "맥북", "아이폰 15" }) {
+			keyword = entityManager.persist(Keyword.builder()
+					.user(user)
+					.keywordText(text)
+					.targetSiteCode("BUNJANG")
+					.active(true)
+					.build());
+		}
+		item = entityManager.persist(ScrapedItem.builder()
+				.sourceSiteCode("BUNJANG")
+				.itemSourceId("1001")
+				.title("맥북 에어 M2")
+				.price(900_000)
+				.itemUrl("https://example.com/items/1001")
+				.build());
+		entityManager.persist(Notification.builder()
+				.user(user)
+				.item(item)
+				.keyword(keyword)
+				.notificationType(NotificationType.PUSH)
+				.build());
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void getUserByIdRunsOneStatement() {
+		assertThat(userService.getUserById(user.getId()).getNickname()).isEqualTo("reader");
+
+		assertSingleStatementWithoutEntities();
+	}
+
+	@Test
+	void getUserByEmailRunsOneStatement() {
+		assertThat(userService.getUserByEmail("reader@example.com").getUserId()).isEqualTo(user.getId());
+
+		assertSingleStatementWithoutEntities();
+	}
+
+	@Test
+	void getUsersRunsOneStatement() {
+		assertThat(userService.getUsers(null, 20).getContent()).hasSize(1);
+
+		assertSingleStatementWithoutEntities();
+	}
+
+	@Test
+	void getKeywordsByUserRunsOneStatement() {
+		assertThat(keywordService.getKeywordsByUser(user.getId())).hasSize(2);
+
+		assertSingleStatementWithoutEntities();
+	}
+
+	@Test
+	void getKeywordsOfUnknownUserChecksExistenceOnlyWhenEmpty() {
+		assertThatThrownBy(() -> keywordService.getKeywordsByUser(user.getId() + 1))
+				.isInstanceOf(EntityNotFoundException.class);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void getScrapedItemByIdRunsOneStatement() {
+		assertThat(scrapedItemService.getItemById(item.getId()).getTitle()).isEqualTo("맥북 에어 M2");
+
+		assertSingleStatementWithoutEntities();
+	}
+
+	@Test
+	void getScrapedItemsRunsOneStatement() {
+		assertThat(scrapedItemService.getItems(new ScrapedItemSearchCondition(), null, 20).getContent()).hasSize(1);
+
+		assertSingleStatementWithoutEntities();
+	}
+
+	@Test
+	void getInboxFetchesItemAndKeywordSummariesInOneStatement() {
+		List<NotificationResponseDto> inbox = notificationService.getInbox(user.getId(), null, 20, true).getContent();
+
+		assertThat(inbox).singleElement().satisfies(notification -> {
+			assertThat(notification.getItemTitle()).isEqualTo("맥북 에어 M2");
+			assertThat(notification.getKeywordText()).isEqualTo("아이폰 15");
+		});
+		assertSingleStatementWithoutEntities();
+	}
+
+	@Test
+	void signUpRunsOneReadAndOneInsert() {
+		// 실제처럼 다른 스레드에서 해싱이 끝남 -> INSERT 는 가입 서비스의 INSERT 풀에서 자체 트랜잭션으로 커밋됨
+		given(passwordHasher.encodeAsync("password123"))
+				.willReturn(CompletableFuture.supplyAsync(() -> "{noop}password123"));
+
+		UserResponseDto created = userService.signUp(signUpRequest("new@example.com", "newbie")).join();
+
+		try {
+			assertThat(created.getNickname()).isEqualTo("newbie");
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+			assertThat(statistics.getEntityLoadCount()).isZero();
+		} finally {
+			// 테스트 트랜잭션 밖에서 커밋되었으므로 롤백되지 않음 -> 직접 지움
+			TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+			requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+			requiresNew.executeWithoutResult(status -> userRepository.deleteById(created.getUserId()));
+		}
+	}
+
+	@Test
+	void signUpWithTakenNicknameFailsAfterOneRead() {
+		assertThatThrownBy(() -> userService.signUp(signUpRequest("other@example.com", "reader")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("이미 사용 중인 닉네임입니다.");
+
+		assertSingleStatementWithoutEntities();
+	}
+
+	private static UserSignUpRequestDto signUpRequest(String email, String nickname) {
+		UserSignUpRequestDto request = new UserSignUpRequestDto();
+		request.setEmail(email);
+		request.setPassword("password123");
+		request.setNickname(nickname);
+		return request;
+	}
+
+	private void assertSingleStatementWithoutEntities() {
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.usedItem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.usedItem.dedup.RelistDetector;
+import com.example.usedItem.dedup.ScrapedItemSeenFilter;
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.dto.ScrapedItemIngestResponseDto;
+import com.example.usedItem.metrics.PipelineMetrics;
+import com.example.usedItem.repository.ScrapedItemRepository;
+import com.example.usedItem.service.Impl.ScrapedItemIngestServiceImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NDJSON 을 묶음 단위로 읽고, 묶음마다 저장과 알림 생성을 한 트랜잭션에서 커밋하는지 확인합니다.
+ */
+class ScrapedItemIngestServiceImplTests {
+
+	private final ScrapedItemRepository scrapedItemRepository = mock(ScrapedItemRepository.class);
+	private final NotificationService notificationService = mock(NotificationService.class);
+	private final RelistDetector relistDetector = mock(RelistDetector.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	private final ScrapedItemIngestService ingestService = new ScrapedItemIngestServiceImpl(scrapedItemRepository,
+			mock(ScrapedItemSeenFilter.class), relistDetector, notificationService,
+			new PipelineMetrics(new SimpleMeterRegistry()), mock(ApplicationEventPublisher.class),
+			transactionManager, new ObjectMapper().findAndRegisterModules(), 2);
+
+	@Test
+	void readsChunksSkippingInvalidLinesAndCommitsEachWithItsNotifications() {
+		when(scrapedItemRepository.insertAllViaStaging(anyList()))
+				.then(invocation -> saveAll(invocation.getArgument(0)))
+				.thenReturn(List.of());
+
+		ScrapedItemIngestResponseDto response = ingestService.ingestNdjson(ndjson(
+				line("1", "맥북 에어"),
+				"{\"sourceSiteCode\":\"BUNJANG\",\"itemSourceId\":\"2\",\"itemUrl\":\"https://example.com/items/2\"}",
+				line("3", "아이폰 15"),
+				"",
+				line("1", "맥북 에어 (중복)")));
+
+		assertThat(response.getReceived()).isEqualTo(4);
+		assertThat(response.getInvalid()).isEqualTo(1);
+		assertThat(response.getInserted()).isEqualTo(2);
+		assertThat(response.getDuplicates()).isEqualTo(1);
+
+		InOrder order = inOrder(transactionManager, scrapedItemRepository, notificationService);
+		order.verify(transactionManager).getTransaction(any());
+		order.verify(scrapedItemRepository).insertAllViaStaging(argThat(chunk -> chunk.size() == 2
+				&& chunk.get(0).getItemSourceId().equals("1") && chunk.get(1).getItemSourceId().equals("3")));
+		order.verify(notificationService).createNotificationsForItems(argThat(items -> items.size() == 2
+				&& items.get(0).getId() == 1L && items.get(0).getItemSourceId().equals("1")));
+		order.verify(transactionManager).commit(any());
+		order.verify(transactionManager).getTransaction(any());
+		order.verify(scrapedItemRepository).insertAllViaStaging(argThat(chunk -> chunk.size() == 1));
+		order.verify(transactionManager).commit(any());
+		verify(notificationService, times(1)).createNotificationsForItems(anyList());
+		verify(relistDetector, times(2)).markRelists(anyList());
+		verify(scrapedItemRepository, never()).findAllById(any());
+	}
+
+	@Test
+	void malformedLineIsCountedAsInvalidAndTheRestIsStillIngested() {
+		when(scrapedItemRepository.insertAllViaStaging(anyList())).thenReturn(List.of());
+
+		ScrapedItemIngestResponseDto response = ingestService.ingestNdjson(
+				ndjson(line("1", "맥북 에어"), line("2", "아이폰 15"), "{\"title\": }", "null", line("4", "갤럭시")));
+
+		assertThat(response.getReceived()).isEqualTo(5);
+		assertThat(response.getInvalid()).isEqualTo(2);
+		verify(scrapedItemRepository).insertAllViaStaging(argThat(chunk -> chunk.size() == 2));
+		verify(scrapedItemRepository).insertAllViaStaging(argThat(chunk -> chunk.size() == 1
+				&& chunk.get(0).getItemSourceId().equals("4")));
+		verify(transactionManager, times(2)).commit(any());
+		verify(transactionManager, never()).rollback(any());
+	}
+
+	@Test
+	void emptyBodyOpensNoTransaction() {
+		ScrapedItemIngestResponseDto response = ingestService.ingestNdjson(ndjson());
+
+		assertThat(response.getReceived()).isZero();
+		verify(transactionManager, never()).getTransaction(any());
+	}
+
+	private static String line(String itemSourceId, String title) {
+		return "{\"sourceSiteCode\":\"BUNJANG\",\"itemSourceId\":\"" + itemSourceId + "\",\"title\":\"" + title
+				+ "\",\"price\":10000,\"itemUrl\":\"https://example.com/items/" + itemSourceId
+				+ "\",\"postedAtSource\":\"2025-01-01T10:00:00\"}";
+	}
+
+	private static InputStream ndjson(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 저장소처럼 입력 엔티티에 ID 를 채워 그대로 돌려줌
+	private static List<ScrapedItem> saveAll(List<ScrapedItem> chunk) {
+		long id = 1;
+		for (ScrapedItem item : chunk) {
+			item.markAsSaved(id++, LocalDateTime.now());
+		}
+		return chunk;
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.usedItem.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.usedItem.domain.User;
+import com.example.usedItem.dto.UserSignUpRequestDto;
+import com.example.usedItem.repository.KeywordRepository;
+import com.example.usedItem.repository.UserRepository;
+import com.example.usedItem.security.PasswordHasher;
+import com.example.usedItem.service.Impl.UserServiceImpl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가입 시 해싱이 끝난 뒤의 INSERT 가 해싱 풀이 아니라 가입 서비스의 INSERT 풀에서 실행되는지 확인합니다.
+ */
+class UserServiceImplTests {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+	private final ExecutorService hashExecutor = Executors.newSingleThreadExecutor(
+			runnable -> new Thread(runnable, "password-hash-1"));
+
+	private final UserServiceImpl userService = new UserServiceImpl(userRepository, passwordHasher,
+			mock(KeywordRepository.class), mock(ApplicationEventPublisher.class), 1);
+
+	@AfterEach
+	void tearDown() {
+		hashExecutor.shutdownNow();
+		userService.shutdown();
+	}
+
+	@Test
+	void insertRunsOnInsertPoolNotOnHashingThread() {
+		when(userRepository.findConflictingEmails(anyString(), anyString())).thenReturn(List.of());
+		when(passwordHasher.encodeAsync("password123"))
+				.thenReturn(CompletableFuture.supplyAsync(() -> "{bcrypt}hashed", hashExecutor));
+		AtomicReference<String> insertThread = new AtomicReference<>();
+		when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+			insertThread.set(Thread.currentThread().getName());
+			return invocation.getArgument(0);
+		});
+
+		assertThat(userService.signUp(signUpRequest()).join().getNickname()).isEqualTo("newbie");
+
+		assertThat(insertThread.get()).startsWith("signup-insert-");
+	}
+
+	@Test
+	void duplicateDetectedAtInsertIsReportedFromInsertPool() {
+		when(userRepository.findConflictingEmails(anyString(), anyString()))
+				.thenReturn(List.of(), List.of("new@example.com"));
+		when(passwordHasher.encodeAsync("password123"))
+				.thenReturn(CompletableFuture.supplyAsync(() -> "{bcrypt}hashed", hashExecutor));
+		when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("uk_users_email"));
+
+		assertThatThrownBy(() -> userService.signUp(signUpRequest()).join())
+				.isInstanceOf(CompletionException.class)
+				.hasCauseInstanceOf(IllegalArgumentException.class)
+				.hasRootCauseMessage("이미 사용 중인 이메일입니다.");
+	}
+
+	private static UserSignUpRequestDto signUpRequest() {
+		UserSignUpRequestDto request = new UserSignUpRequestDto();
+		request.setEmail("new@example.com");
+		request.setPassword("password123");
+		request.setNickname("newbie");
+		return request;
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.usedItem.stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamConnectionTests {
+
+	@Test
+	void fullQueueDropsOldestAndCountsDropped() {
+		StreamConnection connection = new StreamConnection(1L, new SseEmitter(), 2);
+		SseEventBuilder first = SseEmitter.event().id("1");
+		SseEventBuilder second = SseEmitter.event().id("2");
+		SseEventBuilder third = SseEmitter.event().id("3");
+
+		assertThat(connection.offer(first)).isFalse();
+		assertThat(connection.offer(second)).isFalse();
+		assertThat(connection.offer(third)).isTrue();
+
+		assertThat(connection.takeDropped()).isEqualTo(1);
+		assertThat(connection.takeDropped()).isZero();
+		assertThat(connection.poll()).isSameAs(second);
+		assertThat(connection.poll()).isSameAs(third);
+		assertThat(connection.poll()).isNull();
+	}
+
+	@Test
+	void heartbeatIsQueuedOnlyWhenNothingIsPending() {
+		StreamConnection connection = new StreamConnection(1L, new SseEmitter(), 2);
+		connection.offer(SseEmitter.event().id("1"));
+
+		assertThat(connection.offerIfEmpty(SseEmitter.event().comment(""))).isFalse();
+		connection.poll();
+		assertThat(connection.offerIfEmpty(SseEmitter.event().comment(""))).isTrue();
+	}
+
+	@Test
+	void closedConnectionRejectsEvents() {
+		StreamConnection connection = new StreamConnection(1L, new SseEmitter(), 2);
+		connection.offer(SseEmitter.event().id("1"));
+
+		assertThat(connection.close()).isTrue();
+		assertThat(connection.close()).isFalse();
+		assertThat(connection.offer(SseEmitter.event().id("2"))).isFalse();
+		assertThat(connection.poll()).isNull();
+	}
+}
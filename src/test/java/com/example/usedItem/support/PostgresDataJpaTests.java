@@ -0,0 +1,20 @@
+package com.example.usedItem.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL 전용 SQL(배열 파라미터, ON CONFLICT, COPY 등)을 실제 PostgreSQL 로 확인하는 테스트의 공통 설정입니다.
+ * 컨테이너는 Spring 이 첫 컨텍스트를 만들 때 한 번 띄우고, Docker 가 없으면 테스트를 건너뜁니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresDataJpaTests {
+
+	@ServiceConnection
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+}
@@ -0,0 +1,83 @@
+package com.example.usedItem.text;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.usedItem.domain.Keyword;
+import com.example.usedItem.domain.ScrapedItem;
+import com.example.usedItem.domain.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정규화 컬럼이 비어 있는 행을 키 순서로 이어 읽으며 모두 채우는지 확인합니다.
+ */
+@DataJpaTest
+class NormalizedTextBackfillTests {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		User user = entityManager.persist(User.builder()
+				.email("backfill@example.com")
+				.password("{noop}secret")
+				.nickname("backfill")
+				.build());
+		for (String text : new String[] { "아이폰 15 프로", "ＭａｃＢｏｏｋ", "갤럭시 S24" }) {
+			entityManager.persist(Keyword.builder()
+					.user(user)
+					.keywordText(text)
+					.targetSiteCode("BUNJANG")
+					.active(true)
+					.build());
+		}
+		String[] titles = { "[급처] 아이폰 15", "맥북 에어 M2", "★☆", "갤럭시 탭", "레고 테크닉" };
+		for (int i = 0; i < titles.length; i++) {
+			entityManager.persist(ScrapedItem.builder()
+					.sourceSiteCode("BUNJANG")
+					.itemSourceId("backfill-" + i)
+					.title(titles[i])
+					.itemUrl("https://example.com/items/backfill-" + i)
+					.build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+		// 정규화 컬럼 도입 전에 저장된 행처럼 비움 (마지막 상품은 이미 채워진 상태로 둠)
+		jdbcTemplate.update("UPDATE keywords SET keyword_text_normalized = NULL");
+		jdbcTemplate.update("UPDATE scraped_items SET title_normalized = NULL WHERE item_source_id <> 'backfill-4'");
+	}
+
+	@Test
+	void fillsEveryEmptyRowAcrossBatches() {
+		new NormalizedTextBackfill(jdbcTemplate, 2).backfill();
+
+		assertThat(jdbcTemplate.queryForList("SELECT keyword_text_normalized FROM keywords ORDER BY keyword_id",
+				String.class)).containsExactly("아이폰15프로", "macbook", "갤럭시s24");
+		assertThat(jdbcTemplate.queryForList("SELECT title_normalized FROM scraped_items ORDER BY item_id",
+				String.class)).containsExactly("급처아이폰15", "맥북에어m2", "", "갤럭시탭", "레고테크닉");
+	}
+
+	@Test
+	void stopsAfterCompletingOnce() {
+		NormalizedTextBackfill backfill = new NormalizedTextBackfill(jdbcTemplate, 2);
+		backfill.backfill();
+		jdbcTemplate.update("UPDATE keywords SET keyword_text_normalized = NULL");
+
+		backfill.backfill();
+
+		List<String> normalized = jdbcTemplate.queryForList("SELECT keyword_text_normalized FROM keywords",
+				String.class);
+		assertThat(normalized).containsOnlyNulls();
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.usedItem.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextNormalizerTests {
+
+	@Test
+	void fullWidthCharactersBecomeHalfWidth() {
+		assertThat(TextNormalizer.normalize("ＩＰＨＯＮＥ１５")).isEqualTo("iphone15");
+		assertThat(TextNormalizer.normalize("맥북（Ｍ２）")).isEqualTo("맥북m2");
+	}
+
+	@Test
+	void caseIsFolded() {
+		assertThat(TextNormalizer.normalize("MacBook Pro")).isEqualTo(TextNormalizer.normalize("macbook pro"));
+		assertThat(TextNormalizer.normalize("GALAXY s24")).isEqualTo("galaxys24");
+	}
+
+	@Test
+	void spacingAndSymbolsAreIgnored() {
+		assertThat(TextNormalizer.normalize("아이폰 15 프로")).isEqualTo("아이폰15프로");
+		assertThat(TextNormalizer.normalize("아이폰15프로")).isEqualTo("아이폰15프로");
+		assertThat(TextNormalizer.normalize("  아이폰\t15\n프로  ")).isEqualTo("아이폰15프로");
+		assertThat(TextNormalizer.normalize("[급처] ＩＰＨＯＮＥ 15!!")).isEqualTo("급처iphone15");
+		assertThat(TextNormalizer.normalize("★☆")).isEmpty();
+	}
+
+	@Test
+	void foldKeepsSpacesForTokenizing() {
+		assertThat(TextNormalizer.fold("ＩＰＨＯＮＥ 15 Pro")).isEqualTo("iphone 15 pro");
+	}
+
+	@Test
+	void nullStaysNull() {
+		assertThat(TextNormalizer.normalize(null)).isNull();
+		assertThat(TextNormalizer.fold(null)).isNull();
+	}
+
+	@Test
+	void ngramsAreDistinctAndEmptyForShortText() {
+		assertThat(TextNormalizer.ngrams("아이아이", 2)).containsExactly("아이", "이아");
+		assertThat(TextNormalizer.ngrams("아", 2)).isEmpty();
+		assertThat(TextNormalizer.ngrams(null, 2)).isEmpty();
+	}
+
+	@Test
+	void jamoDecompositionSharesMoreGramsForOneLetterTypos() {
+		String typo = TextNormalizer.decomposeJamo("아이퐁");
+		String original = TextNormalizer.decomposeJamo("아이폰");
+
+		// 음절 bigram 은 "아이" 하나만 겹치지만, 자모 bigram 은 6개 중 마지막 받침만 달라 5개가 겹침
+		assertThat(typo).hasSize(7);
+		assertThat(TextNormalizer.ngrams(typo, 2)).hasSize(6);
+		assertThat(TextNormalizer.ngrams(typo, 2).stream().filter(TextNormalizer.ngrams(original, 2)::contains))
+				.hasSize(5);
+	}
+}